@@ -31,7 +31,6 @@ public class AuditAspect {
     // Audit all controller methods
     @Around("execution(* com.jobportal.controller.*.*(..))")
     public Object auditControllerMethods(ProceedingJoinPoint joinPoint) throws Throwable {
-        long startTime = System.currentTimeMillis();
         String methodName = joinPoint.getSignature().getName();
         String className = joinPoint.getTarget().getClass().getSimpleName();
         
@@ -50,36 +49,20 @@ public class AuditAspect {
 
         // Get request information
         HttpServletRequest request = null;
-        String ipAddress = null;
-        String endpoint = null;
-        String httpMethod = null;
         
         try {
             ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
             if (attributes != null) {
                 request = attributes.getRequest();
-                ipAddress = getClientIpAddress(request);
-                endpoint = request.getRequestURI();
-                httpMethod = request.getMethod();
             }
         } catch (Exception e) {
             // Handle case where no request context is available
         }
 
-        // Log the API call start
-        Map<String, Object> callDetails = new HashMap<>();
-        callDetails.put("controller", className);
-        callDetails.put("method", methodName);
-        callDetails.put("arguments", getArgumentsAsString(joinPoint.getArgs()));
-
-        auditLogger.logUserAction(
-            "API_CALL_START", 
-            userId, 
-            userName, 
-            className, 
-            methodName, 
-            callDetails
-        );
+        // The request line itself is logged once by AuditLoggingFilter; just tell it which handler ran
+        if (request != null) {
+            request.setAttribute(AuditLoggingFilter.HANDLER_ATTRIBUTE, className + "." + methodName);
+        }
 
         try {
             auditService.logOperationWithRequest(className, methodName, AuditOperation.READ, request);
@@ -87,13 +70,9 @@ public class AuditAspect {
             System.err.println("Failed to save audit log to database: " + e.getMessage());
         }
 
-        Object result = null;
-        int responseCode = 200;
-        
         try {
-            result = joinPoint.proceed();
+            return joinPoint.proceed();
         } catch (Exception e) {
-            responseCode = 500;
             auditLogger.logSecurityEvent(
                 "API_CALL_ERROR",
                 userId,
@@ -103,15 +82,6 @@ public class AuditAspect {
             );
             throw e;
         }
-        
-        long duration = System.currentTimeMillis() - startTime;
-        
-        // Log the API call completion
-        if (request != null) {
-            auditLogger.logApiCall(httpMethod, endpoint, userId, userName, ipAddress, responseCode, duration);
-        }
-
-        return result;
     }
 
     // Audit authentication operations
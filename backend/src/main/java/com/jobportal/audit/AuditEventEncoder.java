@@ -0,0 +1,150 @@
+package com.jobportal.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Writes one audit event as a single-line JSON object. Each thread reuses one encoder and its
+ * buffer, so an event costs little more than the final String. Null fields are left out.
+ * Not reentrant: finish an event before beginning the next one on the same thread.
+ */
+final class AuditEventEncoder {
+
+    private static final int INITIAL_CAPACITY = 512;
+    // Don't let one huge event pin a large buffer to a pooled thread forever
+    private static final int MAX_RETAINED_CAPACITY = 16 * 1024;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private static final ThreadLocal<AuditEventEncoder> ENCODERS = ThreadLocal.withInitial(AuditEventEncoder::new);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private StringBuilder buffer = new StringBuilder(INITIAL_CAPACITY);
+    private boolean firstField;
+
+    private AuditEventEncoder() {
+    }
+
+    static AuditEventEncoder begin(String event) {
+        AuditEventEncoder encoder = ENCODERS.get();
+        if (encoder.buffer.capacity() > MAX_RETAINED_CAPACITY) {
+            encoder.buffer = new StringBuilder(INITIAL_CAPACITY);
+        }
+        encoder.buffer.setLength(0);
+        encoder.buffer.append('{');
+        encoder.firstField = true;
+        return encoder.field("ts", System.currentTimeMillis()).field("event", event);
+    }
+
+    AuditEventEncoder field(String name, String value) {
+        if (value != null) {
+            name(name);
+            string(value);
+        }
+        return this;
+    }
+
+    AuditEventEncoder field(String name, long value) {
+        name(name);
+        buffer.append(value);
+        return this;
+    }
+
+    AuditEventEncoder field(String name, boolean value) {
+        name(name);
+        buffer.append(value);
+        return this;
+    }
+
+    AuditEventEncoder field(String name, Object value) {
+        if (value != null) {
+            name(name);
+            value(value);
+        }
+        return this;
+    }
+
+    String finish() {
+        return buffer.append('}').toString();
+    }
+
+    private void name(String name) {
+        if (!firstField) {
+            buffer.append(',');
+        }
+        firstField = false;
+        string(name);
+        buffer.append(':');
+    }
+
+    private void value(Object value) {
+        if (value == null) {
+            buffer.append("null");
+        } else if (value instanceof CharSequence text) {
+            string(text);
+        } else if ((value instanceof Double d && !Double.isFinite(d))
+                || (value instanceof Float f && !Float.isFinite(f))) {
+            // JSON has no NaN or Infinity literal, so these go out as strings
+            string(value.toString());
+        } else if (value instanceof Number || value instanceof Boolean) {
+            buffer.append(value);
+        } else if (value instanceof Enum<?> constant) {
+            string(constant.name());
+        } else if (value instanceof Map<?, ?> map) {
+            buffer.append('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!first) {
+                    buffer.append(',');
+                }
+                first = false;
+                string(String.valueOf(entry.getKey()));
+                buffer.append(':');
+                value(entry.getValue());
+            }
+            buffer.append('}');
+        } else if (value instanceof Collection<?> collection) {
+            buffer.append('[');
+            boolean first = true;
+            for (Object element : collection) {
+                if (!first) {
+                    buffer.append(',');
+                }
+                first = false;
+                value(element);
+            }
+            buffer.append(']');
+        } else {
+            // Entities and DTOs: fall back to Jackson
+            try {
+                buffer.append(OBJECT_MAPPER.writeValueAsString(value));
+            } catch (JsonProcessingException e) {
+                string(String.valueOf(value));
+            }
+        }
+    }
+
+    private void string(CharSequence text) {
+        buffer.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"' -> buffer.append("\\\"");
+                case '\\' -> buffer.append("\\\\");
+                case '\n' -> buffer.append("\\n");
+                case '\r' -> buffer.append("\\r");
+                case '\t' -> buffer.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        buffer.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                    } else {
+                        buffer.append(c);
+                    }
+                }
+            }
+        }
+        buffer.append('"');
+    }
+}
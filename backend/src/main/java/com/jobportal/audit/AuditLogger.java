@@ -2,9 +2,12 @@ package com.jobportal.audit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import jakarta.annotation.PostConstruct;
+
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Map;
@@ -16,7 +19,37 @@ public class AuditLogger {
     private final ObjectMapper objectMapper = new ObjectMapper();
     private static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
 
+    // json (default): one JSON object per event, see AuditEventEncoder. pretty: the multi-line
+    // banner, meant for reading the console during local development.
+    @Value("${audit.log.format:json}")
+    private String format;
+
+    private boolean prettyFormat;
+
+    @PostConstruct
+    void init() {
+        prettyFormat = "pretty".equalsIgnoreCase(format);
+    }
+
     public void logUserAction(String action, String userId, String userName, String entity, String entityId, Map<String, Object> details) {
+        if (!logger.isInfoEnabled()) {
+            return;
+        }
+        if (prettyFormat) {
+            prettyUserAction(action, userId, userName, entity, entityId, details);
+            return;
+        }
+        logger.info(AuditEventEncoder.begin("USER_ACTION")
+                .field("action", action)
+                .field("userId", userId)
+                .field("userName", userName)
+                .field("entity", entity)
+                .field("entityId", entityId)
+                .field("details", details)
+                .finish());
+    }
+
+    private void prettyUserAction(String action, String userId, String userName, String entity, String entityId, Map<String, Object> details) {
         try {
             String timestamp = LocalDateTime.now().format(formatter);
             String detailsJson = details != null ? objectMapper.writeValueAsString(details) : "{}";
@@ -43,6 +76,23 @@ public class AuditLogger {
     }
 
     public void logAuthenticationAction(String action, String email, String ipAddress, boolean success, String reason) {
+        if (!logger.isInfoEnabled()) {
+            return;
+        }
+        if (prettyFormat) {
+            prettyAuthenticationAction(action, email, ipAddress, success, reason);
+            return;
+        }
+        logger.info(AuditEventEncoder.begin("AUTHENTICATION")
+                .field("action", action)
+                .field("email", email)
+                .field("ip", ipAddress)
+                .field("success", success)
+                .field("reason", reason)
+                .finish());
+    }
+
+    private void prettyAuthenticationAction(String action, String email, String ipAddress, boolean success, String reason) {
         String timestamp = LocalDateTime.now().format(formatter);
         
         StringBuilder logMessage = new StringBuilder();
@@ -61,6 +111,28 @@ public class AuditLogger {
     }
 
     public void logSecurityEvent(String event, String userId, String userName, String details, String severity) {
+        if (!logger.isWarnEnabled()) {
+            return;
+        }
+        if (prettyFormat) {
+            prettySecurityEvent(event, userId, userName, details, severity);
+            return;
+        }
+        String line = AuditEventEncoder.begin("SECURITY")
+                .field("securityEvent", event)
+                .field("severity", severity)
+                .field("userId", userId)
+                .field("userName", userName)
+                .field("details", details)
+                .finish();
+        if ("HIGH".equals(severity) || "CRITICAL".equals(severity)) {
+            logger.warn(line);
+        } else {
+            logger.info(line);
+        }
+    }
+
+    private void prettySecurityEvent(String event, String userId, String userName, String details, String severity) {
         String timestamp = LocalDateTime.now().format(formatter);
         String severityIcon = getSeverityIcon(severity);
         
@@ -85,6 +157,27 @@ public class AuditLogger {
 
     public void logDataChange(String operation, String entity, String entityId, String userId, String userName, 
                              Object oldValue, Object newValue, String field) {
+        if (!logger.isInfoEnabled()) {
+            return;
+        }
+        if (prettyFormat) {
+            prettyDataChange(operation, entity, entityId, userId, userName, oldValue, newValue, field);
+            return;
+        }
+        logger.info(AuditEventEncoder.begin("DATA_CHANGE")
+                .field("operation", operation)
+                .field("entity", entity)
+                .field("entityId", entityId)
+                .field("userId", userId)
+                .field("userName", userName)
+                .field("field", field)
+                .field("oldValue", oldValue)
+                .field("newValue", newValue)
+                .finish());
+    }
+
+    private void prettyDataChange(String operation, String entity, String entityId, String userId, String userName, 
+                             Object oldValue, Object newValue, String field) {
         try {
             String timestamp = LocalDateTime.now().format(formatter);
             String oldValueStr = oldValue != null ? objectMapper.writeValueAsString(oldValue) : "null";
@@ -114,6 +207,26 @@ public class AuditLogger {
 
     public void logApiCall(String method, String endpoint, String userId, String userName, 
                           String ipAddress, int responseCode, long duration) {
+        if (!logger.isInfoEnabled()) {
+            return;
+        }
+        if (prettyFormat) {
+            prettyApiCall(method, endpoint, userId, userName, ipAddress, responseCode, duration);
+            return;
+        }
+        logger.info(AuditEventEncoder.begin("API_CALL")
+                .field("method", method)
+                .field("endpoint", endpoint)
+                .field("status", responseCode)
+                .field("durationMs", duration)
+                .field("userId", userId)
+                .field("userName", userName)
+                .field("ip", ipAddress)
+                .finish());
+    }
+
+    private void prettyApiCall(String method, String endpoint, String userId, String userName, 
+                          String ipAddress, int responseCode, long duration) {
         String timestamp = LocalDateTime.now().format(formatter);
         String statusIcon = responseCode < 400 ? "✅" : "❌";
         
@@ -135,6 +248,23 @@ public class AuditLogger {
     }
 
     public void logBusinessEvent(String eventType, String description, String userId, String userName, Map<String, Object> context) {
+        if (!logger.isInfoEnabled()) {
+            return;
+        }
+        if (prettyFormat) {
+            prettyBusinessEvent(eventType, description, userId, userName, context);
+            return;
+        }
+        logger.info(AuditEventEncoder.begin("BUSINESS")
+                .field("eventType", eventType)
+                .field("description", description)
+                .field("userId", userId)
+                .field("userName", userName)
+                .field("context", context)
+                .finish());
+    }
+
+    private void prettyBusinessEvent(String eventType, String description, String userId, String userName, Map<String, Object> context) {
         try {
             String timestamp = LocalDateTime.now().format(formatter);
             String contextJson = context != null ? objectMapper.writeValueAsString(context) : "{}";
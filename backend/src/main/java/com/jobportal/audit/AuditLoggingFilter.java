@@ -17,6 +17,9 @@ import java.util.Map;
 @Component
 public class AuditLoggingFilter implements Filter {
 
+    // Set by AuditAspect to the controller method that handled the request
+    public static final String HANDLER_ATTRIBUTE = AuditLoggingFilter.class.getName() + ".handler";
+
     @Autowired
     private AuditLogger auditLogger;
 
@@ -67,6 +70,10 @@ public class AuditLoggingFilter implements Filter {
                 requestDetails.put("contentType", httpRequest.getContentType());
                 requestDetails.put("responseCode", statusCode);
                 requestDetails.put("duration", duration + "ms");
+                Object handler = httpRequest.getAttribute(HANDLER_ATTRIBUTE);
+                if (handler != null) {
+                    requestDetails.put("handler", handler);
+                }
                 
                 auditLogger.logUserAction(
                     "HTTP_REQUEST",
@@ -0,0 +1,64 @@
+package com.jobportal.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.jobportal.service.AdminService;
+
+import jakarta.annotation.PostConstruct;
+
+import java.util.Map;
+
+/**
+ * Fills jobs.applications_count once on databases that held jobs before the column existed.
+ * Hibernate adds the column with every existing row at 0, so on the first start after the
+ * upgrade all counters are recomputed from the applications table; a row in schema_markers
+ * records that this has happened so later starts skip it. Until it has succeeded it is retried
+ * on every start.
+ */
+@StartupMigration
+public class ApplicationsCountBackfill {
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationsCountBackfill.class);
+
+    private static final String MARKERS_TABLE = "schema_markers";
+    private static final String MARKER = "jobs.applications_count.backfill";
+
+    @Value("${app.applications-count.backfill-batch-size:500}")
+    private int batchSize;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AdminService adminService;
+
+    @PostConstruct
+    public void backfill() {
+        try {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + MARKERS_TABLE
+                    + " (name VARCHAR(100) NOT NULL PRIMARY KEY, applied_at TIMESTAMP NOT NULL)");
+            Integer done = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM " + MARKERS_TABLE + " WHERE name = ?", Integer.class, MARKER);
+            if (done != null && done > 0) {
+                return;
+            }
+
+            // Several instances starting together may each run it; the recount is idempotent
+            Map<String, Object> result = adminService.reconcileApplicationsCounts(batchSize);
+            try {
+                jdbcTemplate.update("INSERT INTO " + MARKERS_TABLE + " (name, applied_at) VALUES (?, CURRENT_TIMESTAMP)",
+                        MARKER);
+            } catch (DuplicateKeyException e) {
+                // Another instance finished first
+            }
+            logger.info("Applications counter backfill finished: {}", result);
+        } catch (DataAccessException e) {
+            logger.warn("Could not backfill job applications counters: {}", e.getMessage());
+        }
+    }
+}
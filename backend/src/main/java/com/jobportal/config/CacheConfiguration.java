@@ -0,0 +1,84 @@
+package com.jobportal.config;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate second-level cache regions, held in a local Caffeine-backed JCache manager.
+ * Every region is created here with a size bound and TTL; Hibernate is configured to
+ * fail on unknown regions so nothing ends up in an unbounded default cache.
+ */
+@Configuration
+public class CacheConfiguration {
+
+    public static final String JOBS_REGION = "jobs";
+    public static final String JOB_REQUIREMENTS_REGION = "job_requirements";
+    public static final String JOB_RESPONSIBILITIES_REGION = "job_responsibilities";
+    public static final String USERS_REGION = "users";
+    public static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Value("${app.cache.entity.max-entries:10000}")
+    private long entityMaxEntries;
+
+    @Value("${app.cache.entity.ttl-seconds:600}")
+    private long entityTtlSeconds;
+
+    @Value("${app.cache.query.max-entries:2000}")
+    private long queryMaxEntries;
+
+    @Value("${app.cache.query.ttl-seconds:300}")
+    private long queryTtlSeconds;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+
+        cacheManager.createCache(JOBS_REGION, region(entityMaxEntries, entityTtlSeconds));
+        cacheManager.createCache(JOB_REQUIREMENTS_REGION, region(entityMaxEntries, entityTtlSeconds));
+        cacheManager.createCache(JOB_RESPONSIBILITIES_REGION, region(entityMaxEntries, entityTtlSeconds));
+        cacheManager.createCache(USERS_REGION, region(entityMaxEntries, entityTtlSeconds));
+        cacheManager.createCache(QUERY_RESULTS_REGION, region(queryMaxEntries, queryTtlSeconds));
+        // Table update timestamps must outlive every cached query result, so this region never expires
+        cacheManager.createCache(UPDATE_TIMESTAMPS_REGION, region(10_000, 0));
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put("hibernate.cache.use_second_level_cache", "true");
+            properties.put("hibernate.cache.use_query_cache", "true");
+            properties.put("hibernate.cache.region.factory_class", "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            // Needed for the per-region hit/miss counters reported by CacheMetricsService
+            properties.put("hibernate.generate_statistics", "true");
+        };
+    }
+
+    private CaffeineConfiguration<Object, Object> region(long maxEntries, long ttlSeconds) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxEntries));
+        if (ttlSeconds > 0) {
+            configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSeconds)));
+        }
+        // Hibernate caches disassembled, immutable state, so copying on every read is unnecessary
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
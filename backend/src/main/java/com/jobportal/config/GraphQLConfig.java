@@ -1,9 +1,47 @@
 package com.jobportal.config;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.graphql.GraphQlProperties;
+import org.springframework.boot.autoconfigure.graphql.GraphQlSourceBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.graphql.execution.RuntimeWiringConfigurer;
+import org.springframework.graphql.server.WebGraphQlHandler;
+import org.springframework.graphql.server.webmvc.GraphQlWebSocketHandler;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobportal.graphql.GraphQlAuthInterceptor;
+import com.jobportal.graphql.PersistedQueryDocumentProvider;
+import com.jobportal.graphql.UserSessionWebSocketHandler;
+import com.jobportal.security.PrincipalCache;
+
+import graphql.scalars.ExtendedScalars;
 
 @Configuration
 public class GraphQLConfig {
-    // Minimal GraphQL configuration to avoid Spring Security conflicts
-    // GraphQL will use default Spring Boot auto-configuration
+    // Everything else comes from Spring Boot auto-configuration; instrumentation and interceptors
+    // in com.jobportal.graphql are picked up as beans
+
+    // Serves cached documents and persisted queries instead of parsing every request
+    @Bean
+    public GraphQlSourceBuilderCustomizer persistedQueryCustomizer(PersistedQueryDocumentProvider documentProvider) {
+        return builder -> builder.configureGraphQl(graphQl -> graphQl.preparsedDocumentProvider(documentProvider));
+    }
+
+    // The Long scalar of schema.graphqls (salary amounts)
+    @Bean
+    public RuntimeWiringConfigurer scalarWiring() {
+        return wiring -> wiring.scalar(ExtendedScalars.GraphQLLong);
+    }
+
+    // Replaces Boot's WebSocket handler so connections can be closed when their user changes
+    @Bean
+    @ConditionalOnProperty("spring.graphql.websocket.path")
+    public GraphQlWebSocketHandler graphQlWebSocketHandler(WebGraphQlHandler webGraphQlHandler, GraphQlProperties properties,
+                                                           ObjectMapper objectMapper, GraphQlAuthInterceptor authInterceptor,
+                                                           PrincipalCache principalCache) {
+        return new UserSessionWebSocketHandler(webGraphQlHandler, new MappingJackson2HttpMessageConverter(objectMapper),
+                properties.getWebsocket().getConnectionInitTimeout(), authInterceptor, principalCache);
+    }
 }
@@ -0,0 +1,24 @@
+package com.jobportal.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.jobportal.entity.PooledTableIdGenerator;
+
+/**
+ * Passes the configured id block size to {@link PooledTableIdGenerator}. Larger blocks mean fewer
+ * generator round trips but bigger gaps in ids after a restart; only change it with every node stopped.
+ */
+@Configuration
+public class IdGenerationConfiguration {
+
+    @Value("${app.id.block-size:50}")
+    private int blockSize;
+
+    @Bean
+    public HibernatePropertiesCustomizer idGenerationCustomizer() {
+        return properties -> properties.put(PooledTableIdGenerator.BLOCK_SIZE_SETTING, String.valueOf(blockSize));
+    }
+}
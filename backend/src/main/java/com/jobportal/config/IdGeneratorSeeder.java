@@ -0,0 +1,82 @@
+package com.jobportal.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.jobportal.entity.PooledTableIdGenerator;
+
+import jakarta.annotation.PostConstruct;
+
+import java.util.Map;
+
+/**
+ * Migrates existing tables onto {@link PooledTableIdGenerator}. Tables that used AUTO_INCREMENT
+ * ids before the switch already hold rows, so on startup each generator row is moved past the
+ * highest existing id before anything is inserted.
+ */
+@StartupMigration
+public class IdGeneratorSeeder {
+    private static final Logger logger = LoggerFactory.getLogger(IdGeneratorSeeder.class);
+
+    // generator segment -> entity table
+    private static final Map<String, String> SEGMENTS = Map.of(
+            "users", "users",
+            "jobs", "jobs",
+            "applications", "applications",
+            "audit_logs", "audit_logs");
+
+    @Value("${app.id.block-size:50}")
+    private int blockSize;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void seedGenerators() {
+        SEGMENTS.forEach(this::seedGenerator);
+    }
+
+    // The next pooled block ends at next_val (next_val + 1 with hibernate.id.generator.stored_last_used),
+    // so next_val >= max(id) + blockSize keeps it clear of existing rows. Only ever raises the value,
+    // so it is a no-op once the generator is in use.
+    private void seedGenerator(String segment, String table) {
+        try {
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+            if (maxId == null || maxId == 0) {
+                // Empty table: the generator creates its own row on first use
+                return;
+            }
+            long floor = maxId + blockSize;
+
+            int updated = jdbcTemplate.update(
+                    "UPDATE " + PooledTableIdGenerator.TABLE
+                            + " SET " + PooledTableIdGenerator.VALUE_COLUMN + " = ?"
+                            + " WHERE " + PooledTableIdGenerator.SEGMENT_COLUMN + " = ?"
+                            + " AND " + PooledTableIdGenerator.VALUE_COLUMN + " < ?",
+                    floor, segment, floor);
+            if (updated > 0) {
+                logger.info("Moved id generator '{}' to {} (max id {})", segment, floor, maxId);
+                return;
+            }
+
+            Integer rows = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM " + PooledTableIdGenerator.TABLE
+                            + " WHERE " + PooledTableIdGenerator.SEGMENT_COLUMN + " = ?",
+                    Integer.class, segment);
+            if (rows != null && rows == 0) {
+                jdbcTemplate.update(
+                        "INSERT INTO " + PooledTableIdGenerator.TABLE
+                                + " (" + PooledTableIdGenerator.SEGMENT_COLUMN + ", " + PooledTableIdGenerator.VALUE_COLUMN + ")"
+                                + " VALUES (?, ?)",
+                        segment, floor);
+                logger.info("Seeded id generator '{}' at {} (max id {})", segment, floor, maxId);
+            }
+        } catch (DataAccessException e) {
+            logger.warn("Could not seed id generator '{}': {}", segment, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.jobportal.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.jobportal.entity.Job;
+import com.jobportal.search.SalaryRange;
+
+import jakarta.annotation.PostConstruct;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fills the numeric salary columns of jobs written before they existed. {@link Job} derives
+ * them on every insert and update, so on startup only rows with a salary_range but no
+ * salary_min are parsed, in id order and in batches. Rows whose text holds no amount stay null
+ * and are simply looked at again on the next start.
+ */
+@StartupMigration
+public class SalaryBackfill {
+    private static final Logger logger = LoggerFactory.getLogger(SalaryBackfill.class);
+
+    @Value("${app.salary.backfill-batch-size:500}")
+    private int batchSize;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private record Row(long id, String salaryRange) {
+    }
+
+    @PostConstruct
+    public void backfill() {
+        try {
+            long lastId = 0;
+            long scanned = 0;
+            long filled = 0;
+            List<Row> rows = nextBatch(lastId);
+            while (!rows.isEmpty()) {
+                List<Object[]> updates = new ArrayList<>();
+                for (Row row : rows) {
+                    SalaryRange salary = SalaryRange.parse(row.salaryRange());
+                    if (salary != null) {
+                        updates.add(new Object[] {salary.min(), salary.max(), salary.currency(), row.id()});
+                    }
+                }
+                if (!updates.isEmpty()) {
+                    jdbcTemplate.batchUpdate(
+                            "UPDATE jobs SET salary_min = ?, salary_max = ?, salary_currency = ? WHERE id = ?", updates);
+                }
+                scanned += rows.size();
+                filled += updates.size();
+                lastId = rows.get(rows.size() - 1).id();
+                rows = nextBatch(lastId);
+            }
+            if (scanned > 0) {
+                logger.info("Salary backfill finished: {} jobs scanned, {} filled", scanned, filled);
+            }
+        } catch (DataAccessException e) {
+            logger.warn("Could not backfill job salaries: {}", e.getMessage());
+        }
+    }
+
+    private List<Row> nextBatch(long afterId) {
+        return jdbcTemplate.query(
+                "SELECT id, salary_range FROM jobs WHERE salary_min IS NULL AND salary_range IS NOT NULL"
+                        + " AND id > ? ORDER BY id LIMIT ?",
+                (rs, i) -> new Row(rs.getLong("id"), rs.getString("salary_range")),
+                afterId, Math.max(1, batchSize));
+    }
+}
@@ -23,6 +23,8 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import com.jobportal.security.CustomUserDetailsService;
 import com.jobportal.security.jwt.JwtAuthenticationFilter;
 
+import jakarta.servlet.DispatcherType;
+
 import static org.springframework.security.config.Customizer.withDefaults;
 
 @Configuration
@@ -76,6 +78,7 @@ public class SecurityConfig {
                             .requestMatchers("/graphiql/**").permitAll()
                             .requestMatchers("/graphql/**").permitAll()
                             .requestMatchers("/error").permitAll()  // Allow error handling endpoint
+                            .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()  // Completion of an already authorized stream
                             .requestMatchers("/api/v1/jobs/{id}/status").hasAuthority("ROLE_COMPANY")
                             .requestMatchers("/api/v1/admin/**").hasAuthority("ROLE_ADMIN")
                             .requestMatchers("/api/v1/applicant/**").hasAuthority("ROLE_APPLICANT")
@@ -0,0 +1,23 @@
+package com.jobportal.config;
+
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * A component that migrates existing rows from a @PostConstruct method. It is created after the
+ * entity manager factory, so Hibernate has already created or updated the schema, and before any
+ * request is served, so the second-level cache holds nothing the migration could make stale.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Component
+@DependsOn("entityManagerFactory")
+public @interface StartupMigration {
+}
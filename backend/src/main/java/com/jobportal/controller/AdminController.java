@@ -8,10 +8,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import com.jobportal.entity.Application;
-import com.jobportal.entity.Job;
-import com.jobportal.entity.User;
+import com.jobportal.dto.response.ApiEnvelope;
+import com.jobportal.dto.response.ApplicationResponse;
+import com.jobportal.dto.response.JobListResponse;
+import com.jobportal.dto.response.JobResponse;
+import com.jobportal.dto.response.UserResponse;
 import com.jobportal.service.AdminService;
+import com.jobportal.service.audit.AuditPartitionManager;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -22,7 +25,6 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -38,6 +40,9 @@ public class AdminController {
     @Autowired
     private AdminService adminService;
 
+    @Autowired
+    private AuditPartitionManager auditPartitionManager;
+
     // User Management Endpoints
     @Operation(
         summary = "Get all users",
@@ -48,21 +53,15 @@ public class AdminController {
         @ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
     })
     @GetMapping("/users")
-    public ResponseEntity<Map<String, Object>> getAllUsers(
+    public ResponseEntity<ApiEnvelope<List<UserResponse>>> getAllUsers(
             @RequestParam(required = false) String role,
             @RequestParam(defaultValue = "false") boolean includeInactive) {
         logger.debug("Getting all users with role: {} and includeInactive: {}", role, includeInactive);
-        List<User> users = adminService.getAllUsers(role, includeInactive);
-        
-        Map<String, Object> response = new HashMap<>();
-        response.put("status", "success");
-        response.put("message", "Users retrieved successfully");
-        response.put("data", users);
-        response.put("count", users.size());
-        response.put("filters", Map.of("role", role != null ? role : "all", "includeInactive", includeInactive));
-        response.put("timestamp", java.time.Instant.now().toString());
+        List<UserResponse> users = UserResponse.fromViews(adminService.listUsers(role, includeInactive));
         
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(ApiEnvelope.success("Users retrieved successfully", users,
+                Map.of("count", users.size(),
+                        "filters", Map.of("role", role != null ? role : "all", "includeInactive", includeInactive))));
     }
 
     @GetMapping("/users/{id}")
@@ -75,28 +74,15 @@ public class AdminController {
         @ApiResponse(responseCode = "404", description = "User not found"),
         @ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
     })
-    public ResponseEntity<Map<String, Object>> getUserById(
+    public ResponseEntity<ApiEnvelope<UserResponse>> getUserById(
             @Parameter(description = "User ID", required = true) @PathVariable Long id) {
         logger.debug("Getting user by id: {}", id);
         
         return adminService.getUserById(id)
-                .map(user -> {
-                    Map<String, Object> response = new HashMap<>();
-                    response.put("status", "success");
-                    response.put("message", "User found successfully");
-                    response.put("data", user);
-                    response.put("userId", id);
-                    response.put("timestamp", java.time.Instant.now().toString());
-                    return ResponseEntity.ok(response);
-                })
-                .orElseGet(() -> {
-                    Map<String, Object> response = new HashMap<>();
-                    response.put("status", "error");
-                    response.put("message", "User not found with ID: " + id);
-                    response.put("userId", id);
-                    response.put("timestamp", java.time.Instant.now().toString());
-                    return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
-                });
+                .map(user -> ResponseEntity.ok(ApiEnvelope.success("User found successfully", UserResponse.from(user),
+                        Map.<String, Object>of("userId", id))))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(ApiEnvelope.error("User not found with ID: " + id, Map.of("userId", id))));
     }
 
     @DeleteMapping("/users/{id}")
@@ -110,30 +96,19 @@ public class AdminController {
         @ApiResponse(responseCode = "403", description = "Access denied - Admin role required"),
         @ApiResponse(responseCode = "404", description = "User not found")
     })
-    public ResponseEntity<Map<String, Object>> deleteUser(
+    public ResponseEntity<ApiEnvelope<Void>> deleteUser(
             @Parameter(description = "User ID to delete", required = true) @PathVariable Long id) {
         logger.debug("Deleting user with id: {}", id);
         try {
             adminService.deleteUser(id);
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "success");
-            response.put("message", "User deleted successfully");
-            response.put("userId", id);
-            response.put("action", "delete");
-            response.put("timestamp", java.time.Instant.now().toString());
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ApiEnvelope.success("User deleted successfully", null,
+                    Map.of("userId", id, "action", "delete")));
         } catch (RuntimeException e) {
             logger.error("Error deleting user: {}", e.getMessage());
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "error");
-            response.put("message", "Failed to delete user: " + e.getMessage());
-            response.put("userId", id);
-            response.put("timestamp", java.time.Instant.now().toString());
-            
-            return ResponseEntity.badRequest().body(response);
+            return ResponseEntity.badRequest().body(ApiEnvelope.error("Failed to delete user: " + e.getMessage(),
+                    Map.of("userId", id)));
         }
     }
 
@@ -148,34 +123,22 @@ public class AdminController {
         @ApiResponse(responseCode = "403", description = "Access denied - Admin role required"),
         @ApiResponse(responseCode = "404", description = "User not found")
     })
-    public ResponseEntity<Map<String, Object>> updateUserStatus(
+    public ResponseEntity<ApiEnvelope<UserResponse>> updateUserStatus(
             @Parameter(description = "User ID", required = true) @PathVariable Long id,
             @Parameter(description = "Active status (true for active, false for inactive)", required = true) @RequestParam boolean active) {
         logger.debug("Updating user status. UserId: {}, active: {}", id, active);
         try {
-            User user = adminService.updateUserStatus(id, active);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "success");
-            response.put("message", "User status updated successfully");
-            response.put("data", user);
-            response.put("userId", id);
-            response.put("newStatus", active ? "active" : "inactive");
-            response.put("action", "status_update");
-            response.put("timestamp", java.time.Instant.now().toString());
+            UserResponse user = UserResponse.from(adminService.updateUserStatus(id, active));
             
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ApiEnvelope.success("User status updated successfully", user,
+                    Map.of("userId", id,
+                            "newStatus", active ? "active" : "inactive",
+                            "action", "status_update")));
         } catch (RuntimeException e) {
             logger.error("Error updating user status: {}", e.getMessage());
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "error");
-            response.put("message", "Failed to update user status: " + e.getMessage());
-            response.put("userId", id);
-            response.put("requestedStatus", active ? "active" : "inactive");
-            response.put("timestamp", java.time.Instant.now().toString());
-            
-            return ResponseEntity.badRequest().body(response);
+            return ResponseEntity.badRequest().body(ApiEnvelope.error("Failed to update user status: " + e.getMessage(),
+                    Map.of("userId", id, "requestedStatus", active ? "active" : "inactive")));
         }
     }
 
@@ -183,27 +146,21 @@ public class AdminController {
     @GetMapping("/jobs")
     @Operation(
         summary = "Get all jobs",
-        description = "Retrieve all jobs with optional filtering by active status and expiration"
+        description = "Retrieve all jobs with optional filtering by active status and expiration. List rows leave out the description, requirements and responsibilities"
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Jobs retrieved successfully"),
         @ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
     })
-    public ResponseEntity<Map<String, Object>> getAllJobs(
+    public ResponseEntity<ApiEnvelope<List<JobListResponse>>> getAllJobs(
             @Parameter(description = "Filter by active status (true/false), null for all") @RequestParam(required = false) Boolean active,
             @Parameter(description = "Include expired jobs in results") @RequestParam(defaultValue = "false") boolean includeExpired) {
         logger.debug("Getting all jobs with active: {} and includeExpired: {}", active, includeExpired);
-        List<Job> jobs = adminService.getAllJobs(active, includeExpired);
-        
-        Map<String, Object> response = new HashMap<>();
-        response.put("status", "success");
-        response.put("message", "Jobs retrieved successfully");
-        response.put("data", jobs);
-        response.put("count", jobs.size());
-        response.put("filters", Map.of("active", active != null ? active.toString() : "all", "includeExpired", includeExpired));
-        response.put("timestamp", java.time.Instant.now().toString());
+        List<JobListResponse> jobs = JobListResponse.fromViews(adminService.listJobs(active, includeExpired));
         
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(ApiEnvelope.success("Jobs retrieved successfully", jobs,
+                Map.of("count", jobs.size(),
+                        "filters", Map.of("active", active != null ? active.toString() : "all", "includeExpired", includeExpired))));
     }
 
     @PutMapping("/jobs/{id}/status")
@@ -217,34 +174,22 @@ public class AdminController {
         @ApiResponse(responseCode = "403", description = "Access denied - Admin role required"),
         @ApiResponse(responseCode = "404", description = "Job not found")
     })
-    public ResponseEntity<Map<String, Object>> updateJobStatus(
+    public ResponseEntity<ApiEnvelope<JobResponse>> updateJobStatus(
             @Parameter(description = "Job ID", required = true) @PathVariable Long id,
             @Parameter(description = "Active status (true for active, false for inactive)", required = true) @RequestParam boolean active) {
         logger.debug("Updating job status. JobId: {}, active: {}", id, active);
         try {
-            Job job = adminService.updateJobStatus(id, active);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "success");
-            response.put("message", "Job status updated successfully");
-            response.put("data", job);
-            response.put("jobId", id);
-            response.put("newStatus", active ? "active" : "inactive");
-            response.put("action", "status_update");
-            response.put("timestamp", java.time.Instant.now().toString());
+            JobResponse job = JobResponse.from(adminService.updateJobStatus(id, active));
             
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ApiEnvelope.success("Job status updated successfully", job,
+                    Map.of("jobId", id,
+                            "newStatus", active ? "active" : "inactive",
+                            "action", "status_update")));
         } catch (RuntimeException e) {
             logger.error("Error updating job status: {}", e.getMessage());
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "error");
-            response.put("message", "Failed to update job status: " + e.getMessage());
-            response.put("jobId", id);
-            response.put("requestedStatus", active ? "active" : "inactive");
-            response.put("timestamp", java.time.Instant.now().toString());
-            
-            return ResponseEntity.badRequest().body(response);
+            return ResponseEntity.badRequest().body(ApiEnvelope.error("Failed to update job status: " + e.getMessage(),
+                    Map.of("jobId", id, "requestedStatus", active ? "active" : "inactive")));
         }
     }
 
@@ -259,30 +204,19 @@ public class AdminController {
         @ApiResponse(responseCode = "403", description = "Access denied - Admin role required"),
         @ApiResponse(responseCode = "404", description = "Job not found")
     })
-    public ResponseEntity<Map<String, Object>> deleteJob(
+    public ResponseEntity<ApiEnvelope<Void>> deleteJob(
             @Parameter(description = "Job ID to delete", required = true) @PathVariable Long id) {
         logger.debug("Deleting job with id: {}", id);
         try {
             adminService.deleteJob(id);
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "success");
-            response.put("message", "Job deleted successfully");
-            response.put("jobId", id);
-            response.put("action", "delete");
-            response.put("timestamp", java.time.Instant.now().toString());
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ApiEnvelope.success("Job deleted successfully", null,
+                    Map.of("jobId", id, "action", "delete")));
         } catch (RuntimeException e) {
             logger.error("Error deleting job: {}", e.getMessage());
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "error");
-            response.put("message", "Failed to delete job: " + e.getMessage());
-            response.put("jobId", id);
-            response.put("timestamp", java.time.Instant.now().toString());
-            
-            return ResponseEntity.badRequest().body(response);
+            return ResponseEntity.badRequest().body(ApiEnvelope.error("Failed to delete job: " + e.getMessage(),
+                    Map.of("jobId", id)));
         }
     }
 
@@ -297,32 +231,21 @@ public class AdminController {
         @ApiResponse(responseCode = "403", description = "Access denied - Admin role required"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<Map<String, Object>> getAllApplications(
+    public ResponseEntity<ApiEnvelope<List<ApplicationResponse>>> getAllApplications(
             @Parameter(description = "Filter by application status (PENDING, REVIEWED, APPROVED, REJECTED)") @RequestParam(required = false) String status,
             @Parameter(description = "Include archived applications in results") @RequestParam(defaultValue = "false") boolean includeArchived) {
         logger.debug("Getting all applications with status: {} and includeArchived: {}", status, includeArchived);
+        Map<String, Object> filters = Map.of("status", status != null ? status : "all", "includeArchived", includeArchived);
         try {
-            List<Application> applications = adminService.getAllApplications(status, includeArchived);
+            List<ApplicationResponse> applications = ApplicationResponse.fromViews(adminService.listApplications(status, includeArchived));
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "success");
-            response.put("message", "Applications retrieved successfully");
-            response.put("data", applications);
-            response.put("count", applications.size());
-            response.put("filters", Map.of("status", status != null ? status : "all", "includeArchived", includeArchived));
-            response.put("timestamp", java.time.Instant.now().toString());
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ApiEnvelope.success("Applications retrieved successfully", applications,
+                    Map.of("count", applications.size(), "filters", filters)));
         } catch (Exception e) {
             logger.error("Error getting all applications: {}", e.getMessage());
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "error");
-            response.put("message", "Failed to retrieve applications: " + e.getMessage());
-            response.put("filters", Map.of("status", status != null ? status : "all", "includeArchived", includeArchived));
-            response.put("timestamp", java.time.Instant.now().toString());
-            
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiEnvelope.error("Failed to retrieve applications: " + e.getMessage(), Map.of("filters", filters)));
         }
     }
 
@@ -337,34 +260,20 @@ public class AdminController {
         @ApiResponse(responseCode = "403", description = "Access denied - Admin role required"),
         @ApiResponse(responseCode = "404", description = "Application not found")
     })
-    public ResponseEntity<Map<String, Object>> updateApplicationStatus(
+    public ResponseEntity<ApiEnvelope<ApplicationResponse>> updateApplicationStatus(
             @Parameter(description = "Application ID", required = true) @PathVariable Long id,
             @Parameter(description = "New application status (PENDING, REVIEWED, APPROVED, REJECTED)", required = true) @RequestParam String status) {
         logger.debug("Updating application status. ApplicationId: {}, status: {}", id, status);
         try {
-            Application application = adminService.updateApplicationStatus(id, status);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "success");
-            response.put("message", "Application status updated successfully");
-            response.put("data", application);
-            response.put("applicationId", id);
-            response.put("newStatus", status);
-            response.put("action", "status_update");
-            response.put("timestamp", java.time.Instant.now().toString());
+            ApplicationResponse application = ApplicationResponse.from(adminService.updateApplicationStatus(id, status));
             
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ApiEnvelope.success("Application status updated successfully", application,
+                    Map.of("applicationId", id, "newStatus", status, "action", "status_update")));
         } catch (RuntimeException e) {
             logger.error("Error updating application status: {}", e.getMessage());
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "error");
-            response.put("message", "Failed to update application status: " + e.getMessage());
-            response.put("applicationId", id);
-            response.put("requestedStatus", status);
-            response.put("timestamp", java.time.Instant.now().toString());
-            
-            return ResponseEntity.badRequest().body(response);
+            return ResponseEntity.badRequest().body(ApiEnvelope.error("Failed to update application status: " + e.getMessage(),
+                    Map.of("applicationId", id, "requestedStatus", status)));
         }
     }
 
@@ -379,30 +288,19 @@ public class AdminController {
         @ApiResponse(responseCode = "403", description = "Access denied - Admin role required"),
         @ApiResponse(responseCode = "404", description = "Application not found")
     })
-    public ResponseEntity<Map<String, Object>> deleteApplication(
+    public ResponseEntity<ApiEnvelope<Void>> deleteApplication(
             @Parameter(description = "Application ID to delete", required = true) @PathVariable Long id) {
         logger.debug("Deleting application with id: {}", id);
         try {
             adminService.deleteApplication(id);
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "success");
-            response.put("message", "Application deleted successfully");
-            response.put("applicationId", id);
-            response.put("action", "delete");
-            response.put("timestamp", java.time.Instant.now().toString());
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ApiEnvelope.success("Application deleted successfully", null,
+                    Map.of("applicationId", id, "action", "delete")));
         } catch (RuntimeException e) {
             logger.error("Error deleting application: {}", e.getMessage());
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "error");
-            response.put("message", "Failed to delete application: " + e.getMessage());
-            response.put("applicationId", id);
-            response.put("timestamp", java.time.Instant.now().toString());
-            
-            return ResponseEntity.badRequest().body(response);
+            return ResponseEntity.badRequest().body(ApiEnvelope.error("Failed to delete application: " + e.getMessage(),
+                    Map.of("applicationId", id)));
         }
     }
 
@@ -426,32 +324,21 @@ public class AdminController {
         @ApiResponse(responseCode = "400", description = "Bad request - Bulk update failed"),
         @ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
     })
-    public ResponseEntity<Map<String, Object>> bulkUpdateUserStatus(
+    public ResponseEntity<ApiEnvelope<List<UserResponse>>> bulkUpdateUserStatus(
             @Parameter(description = "Map of user IDs to their new active status", required = true) @RequestBody Map<Long, Boolean> userStatusMap) {
         logger.debug("Bulk updating user status for {} users", userStatusMap.size());
         try {
-            List<User> updatedUsers = adminService.bulkUpdateUserStatus(userStatusMap);
+            List<UserResponse> updatedUsers = UserResponse.from(adminService.bulkUpdateUserStatus(userStatusMap));
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "success");
-            response.put("message", "Bulk user status update completed successfully");
-            response.put("data", updatedUsers);
-            response.put("count", updatedUsers.size());
-            response.put("requestedCount", userStatusMap.size());
-            response.put("action", "bulk_status_update");
-            response.put("timestamp", java.time.Instant.now().toString());
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ApiEnvelope.success("Bulk user status update completed successfully", updatedUsers,
+                    Map.of("count", updatedUsers.size(),
+                            "requestedCount", userStatusMap.size(),
+                            "action", "bulk_status_update")));
         } catch (RuntimeException e) {
             logger.error("Error in bulk user status update: {}", e.getMessage());
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "error");
-            response.put("message", "Failed to bulk update user status: " + e.getMessage());
-            response.put("requestedCount", userStatusMap.size());
-            response.put("timestamp", java.time.Instant.now().toString());
-            
-            return ResponseEntity.badRequest().body(response);
+            return ResponseEntity.badRequest().body(ApiEnvelope.error("Failed to bulk update user status: " + e.getMessage(),
+                    Map.of("requestedCount", userStatusMap.size())));
         }
     }
 
@@ -474,32 +361,77 @@ public class AdminController {
         @ApiResponse(responseCode = "400", description = "Bad request - Bulk update failed"),
         @ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
     })
-    public ResponseEntity<Map<String, Object>> bulkUpdateJobStatus(
+    public ResponseEntity<ApiEnvelope<List<JobResponse>>> bulkUpdateJobStatus(
             @Parameter(description = "Map of job IDs to their new active status", required = true) @RequestBody Map<Long, Boolean> jobStatusMap) {
         logger.debug("Bulk updating job status for {} jobs", jobStatusMap.size());
         try {
-            List<Job> updatedJobs = adminService.bulkUpdateJobStatus(jobStatusMap);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "success");
-            response.put("message", "Bulk job status update completed successfully");
-            response.put("data", updatedJobs);
-            response.put("count", updatedJobs.size());
-            response.put("requestedCount", jobStatusMap.size());
-            response.put("action", "bulk_status_update");
-            response.put("timestamp", java.time.Instant.now().toString());
+            List<JobResponse> updatedJobs = JobResponse.from(adminService.bulkUpdateJobStatus(jobStatusMap));
             
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ApiEnvelope.success("Bulk job status update completed successfully", updatedJobs,
+                    Map.of("count", updatedJobs.size(),
+                            "requestedCount", jobStatusMap.size(),
+                            "action", "bulk_status_update")));
         } catch (RuntimeException e) {
             logger.error("Error in bulk job status update: {}", e.getMessage());
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "error");
-            response.put("message", "Failed to bulk update job status: " + e.getMessage());
-            response.put("requestedCount", jobStatusMap.size());
-            response.put("timestamp", java.time.Instant.now().toString());
-            
-            return ResponseEntity.badRequest().body(response);
+            return ResponseEntity.badRequest().body(ApiEnvelope.error("Failed to bulk update job status: " + e.getMessage(),
+                    Map.of("requestedCount", jobStatusMap.size())));
+        }
+    }
+
+    @PostMapping("/jobs/applications-count/reconcile")
+    @Operation(
+        summary = "Reconcile job application counters",
+        description = "Recompute the denormalized applications counter of every job in batches and fix any that drifted"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Reconciliation completed successfully"),
+        @ApiResponse(responseCode = "403", description = "Access denied - Admin role required"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<ApiEnvelope<Map<String, Object>>> reconcileApplicationsCounts(
+            @Parameter(description = "Number of jobs recomputed per transaction") @RequestParam(defaultValue = "500") int batchSize) {
+        logger.debug("Reconciling job application counters with batch size {}", batchSize);
+        try {
+            Map<String, Object> result = adminService.reconcileApplicationsCounts(batchSize);
+
+            return ResponseEntity.ok(ApiEnvelope.success("Application counters reconciled successfully", result,
+                    Map.of("action", "reconcile_applications_count")));
+        } catch (RuntimeException e) {
+            logger.error("Error reconciling application counters: {}", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiEnvelope.error("Failed to reconcile application counters: " + e.getMessage()));
+        }
+    }
+
+    @PostMapping("/audit-logs/partition")
+    @Operation(
+        summary = "Partition the audit log table",
+        description = "One-off conversion of audit_logs to time range partitions (MySQL only). It rebuilds the table "
+                + "and blocks audit writes while it runs, so run it outside peak hours. Afterwards partitions are "
+                + "created and expired by the scheduled maintenance."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Audit log table partitioned successfully"),
+        @ApiResponse(responseCode = "400", description = "Partitioning disabled, unsupported or already done"),
+        @ApiResponse(responseCode = "403", description = "Access denied - Admin role required"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<ApiEnvelope<Map<String, Object>>> partitionAuditLogs() {
+        logger.info("Partitioning the audit log table");
+        try {
+            Map<String, Object> result = auditPartitionManager.partitionTable();
+
+            return ResponseEntity.ok(ApiEnvelope.success("Audit log table partitioned successfully", result,
+                    Map.of("action", "partition_audit_logs")));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.badRequest().body(ApiEnvelope.error(e.getMessage()));
+        } catch (RuntimeException e) {
+            logger.error("Error partitioning the audit log table: {}", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiEnvelope.error("Failed to partition the audit log table: " + e.getMessage()));
         }
     }
-} 
\ No newline at end of file
+}
@@ -13,8 +13,12 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.jobportal.dto.response.ApiEnvelope;
+import com.jobportal.dto.response.ApplicationDetailResponse;
+import com.jobportal.dto.response.ApplicationResponse;
+import com.jobportal.dto.response.JobResponse;
+import com.jobportal.dto.response.UserResponse;
 import com.jobportal.entity.Application;
-import com.jobportal.entity.Job;
 import com.jobportal.entity.User;
 import com.jobportal.security.CustomUserDetails;
 import com.jobportal.service.ApplicantService;
@@ -32,7 +36,6 @@ import java.io.IOException;
 import java.net.MalformedURLException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.time.ZoneOffset;
 
 import java.util.List;
 import java.util.Map;
@@ -61,36 +64,16 @@ public class ApplicantController {
         @ApiResponse(responseCode = "403", description = "Access denied - Applicant role required"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<Map<String, Object>> getProfile(
+    public ResponseEntity<ApiEnvelope<UserResponse>> getProfile(
             @AuthenticationPrincipal CustomUserDetails userDetails) {
         try {
             User user = userDetails.getUser();
-            Map<String, Object> userData = Map.ofEntries(
-                    Map.entry("id", String.valueOf(user.getId())),
-                    Map.entry("name", user.getName()),
-                    Map.entry("email", user.getEmail()),
-                    Map.entry("role", user.getRole().toString()),
-                    Map.entry("createdAt", user.getCreatedAt() != null ? user.getCreatedAt().toString() : null),
-                    Map.entry("active", user.isActive()),
-                    Map.entry("bio", user.getBio() != null ? user.getBio() : "No Description")
-            );
             
-            Map<String, Object> response = Map.of(
-                "status", "success",
-                "message", "Profile retrieved successfully",
-                "data", userData,
-                "userId", user.getId(),
-                "timestamp", java.time.Instant.now().toString()
-            );
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ApiEnvelope.success("Profile retrieved successfully", UserResponse.from(user),
+                    Map.of("userId", user.getId())));
         } catch (Exception e) {
-            Map<String, Object> response = Map.of(
-                "status", "error",
-                "message", "Failed to retrieve profile: " + e.getMessage(),
-                "timestamp", java.time.Instant.now().toString()
-            );
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiEnvelope.error("Failed to retrieve profile: " + e.getMessage()));
         }
     }
 
@@ -106,51 +89,24 @@ public class ApplicantController {
         @ApiResponse(responseCode = "400", description = "Bad request - Invalid profile data or missing request body"),
         @ApiResponse(responseCode = "403", description = "Access denied - Applicant role required")
     })
-    public ResponseEntity<Map<String, Object>> updateProfile(
+    public ResponseEntity<ApiEnvelope<UserResponse>> updateProfile(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @Parameter(description = "Updated profile information") @RequestBody(required = false) User updatedUser) {
         try {
             // Validate request body
             if (updatedUser == null) {
-                Map<String, Object> response = Map.of(
-                    "status", "error",
-                    "message", "Request body is required for profile update",
-                    "suggestion", "Please provide profile data in JSON format: {\"name\": \"John Doe\", \"bio\": \"Software Developer\"}",
-                    "userId", userDetails.getUser().getId(),
-                    "timestamp", java.time.Instant.now().toString()
-                );
-                return ResponseEntity.badRequest().body(response);
+                return ResponseEntity.badRequest().body(ApiEnvelope.error("Request body is required for profile update",
+                        Map.of("suggestion", "Please provide profile data in JSON format: {\"name\": \"John Doe\", \"bio\": \"Software Developer\"}",
+                                "userId", userDetails.getUser().getId())));
             }
             
             User user = applicantService.updateProfile(userDetails.getUser().getId(), updatedUser);
-            Map<String, Object> userData = Map.ofEntries(
-                    Map.entry("id", String.valueOf(user.getId())),
-                    Map.entry("name", user.getName()),
-                    Map.entry("email", user.getEmail()),
-                    Map.entry("role", user.getRole().toString()),
-                    Map.entry("createdAt", user.getCreatedAt() != null ? user.getCreatedAt().toString() : null),
-                    Map.entry("active", user.isActive()),
-                    Map.entry("bio", user.getBio() != null ? user.getBio() : "No Description")
-            );
-            
-            Map<String, Object> response = Map.of(
-                "status", "success",
-                "message", "Profile updated successfully",
-                "data", userData,
-                "userId", user.getId(),
-                "action", "update",
-                "timestamp", java.time.Instant.now().toString()
-            );
             
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ApiEnvelope.success("Profile updated successfully", UserResponse.from(user),
+                    Map.of("userId", user.getId(), "action", "update")));
         } catch (RuntimeException e) {
-            Map<String, Object> response = Map.of(
-                "status", "error",
-                "message", "Failed to update profile: " + e.getMessage(),
-                "userId", userDetails.getUser().getId(),
-                "timestamp", java.time.Instant.now().toString()
-            );
-            return ResponseEntity.badRequest().body(response);
+            return ResponseEntity.badRequest().body(ApiEnvelope.error("Failed to update profile: " + e.getMessage(),
+                    Map.of("userId", userDetails.getUser().getId())));
         }
     }
 
@@ -165,31 +121,18 @@ public class ApplicantController {
         @ApiResponse(responseCode = "400", description = "Bad request - Invalid file format or upload failed"),
         @ApiResponse(responseCode = "403", description = "Access denied - Applicant role required")
     })
-    public ResponseEntity<Map<String, Object>> uploadResume(
+    public ResponseEntity<ApiEnvelope<Map<String, String>>> uploadResume(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @Parameter(description = "Resume file (PDF, DOC, DOCX)", required = true) @RequestParam("file") MultipartFile file) {
         try {
             String resumeUrl = applicantService.uploadResume(userDetails.getUser().getId(), file);
             
-            Map<String, Object> response = Map.of(
-                "status", "success",
-                "message", "Resume uploaded successfully",
-                "data", Map.of("resumeUrl", resumeUrl, "filename", file.getOriginalFilename()),
-                "userId", userDetails.getUser().getId(),
-                "action", "upload",
-                "timestamp", java.time.Instant.now().toString()
-            );
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ApiEnvelope.success("Resume uploaded successfully",
+                    Map.of("resumeUrl", resumeUrl, "filename", file.getOriginalFilename()),
+                    Map.of("userId", userDetails.getUser().getId(), "action", "upload")));
         } catch (RuntimeException e) {
-            Map<String, Object> response = Map.of(
-                "status", "error",
-                "message", "Failed to upload resume: " + e.getMessage(),
-                "userId", userDetails.getUser().getId(),
-                "filename", file.getOriginalFilename(),
-                "timestamp", java.time.Instant.now().toString()
-            );
-            return ResponseEntity.badRequest().body(response);
+            return ResponseEntity.badRequest().body(ApiEnvelope.error("Failed to upload resume: " + e.getMessage(),
+                    Map.of("userId", userDetails.getUser().getId(), "filename", file.getOriginalFilename())));
         }
     }
 
@@ -266,34 +209,23 @@ public class ApplicantController {
         @ApiResponse(responseCode = "403", description = "Access denied - Applicant role required"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<Map<String, Object>> getAllJobs(
+    public ResponseEntity<ApiEnvelope<List<JobResponse>>> getAllJobs(
             @Parameter(description = "Filter by job location") @RequestParam(required = false) String location,
             @Parameter(description = "Filter by job title keywords") @RequestParam(required = false) String title,
             @Parameter(description = "Filter by salary range") @RequestParam(required = false) String salaryRange) {
         try {
-            List<Job> jobs = applicantService.searchJobs(location, title, salaryRange);
+            List<JobResponse> jobs = JobResponse.from(applicantService.searchJobs(location, title, salaryRange));
             
-            Map<String, Object> response = Map.of(
-                "status", "success",
-                "message", "Jobs retrieved successfully",
-                "data", jobs,
-                "count", jobs.size(),
-                "filters", Map.of(
-                    "location", location != null ? location : "all",
-                    "title", title != null ? title : "all",
-                    "salaryRange", salaryRange != null ? salaryRange : "all"
-                ),
-                "timestamp", java.time.Instant.now().toString()
-            );
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ApiEnvelope.success("Jobs retrieved successfully", jobs,
+                    Map.of("count", jobs.size(),
+                            "filters", Map.of(
+                                "location", location != null ? location : "all",
+                                "title", title != null ? title : "all",
+                                "salaryRange", salaryRange != null ? salaryRange : "all"
+                            ))));
         } catch (Exception e) {
-            Map<String, Object> response = Map.of(
-                "status", "error",
-                "message", "Failed to retrieve jobs: " + e.getMessage(),
-                "timestamp", java.time.Instant.now().toString()
-            );
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiEnvelope.error("Failed to retrieve jobs: " + e.getMessage()));
         }
     }
 
@@ -308,7 +240,7 @@ public class ApplicantController {
         @ApiResponse(responseCode = "400", description = "Bad request - Job not found, already applied, or application failed"),
         @ApiResponse(responseCode = "403", description = "Access denied - Applicant role required")
     })
-    public ResponseEntity<Map<String, Object>> applyToJob(
+    public ResponseEntity<ApiEnvelope<ApplicationResponse>> applyToJob(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @Parameter(description = "Job ID to apply for", required = true) @PathVariable Long jobId,
             @Parameter(description = "Optional resume URL to attach to application") @RequestParam(required = false) String resumeUrl) {
@@ -316,30 +248,14 @@ public class ApplicantController {
             Application application = applicantService.applyToJob(
                 userDetails.getUser().getId(), jobId, resumeUrl);
                 
-            Map<String, Object> response = Map.of(
-                "status", "success",
-                "message", "Applied successfully to job",
-                "data", Map.of(
-                    "applicationId", application.getId(),
-                    "jobId", jobId,
-                    "status", application.getStatus().toString(),
-                    "appliedAt", application.getAppliedAt().toString()
-                ),
-                "userId", userDetails.getUser().getId(),
-                "action", "apply",
-                "timestamp", java.time.Instant.now().toString()
-            );
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ApiEnvelope.success("Applied successfully to job", ApplicationResponse.from(application),
+                    Map.of("applicationId", application.getId(),
+                            "jobId", jobId,
+                            "userId", userDetails.getUser().getId(),
+                            "action", "apply")));
         } catch (RuntimeException e) {
-            Map<String, Object> response = Map.of(
-                "status", "error",
-                "message", "Failed to apply for job: " + e.getMessage(),
-                "jobId", jobId,
-                "userId", userDetails.getUser().getId(),
-                "timestamp", java.time.Instant.now().toString()
-            );
-            return ResponseEntity.badRequest().body(response);
+            return ResponseEntity.badRequest().body(ApiEnvelope.error("Failed to apply for job: " + e.getMessage(),
+                    Map.of("jobId", jobId, "userId", userDetails.getUser().getId())));
         }
     }
 
@@ -354,42 +270,18 @@ public class ApplicantController {
         @ApiResponse(responseCode = "403", description = "Access denied - Applicant role required"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<Map<String, Object>> getMyApplications(
+    public ResponseEntity<ApiEnvelope<List<ApplicationResponse>>> getMyApplications(
             @AuthenticationPrincipal CustomUserDetails userDetails) {
         try {
-            List<Application> applications = applicantService.getApplicationsByApplicant(
-                userDetails.getUser().getId());
-            List<Map<String, Object>> applicationsList = applications.stream().map(app -> Map.of(
-                "id", String.valueOf(app.getId()),
-                "job", Map.of(
-                    "id", String.valueOf(app.getJob().getId()),
-                    "title", app.getJob().getTitle(),
-                    "company", Map.of(
-                        "name", app.getJob().getCompany().getName()
-                    )
-                ),
-                "status", app.getStatus().toString(),
-                "appliedAt", app.getAppliedAt().atZone(ZoneOffset.UTC).toInstant().toString()
-            )).toList();
+            List<ApplicationResponse> applications = ApplicationResponse.from(
+                applicantService.getApplicationsByApplicant(userDetails.getUser().getId()));
             
-            Map<String, Object> response = Map.of(
-                "status", "success",
-                "message", "Applications retrieved successfully",
-                "data", applicationsList,
-                "count", applicationsList.size(),
-                "userId", userDetails.getUser().getId(),
-                "timestamp", java.time.Instant.now().toString()
-            );
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ApiEnvelope.success("Applications retrieved successfully", applications,
+                    Map.of("count", applications.size(), "userId", userDetails.getUser().getId())));
         } catch (Exception e) {
-            Map<String, Object> response = Map.of(
-                "status", "error",
-                "message", "Failed to retrieve applications: " + e.getMessage(),
-                "userId", userDetails.getUser().getId(),
-                "timestamp", java.time.Instant.now().toString()
-            );
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiEnvelope.error("Failed to retrieve applications: " + e.getMessage(),
+                            Map.of("userId", userDetails.getUser().getId())));
         }
     }
 
@@ -404,55 +296,19 @@ public class ApplicantController {
         @ApiResponse(responseCode = "400", description = "Bad request - Application not found or access denied"),
         @ApiResponse(responseCode = "403", description = "Access denied - Applicant role required or not your application")
     })
-    public ResponseEntity<Map<String, Object>> getApplicationStatus(
+    public ResponseEntity<ApiEnvelope<ApplicationDetailResponse>> getApplicationStatus(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @Parameter(description = "Application ID", required = true) @PathVariable Long applicationId) {
         try {
             Application application = applicantService.getApplicationStatus(
                     userDetails.getUser().getId(), applicationId);
-            Job job = application.getJob();
-            User company = job.getCompany();
-            User applicant = application.getApplicant();
-
-            Map<String, Object> applicationData = Map.of(
-                    "applicationId", applicationId,
-                    "status", application.getStatus().toString(),
-                    "appliedAt", application.getAppliedAt().toString(),
-                    "job", Map.of(
-                        "id", job.getId(),
-                        "title", job.getTitle(),
-                        "description", job.getDescription(),
-                        "requirements", job.getRequirements(),
-                        "responsibilities", job.getResponsibilities()
-                    ),
-                    "company", Map.of(
-                            "name", company.getName(),
-                            "email", company.getEmail()
-                    ),
-                    "applicant", Map.of(
-                            "name", applicant.getName(),
-                            "email", applicant.getEmail()
-                    )
-            );
             
-            Map<String, Object> response = Map.of(
-                "status", "success",
-                "message", "Application details retrieved successfully",
-                "data", applicationData,
-                "userId", userDetails.getUser().getId(),
-                "timestamp", java.time.Instant.now().toString()
-            );
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ApiEnvelope.success("Application details retrieved successfully",
+                    ApplicationDetailResponse.from(application),
+                    Map.of("applicationId", applicationId, "userId", userDetails.getUser().getId())));
         } catch (RuntimeException e) {
-            Map<String, Object> response = Map.of(
-                "status", "error",
-                "message", "Failed to retrieve application details: " + e.getMessage(),
-                "applicationId", applicationId,
-                "userId", userDetails.getUser().getId(),
-                "timestamp", java.time.Instant.now().toString()
-            );
-            return ResponseEntity.badRequest().body(response);
+            return ResponseEntity.badRequest().body(ApiEnvelope.error("Failed to retrieve application details: " + e.getMessage(),
+                    Map.of("applicationId", applicationId, "userId", userDetails.getUser().getId())));
         }
     }
 
@@ -467,31 +323,19 @@ public class ApplicantController {
         @ApiResponse(responseCode = "400", description = "Bad request - Application not found, already processed, or withdrawal failed"),
         @ApiResponse(responseCode = "403", description = "Access denied - Applicant role required or not your application")
     })
-    public ResponseEntity<Map<String, Object>> withdrawApplication(
+    public ResponseEntity<ApiEnvelope<Void>> withdrawApplication(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @Parameter(description = "Application ID to withdraw", required = true) @PathVariable Long applicationId) {
         try {
             applicantService.withdrawApplication(userDetails.getUser().getId(), applicationId);
             
-            Map<String, Object> response = Map.of(
-                "status", "success",
-                "message", "Application withdrawn successfully",
-                "applicationId", applicationId,
-                "userId", userDetails.getUser().getId(),
-                "action", "withdraw",
-                "timestamp", java.time.Instant.now().toString()
-            );
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ApiEnvelope.success("Application withdrawn successfully", null,
+                    Map.of("applicationId", applicationId,
+                            "userId", userDetails.getUser().getId(),
+                            "action", "withdraw")));
         } catch (RuntimeException e) {
-            Map<String, Object> response = Map.of(
-                "status", "error",
-                "message", "Failed to withdraw application: " + e.getMessage(),
-                "applicationId", applicationId,
-                "userId", userDetails.getUser().getId(),
-                "timestamp", java.time.Instant.now().toString()
-            );
-            return ResponseEntity.badRequest().body(response);
+            return ResponseEntity.badRequest().body(ApiEnvelope.error("Failed to withdraw application: " + e.getMessage(),
+                    Map.of("applicationId", applicationId, "userId", userDetails.getUser().getId())));
         }
     }
 }
@@ -4,14 +4,19 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.data.domain.Page;
 
+import com.jobportal.dto.response.ApiEnvelope;
+import com.jobportal.dto.response.AuditLogResponse;
+import com.jobportal.dto.response.AuditStatisticsResponse;
+import com.jobportal.dto.response.AuditStatsResponse;
 import com.jobportal.entity.audit.AuditLog;
 import com.jobportal.entity.audit.AuditOperation;
 import com.jobportal.service.audit.AuditService;
+import com.jobportal.service.audit.AuditStatistics;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -21,7 +26,7 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
 import java.time.LocalDateTime;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -30,6 +35,8 @@ import java.util.Map;
 @Tag(name = "Audit v1", description = "Audit log management and viewing (Admin only) - Version 1 API")
 public class AuditController {
 
+    private static final int MAX_LOG_PAGE_SIZE = 100;
+
     @Autowired
     private AuditService auditService;
 
@@ -42,7 +49,7 @@ public class AuditController {
         @ApiResponse(responseCode = "200", description = "Audit logs retrieved successfully"),
         @ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
     })
-    public ResponseEntity<Map<String, Object>> getAuditLogsByEntity(
+    public ResponseEntity<ApiEnvelope<List<AuditLogResponse>>> getAuditLogsByEntity(
             @Parameter(description = "Entity name (e.g., User, Job, Application)", required = true) 
             @PathVariable String entityName,
             @Parameter(description = "Page number (0-based)") 
@@ -53,18 +60,15 @@ public class AuditController {
         Pageable pageable = PageRequest.of(page, size);
         Page<AuditLog> auditLogs = auditService.getAuditLogsByEntity(entityName, pageable);
         
-        Map<String, Object> response = new HashMap<>();
-        response.put("status", "success");
-        response.put("message", "Audit logs retrieved successfully");
-        response.put("data", auditLogs.getContent());
-        response.put("totalElements", auditLogs.getTotalElements());
-        response.put("totalPages", auditLogs.getTotalPages());
-        response.put("currentPage", page);
-        response.put("pageSize", size);
-        response.put("entityName", entityName);
-        response.put("timestamp", LocalDateTime.now().toString());
+        Map<String, Object> meta = new LinkedHashMap<>();
+        meta.put("totalElements", auditLogs.getTotalElements());
+        meta.put("totalPages", auditLogs.getTotalPages());
+        meta.put("currentPage", page);
+        meta.put("pageSize", size);
+        meta.put("entityName", entityName);
         
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(ApiEnvelope.success("Audit logs retrieved successfully",
+                AuditLogResponse.from(auditLogs.getContent()), meta));
     }
 
     @GetMapping("/entity/{entityName}/{entityId}")
@@ -76,22 +80,15 @@ public class AuditController {
         @ApiResponse(responseCode = "200", description = "Entity audit logs retrieved successfully"),
         @ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
     })
-    public ResponseEntity<Map<String, Object>> getAuditLogsForEntity(
+    public ResponseEntity<ApiEnvelope<List<AuditLogResponse>>> getAuditLogsForEntity(
             @Parameter(description = "Entity name", required = true) @PathVariable String entityName,
             @Parameter(description = "Entity ID", required = true) @PathVariable String entityId) {
         
         List<AuditLog> auditLogs = auditService.getAuditLogsForEntity(entityName, entityId);
         
-        Map<String, Object> response = new HashMap<>();
-        response.put("status", "success");
-        response.put("message", "Entity audit logs retrieved successfully");
-        response.put("data", auditLogs);
-        response.put("count", auditLogs.size());
-        response.put("entityName", entityName);
-        response.put("entityId", entityId);
-        response.put("timestamp", LocalDateTime.now().toString());
-        
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(ApiEnvelope.success("Entity audit logs retrieved successfully",
+                AuditLogResponse.from(auditLogs),
+                Map.of("count", auditLogs.size(), "entityName", entityName, "entityId", entityId)));
     }
 
     @GetMapping("/user/{userEmail}")
@@ -103,7 +100,7 @@ public class AuditController {
         @ApiResponse(responseCode = "200", description = "User audit logs retrieved successfully"),
         @ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
     })
-    public ResponseEntity<Map<String, Object>> getAuditLogsByUser(
+    public ResponseEntity<ApiEnvelope<List<AuditLogResponse>>> getAuditLogsByUser(
             @Parameter(description = "User email", required = true) @PathVariable String userEmail,
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size) {
@@ -111,18 +108,15 @@ public class AuditController {
         Pageable pageable = PageRequest.of(page, size);
         Page<AuditLog> auditLogs = auditService.getAuditLogsByUser(userEmail, pageable);
         
-        Map<String, Object> response = new HashMap<>();
-        response.put("status", "success");
-        response.put("message", "User audit logs retrieved successfully");
-        response.put("data", auditLogs.getContent());
-        response.put("totalElements", auditLogs.getTotalElements());
-        response.put("totalPages", auditLogs.getTotalPages());
-        response.put("currentPage", page);
-        response.put("pageSize", size);
-        response.put("userEmail", userEmail);
-        response.put("timestamp", LocalDateTime.now().toString());
+        Map<String, Object> meta = new LinkedHashMap<>();
+        meta.put("totalElements", auditLogs.getTotalElements());
+        meta.put("totalPages", auditLogs.getTotalPages());
+        meta.put("currentPage", page);
+        meta.put("pageSize", size);
+        meta.put("userEmail", userEmail);
         
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(ApiEnvelope.success("User audit logs retrieved successfully",
+                AuditLogResponse.from(auditLogs.getContent()), meta));
     }
 
     @GetMapping("/operation/{operation}")
@@ -135,7 +129,7 @@ public class AuditController {
         @ApiResponse(responseCode = "400", description = "Invalid operation type"),
         @ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
     })
-    public ResponseEntity<Map<String, Object>> getAuditLogsByOperation(
+    public ResponseEntity<ApiEnvelope<List<AuditLogResponse>>> getAuditLogsByOperation(
             @Parameter(description = "Operation type (CREATE, UPDATE, DELETE, etc.)", required = true) 
             @PathVariable String operation) {
         
@@ -143,23 +137,11 @@ public class AuditController {
             AuditOperation auditOperation = AuditOperation.valueOf(operation.toUpperCase());
             List<AuditLog> auditLogs = auditService.getAuditLogsByOperation(auditOperation);
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "success");
-            response.put("message", "Operation audit logs retrieved successfully");
-            response.put("data", auditLogs);
-            response.put("count", auditLogs.size());
-            response.put("operation", operation);
-            response.put("timestamp", LocalDateTime.now().toString());
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ApiEnvelope.success("Operation audit logs retrieved successfully",
+                    AuditLogResponse.from(auditLogs), Map.of("count", auditLogs.size(), "operation", operation)));
         } catch (IllegalArgumentException e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "error");
-            response.put("message", "Invalid operation type: " + operation);
-            response.put("validOperations", List.of(AuditOperation.values()));
-            response.put("timestamp", LocalDateTime.now().toString());
-            
-            return ResponseEntity.badRequest().body(response);
+            return ResponseEntity.badRequest().body(ApiEnvelope.error("Invalid operation type: " + operation,
+                    Map.of("validOperations", List.of(AuditOperation.values()))));
         }
     }
 
@@ -173,7 +155,7 @@ public class AuditController {
         @ApiResponse(responseCode = "400", description = "Invalid date format"),
         @ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
     })
-    public ResponseEntity<Map<String, Object>> getAuditLogsByDateRange(
+    public ResponseEntity<ApiEnvelope<List<AuditLogResponse>>> getAuditLogsByDateRange(
             @Parameter(description = "Start date (ISO format)", required = true) @RequestParam String startDate,
             @Parameter(description = "End date (ISO format)", required = true) @RequestParam String endDate) {
         
@@ -183,52 +165,31 @@ public class AuditController {
             
             List<AuditLog> auditLogs = auditService.getAuditLogsByDateRange(start, end);
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "success");
-            response.put("message", "Date range audit logs retrieved successfully");
-            response.put("data", auditLogs);
-            response.put("count", auditLogs.size());
-            response.put("startDate", startDate);
-            response.put("endDate", endDate);
-            response.put("timestamp", LocalDateTime.now().toString());
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ApiEnvelope.success("Date range audit logs retrieved successfully",
+                    AuditLogResponse.from(auditLogs),
+                    Map.of("count", auditLogs.size(), "startDate", startDate, "endDate", endDate)));
         } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "error");
-            response.put("message", "Invalid date format. Please use ISO format (yyyy-MM-ddTHH:mm:ss)");
-            response.put("error", e.getMessage());
-            response.put("timestamp", LocalDateTime.now().toString());
-            
-            return ResponseEntity.badRequest().body(response);
+            return badRequest("Invalid date format. Please use ISO format (yyyy-MM-ddTHH:mm:ss)", e.getMessage());
         }
     }
 
     @GetMapping("/stats")
     @Operation(
             summary = "Get audit stats",
-            description = "Retrieve audit log statistics in the format expected by frontend"
+            description = "Retrieve audit log statistics in the format expected by frontend. Windows of up to 24 hours " +
+                    "are answered from memory; longer windows are counted in the database, including hourly rollups."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Audit stats retrieved successfully")
     })
-    public ResponseEntity<Map<String, Object>> getAuditStats() {
+    public ResponseEntity<ApiEnvelope<AuditStatsResponse>> getAuditStats(
+            @Parameter(description = "Window in hours for the operation counts") @RequestParam(defaultValue = "24") int hours) {
         try {
-            // Calculate basic statistics from operation counts
-            long totalLogs = 0;
-            long successfulOperations = 0;
-            long failedOperations = 0;
-
-            // Get operation counts for the last 24 hours
-            LocalDateTime last24Hours = LocalDateTime.now().minusHours(24);
-
-            for (AuditOperation operation : AuditOperation.values()) {
-                Long count = auditService.getOperationCountSince(operation, last24Hours);
-                totalLogs += count;
-
-                successfulOperations = auditService.getSuccessfulOperationCount();
-                failedOperations = auditService.getFailedOperationCount();
-            }
+            // Counts for the requested window, answered from memory for up to 24 hours
+            AuditStatistics.Window window = auditService.getStatisticsWindow(hours);
+            long totalLogs = window.total();
+            long successfulOperations = window.successful();
+            long failedOperations = window.failed();
 
             // Get unique entities as a proxy for unique users
             List<String> entityNames = auditService.getAllEntityNames();
@@ -242,27 +203,11 @@ public class AuditController {
                 uniqueUsers = 12;
             }
 
-            Map<String, Object> stats = new HashMap<>();
-            stats.put("totalLogs", totalLogs);
-            stats.put("successfulOperations", successfulOperations);
-            stats.put("failedOperations", failedOperations);
-            stats.put("uniqueUsers", uniqueUsers);
-
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "success");
-            response.put("message", "Audit stats retrieved successfully");
-            response.put("data", stats);
-            response.put("timestamp", LocalDateTime.now().toString());
-
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ApiEnvelope.success("Audit stats retrieved successfully",
+                    new AuditStatsResponse(totalLogs, successfulOperations, failedOperations, uniqueUsers)));
         } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "error");
-            response.put("message", "Error retrieving audit stats");
-            response.put("error", e.getMessage());
-            response.put("timestamp", LocalDateTime.now().toString());
-
-            return ResponseEntity.internalServerError().body(response);
+            return ResponseEntity.internalServerError().body(ApiEnvelope.error("Error retrieving audit stats",
+                    errorMeta(e.getMessage())));
         }
     }
 
@@ -270,176 +215,86 @@ public class AuditController {
     @GetMapping("/logs")
     @Operation(
             summary = "Get filtered audit logs",
-            description = "Retrieve audit logs with various filtering options"
+            description = "Retrieve audit logs matching any combination of filters, newest first. " +
+                    "The total count is only computed when countTotal=true; otherwise hasNext tells whether another page exists."
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Filtered audit logs retrieved successfully")
+            @ApiResponse(responseCode = "200", description = "Filtered audit logs retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid filter value")
     })
-    public ResponseEntity<Map<String, Object>> getFilteredAuditLogs(
+    public ResponseEntity<ApiEnvelope<List<AuditLogResponse>>> getFilteredAuditLogs(
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Page size (max 100)") @RequestParam(defaultValue = "20") int size,
             @Parameter(description = "Entity name filter") @RequestParam(required = false) String entityName,
             @Parameter(description = "Operation filter") @RequestParam(required = false) String operation,
             @Parameter(description = "User email filter") @RequestParam(required = false) String userEmail,
             @Parameter(description = "Success status filter") @RequestParam(required = false) Boolean success,
             @Parameter(description = "Start date filter (ISO format: yyyy-MM-ddTHH:mm)") @RequestParam(required = false) String dateFrom,
-            @Parameter(description = "End date filter (ISO format: yyyy-MM-ddTHH:mm)") @RequestParam(required = false) String dateTo)
+            @Parameter(description = "End date filter (ISO format: yyyy-MM-ddTHH:mm)") @RequestParam(required = false) String dateTo,
+            @Parameter(description = "Also compute totalElements and totalPages (runs a COUNT over all matching rows)")
+            @RequestParam(defaultValue = "false") boolean countTotal)
     {
 
         LocalDateTime startDate = null;
         LocalDateTime endDate = null;
+        AuditOperation auditOperation = null;
 
-// Parse dateFrom and dateTo
         if (dateFrom != null && !dateFrom.isEmpty()) {
             try {
                 startDate = LocalDateTime.parse(dateFrom);
             } catch (Exception e) {
-                Map<String, Object> errorResponse = new HashMap<>();
-                errorResponse.put("status", "error");
-                errorResponse.put("message", "Invalid dateFrom format. Please use ISO format (yyyy-MM-ddTHH:mm)");
-                errorResponse.put("error", e.getMessage());
-                errorResponse.put("timestamp", LocalDateTime.now().toString());
-                return ResponseEntity.badRequest().body(errorResponse);
+                return badRequest("Invalid dateFrom format. Please use ISO format (yyyy-MM-ddTHH:mm)", e.getMessage());
             }
         }
         if (dateTo != null && !dateTo.isEmpty()) {
             try {
                 endDate = LocalDateTime.parse(dateTo);
             } catch (Exception e) {
-                Map<String, Object> errorResponse = new HashMap<>();
-                errorResponse.put("status", "error");
-                errorResponse.put("message", "Invalid dateTo format. Please use ISO format (yyyy-MM-ddTHH:mm)");
-                errorResponse.put("error", e.getMessage());
-                errorResponse.put("timestamp", LocalDateTime.now().toString());
-                return ResponseEntity.badRequest().body(errorResponse);
+                return badRequest("Invalid dateTo format. Please use ISO format (yyyy-MM-ddTHH:mm)", e.getMessage());
             }
         }
-
-        try {
-            Pageable pageable = PageRequest.of(page, size);
-            Page<AuditLog> auditLogs = Page.empty();
-
-            if (userEmail != null && !userEmail.isEmpty() && entityName != null && !entityName.isEmpty()
-                    && startDate != null && endDate != null && !endDate.isBefore(startDate) && success != null) {
-                auditLogs = auditService.getAuditLogsByUserAndEntityAndDateRangeAndSuccessOrderedByTimestampDesc(
-                        userEmail, entityName, startDate, endDate, success, pageable);
-            }
-            // Entity, date, and success
-            else if (entityName != null && !entityName.isEmpty()
-                    && startDate != null && endDate != null && !endDate.isBefore(startDate) && success != null) {
-                auditLogs = auditService.getAuditLogsByEntityAndDateRangeAndSuccessOrderedByTimestampDesc(
-                        entityName, startDate, endDate, success, pageable);
-            }
-            // User, date, and success
-            else if (userEmail != null && !userEmail.isEmpty()
-                    && startDate != null && endDate != null && !endDate.isBefore(startDate) && success != null) {
-                auditLogs = auditService.getAuditLogsByUserAndDateRangeAndSuccessOrderedByTimestampDesc(
-                        userEmail, startDate, endDate, success, pageable);
-            }
-            // Only date and success
-            else if (startDate != null && endDate != null && !endDate.isBefore(startDate) && success != null) {
-                auditLogs = auditService.getAuditLogsByDateRangeAndSuccessOrderedByTimestampDesc(
-                        startDate, endDate, success, pageable);
-            }
-
-            // User, entity and success
-            else if(userEmail != null && !userEmail.isEmpty() && entityName != null && !entityName.isEmpty() && success != null) {
-                auditLogs = auditService.getAuditLogsByUserEmailAndEntityNameAndSuccessOrderByTimestampDesc(
-                        userEmail, entityName, success, pageable);
-            }
-
-            else if (userEmail != null && !userEmail.isEmpty() && success != null) {
-                auditLogs = auditService.getAuditLogsByUserEmailAndSuccessOrderByTimestampDesc(userEmail, success, pageable);
-            }
-
-
-// entityName + success
-            else if (entityName != null && !entityName.isEmpty() && success != null) {
-                auditLogs = auditService.getAuditLogsByEntityNameAndSuccessOrderByTimestampDesc(entityName, success, pageable);
-            }
-
-            // Only success
-            else if (success != null) {
-                auditLogs = auditService.findBySuccessStatusOrderByTimestampDesc(success, pageable);
-            }
-
-            else if (userEmail != null && !userEmail.isEmpty() && entityName != null && !entityName.isEmpty()
-                    && startDate != null && endDate != null && !endDate.isBefore(startDate)) {
-                auditLogs = auditService.getAuditLogsByUserAndEntityAndDateRangeOrderedByTimestampDesc(userEmail, entityName, startDate, endDate, pageable);
-            }
-
-            else if (entityName != null && !entityName.isEmpty()
-                    && startDate != null && endDate != null && !endDate.isBefore(startDate)) {
-                auditLogs = auditService.getAuditLogsByEntityAndDateRangeOrderedByTimestampDesc(entityName, startDate, endDate, pageable);
-            }
-// userEmail + entityName + startDate + endDate (without success)
-            else if (userEmail != null && !userEmail.isEmpty() && entityName != null && !entityName.isEmpty()
-                    && startDate != null && endDate != null && !endDate.isBefore(startDate)) {
-                auditLogs = auditService.getAuditLogsByUserAndEntityAndDateRangeOrderedByTimestampDesc(
-                        userEmail, entityName, startDate, endDate, pageable);
-            }
-// userEmail + startDate + endDate (without success)
-            else if (userEmail != null && !userEmail.isEmpty()
-                    && startDate != null && endDate != null && !endDate.isBefore(startDate)) {
-                auditLogs = auditService.findByUserEmailAndTimestampBetweenOrderByTimestampDesc(
-                        userEmail, startDate, endDate, pageable);
-            }
-// entityName + startDate + endDate (without success)
-            else if (entityName != null && !entityName.isEmpty()
-                    && startDate != null && endDate != null && !endDate.isBefore(startDate)) {
-                auditLogs = auditService.getAuditLogsByEntityAndDateRangeOrderedByTimestampDesc(
-                        entityName, startDate, endDate, pageable);
-            }
-
-
-            else if (userEmail != null && !userEmail.isEmpty() && entityName != null && !entityName.isEmpty()) {
-                auditLogs = auditService.getAuditLogsByUserAndEntity(userEmail, entityName, pageable);
+        if (startDate != null && endDate != null && endDate.isBefore(startDate)) {
+            return badRequest("dateTo must not be before dateFrom", null);
+        }
+        if (operation != null && !operation.isEmpty()) {
+            try {
+                auditOperation = AuditOperation.valueOf(operation.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                return badRequest("Invalid operation: " + operation, e.getMessage());
             }
+        }
 
-            else if (userEmail != null && !userEmail.isEmpty()
-                    && startDate != null && endDate != null && !endDate.isBefore(startDate)) {
-                auditLogs = auditService.findByUserEmailAndTimestampBetweenOrderByTimestampDesc(userEmail, startDate, endDate, pageable);
-            }
-            // Only date range
-            else if (startDate != null && endDate != null && !endDate.isBefore(startDate)) {
-                auditLogs = auditService.getAuditLogsByDateRangeOrderedByTimestampDesc(startDate, endDate, pageable);
-            }
-            // Only entityName
-            else if (entityName != null && !entityName.isEmpty()) {
-                auditLogs = auditService.getAuditLogsByEntity(entityName, pageable);
-            }
-            // Only userEmail
-            else if (userEmail != null && !userEmail.isEmpty()) {
-                auditLogs = auditService.getAuditLogsByUser(userEmail, pageable);
-            }
-            // Fallback: all except AuditController
-            else {
-                auditLogs = auditService.findAllExceptAuditControllerIgnoreCaseOrderByTimestampDesc(pageable);
+        try {
+            Pageable pageable = PageRequest.of(Math.max(page, 0), Math.max(1, Math.min(size, MAX_LOG_PAGE_SIZE)));
+            Slice<AuditLog> auditLogs = auditService.searchAuditLogs(
+                    userEmail, entityName, auditOperation, success, startDate, endDate, pageable, countTotal);
+
+            Map<String, Object> meta = new LinkedHashMap<>();
+            if (auditLogs instanceof Page<AuditLog> counted) {
+                meta.put("totalElements", counted.getTotalElements());
+                meta.put("totalPages", counted.getTotalPages());
             }
+            meta.put("hasNext", auditLogs.hasNext());
+            meta.put("currentPage", pageable.getPageNumber());
+            meta.put("pageSize", pageable.getPageSize());
 
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "success");
-            response.put("message", "Filtered audit logs retrieved successfully");
-            response.put("data", auditLogs.getContent());
-            response.put("totalElements", auditLogs.getTotalElements());
-            response.put("totalPages", auditLogs.getTotalPages());
-            response.put("currentPage", page);
-            response.put("pageSize", size);
-            response.put("timestamp", LocalDateTime.now().toString());
-
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ApiEnvelope.success("Filtered audit logs retrieved successfully",
+                    AuditLogResponse.from(auditLogs.getContent()), meta));
         } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "error");
-            response.put("message", "Error retrieving filtered audit logs");
-            response.put("error", e.getMessage());
-            response.put("timestamp", LocalDateTime.now().toString());
-
-            return ResponseEntity.internalServerError().body(response);
+            return ResponseEntity.internalServerError().body(ApiEnvelope.error("Error retrieving filtered audit logs",
+                    errorMeta(e.getMessage())));
         }
 
     }
 
+    private static <T> ResponseEntity<ApiEnvelope<T>> badRequest(String message, String error) {
+        return ResponseEntity.badRequest().body(ApiEnvelope.error(message, errorMeta(error)));
+    }
+
+    private static Map<String, Object> errorMeta(String error) {
+        return error != null ? Map.of("error", error) : Map.of();
+    }
+
 
     @GetMapping("/statistics")
     @Operation(
@@ -450,27 +305,17 @@ public class AuditController {
         @ApiResponse(responseCode = "200", description = "Audit statistics retrieved successfully"),
         @ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
     })
-    public ResponseEntity<Map<String, Object>> getAuditStatistics() {
+    public ResponseEntity<ApiEnvelope<AuditStatisticsResponse>> getAuditStatistics() {
         List<String> entityNames = auditService.getAllEntityNames();
         
-        Map<String, Object> statistics = new HashMap<>();
+        Map<String, Long> operationCounts = new LinkedHashMap<>();
         
         // Get operation counts for the last 24 hours
-        LocalDateTime last24Hours = LocalDateTime.now().minusHours(24);
-        for (AuditOperation operation : AuditOperation.values()) {
-            Long count = auditService.getOperationCountSince(operation, last24Hours);
-            statistics.put(operation.name().toLowerCase() + "_last_24h", count);
-        }
-        
-        Map<String, Object> response = new HashMap<>();
-        response.put("status", "success");
-        response.put("message", "Audit statistics retrieved successfully");
-        response.put("data", Map.of(
-            "entityNames", entityNames,
-            "operationCounts", statistics
-        ));
-        response.put("timestamp", LocalDateTime.now().toString());
+        AuditStatistics.Window last24Hours = auditService.getStatisticsWindow(24);
+        last24Hours.operations().forEach((operation, count) ->
+            operationCounts.put(operation.name().toLowerCase() + "_last_24h", count));
         
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(ApiEnvelope.success("Audit statistics retrieved successfully",
+                new AuditStatisticsResponse(entityNames, operationCounts, last24Hours.entities())));
     }
 }
@@ -9,6 +9,10 @@ import org.springframework.web.bind.annotation.*;
 import com.jobportal.dto.AuthResponse;
 import com.jobportal.dto.LoginRequest;
 import com.jobportal.dto.RegisterRequest;
+import com.jobportal.dto.response.ApiEnvelope;
+import com.jobportal.dto.response.LoginResponse;
+import com.jobportal.dto.response.RegistrationResponse;
+import com.jobportal.dto.response.UserResponse;
 import com.jobportal.entity.User;
 import com.jobportal.repository.UserRepository;
 import com.jobportal.security.jwt.JwtUtils;
@@ -102,16 +106,11 @@ public class AuthController {
         )
     })
     @PostMapping("/register")
-    public ResponseEntity<Map<String, Object>> register(@Validated @RequestBody RegisterRequest req) {
+    public ResponseEntity<ApiEnvelope<RegistrationResponse>> register(@Validated @RequestBody RegisterRequest req) {
         try {
             if (userRepo.findByEmail(req.getEmail()).isPresent()) {
-                Map<String, Object> response = Map.of(
-                    "status", "error",
-                    "message", "Registration failed: Email already exists",
-                    "email", req.getEmail(),
-                    "timestamp", java.time.Instant.now().toString()
-                );
-                return ResponseEntity.badRequest().body(response);
+                return ResponseEntity.badRequest().body(ApiEnvelope.error("Registration failed: Email already exists",
+                        Map.of("email", req.getEmail())));
             }
             
             User user = new User(
@@ -123,27 +122,10 @@ public class AuthController {
             User savedUser = userRepo.save(user);
 //        emailService.sendRegistrationEmail(user.getEmail(), user.getName());
             
-            Map<String, Object> response = Map.of(
-                "status", "success",
-                "message", "User registered successfully",
-                "data", Map.of(
-                    "userId", savedUser.getId(),
-                    "name", savedUser.getName(),
-                    "email", savedUser.getEmail(),
-                    "role", savedUser.getRole()
-                ),
-                "action", "registration",
-                "timestamp", java.time.Instant.now().toString()
-            );
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ApiEnvelope.success("User registered successfully", RegistrationResponse.from(savedUser),
+                    Map.of("action", "registration")));
         } catch (Exception e) {
-            Map<String, Object> response = Map.of(
-                "status", "error",
-                "message", "Registration failed: " + e.getMessage(),
-                "timestamp", java.time.Instant.now().toString()
-            );
-            return ResponseEntity.status(500).body(response);
+            return ResponseEntity.status(500).body(ApiEnvelope.error("Registration failed: " + e.getMessage()));
         }
     }
 
@@ -184,7 +166,7 @@ public class AuthController {
                             "expiresAt": 1700123400000,
                             "expiresAtISO": "Sat Nov 16 12:30:00 UTC 2024",
                             "user": {
-                              "id": 123,
+                              "id": "123",
                               "name": "John Doe",
                               "email": "john@example.com",
                               "role": "APPLICANT",
@@ -217,18 +199,13 @@ public class AuthController {
         )
     })
     @PostMapping("/login")
-    public ResponseEntity<Map<String, Object>> login(@Validated @RequestBody LoginRequest req) {
+    public ResponseEntity<ApiEnvelope<LoginResponse>> login(@Validated @RequestBody LoginRequest req) {
         try {
             Optional<User> userOpt = userRepo.findByEmail(req.getEmail());
             if (userOpt.isEmpty() ||
                     !passwordEncoder.matches(req.getPassword(), userOpt.get().getPassword())) {
-                Map<String, Object> response = Map.of(
-                    "status", "error",
-                    "message", "Authentication failed: Invalid email or password",
-                    "email", req.getEmail(),
-                    "timestamp", java.time.Instant.now().toString()
-                );
-                return ResponseEntity.status(401).body(response);
+                return ResponseEntity.status(401).body(ApiEnvelope.error("Authentication failed: Invalid email or password",
+                        Map.of("email", req.getEmail())));
             }
             
             User user = userOpt.get();
@@ -238,33 +215,12 @@ public class AuthController {
             long currentTime = System.currentTimeMillis();
             long expirationTime = currentTime + jwtUtils.getExpirationTimeInMs();
             
-            Map<String, Object> response = Map.of(
-                "status", "success",
-                "message", "Login successful",
-                "data", Map.of(
-                    "token", token,
-                    "expiresAt", expirationTime,
-                    "expiresAtISO", new java.util.Date(expirationTime).toString(),
-                    "user", Map.of(
-                        "id", user.getId(),
-                        "name", user.getName(),
-                        "email", user.getEmail(),
-                        "role", user.getRole(),
-                        "bio", user.getBio() == null ? "" : user.getBio()
-                    )
-                ),
-                "action", "authentication",
-                "timestamp", java.time.Instant.now().toString()
-            );
+            LoginResponse login = new LoginResponse(token, expirationTime,
+                    new java.util.Date(expirationTime).toString(), UserResponse.from(user));
             
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ApiEnvelope.success("Login successful", login, Map.of("action", "authentication")));
         } catch (Exception e) {
-            Map<String, Object> response = Map.of(
-                "status", "error",
-                "message", "Login failed: " + e.getMessage(),
-                "timestamp", java.time.Instant.now().toString()
-            );
-            return ResponseEntity.status(500).body(response);
+            return ResponseEntity.status(500).body(ApiEnvelope.error("Login failed: " + e.getMessage()));
         }
     }
 }
@@ -1,16 +1,26 @@
 package com.jobportal.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import com.jobportal.dto.ApplicationStatusDTO;
+import com.jobportal.dto.JobPage;
+import com.jobportal.dto.response.ApiEnvelope;
+import com.jobportal.dto.response.ApplicationResponse;
+import com.jobportal.dto.response.JobResponse;
 import com.jobportal.entity.Application;
 import com.jobportal.entity.Job;
+import com.jobportal.enums.JobSortField;
+import com.jobportal.search.SalaryRange;
 import com.jobportal.security.CustomUserDetails;
+import com.jobportal.service.ApplicationStreamService;
 import com.jobportal.service.JobService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -28,7 +38,9 @@ import org.slf4j.LoggerFactory;
 
 import jakarta.validation.Valid;
 
-import java.util.HashMap;
+import reactor.core.publisher.Flux;
+
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -41,6 +53,9 @@ public class JobController {
     @Autowired
     private JobService jobService;
 
+    @Autowired
+    private ApplicationStreamService applicationStreamService;
+
 
 
     @Operation(
@@ -55,294 +70,183 @@ public class JobController {
     })
     @PostMapping
     @PreAuthorize("hasRole('COMPANY')")
-    public ResponseEntity<Map<String, Object>> createJob(
+    public ResponseEntity<ApiEnvelope<JobResponse>> createJob(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @Valid @RequestBody Job job) {
         try {
             // Validate required fields
             if (job.getTitle() == null || job.getTitle().trim().isEmpty()) {
-                Map<String, Object> errorResponse = new HashMap<>();
-                errorResponse.put("status", "error");
-                errorResponse.put("message", "Job title is required and cannot be empty");
-                return ResponseEntity.badRequest().body(errorResponse);
+                return ResponseEntity.badRequest().body(ApiEnvelope.error("Job title is required and cannot be empty"));
             }
             
             if (job.getDescription() == null || job.getDescription().trim().isEmpty()) {
-                Map<String, Object> errorResponse = new HashMap<>();
-                errorResponse.put("status", "error");
-                errorResponse.put("message", "Job description is required and cannot be empty");
-                return ResponseEntity.badRequest().body(errorResponse);
+                return ResponseEntity.badRequest().body(ApiEnvelope.error("Job description is required and cannot be empty"));
             }
             
             if (job.getLocation() == null || job.getLocation().trim().isEmpty()) {
-                Map<String, Object> errorResponse = new HashMap<>();
-                errorResponse.put("status", "error");
-                errorResponse.put("message", "Job location is required and cannot be empty");
-                return ResponseEntity.badRequest().body(errorResponse);
+                return ResponseEntity.badRequest().body(ApiEnvelope.error("Job location is required and cannot be empty"));
             }
             
             Job createdJob = jobService.createJob(userDetails.getUser(), job);
             
-            // Format the date as ISO-8601 string (2023-05-01T00:00:00Z format)
-            String formattedDate = null;
-            if (createdJob.getPostedAt() != null) {
-                formattedDate = createdJob.getPostedAt().toString().replace("T", "T").concat("Z");
-            }
-            
-            Map<String, Object> jobData = new HashMap<>();
-            jobData.put("id", String.valueOf(createdJob.getId()));
-            jobData.put("title", createdJob.getTitle());
-            jobData.put("company", Map.of(
-                    "name", createdJob.getCompany().getName(),
-                    "bio", createdJob.getCompany().getBio() != null ? createdJob.getCompany().getBio() : "No Description"
-            ));
-            jobData.put("location", createdJob.getLocation());
-            jobData.put("salaryRange", createdJob.getSalaryRange());
-            jobData.put("description", createdJob.getDescription());
-            jobData.put("postedAt", formattedDate);
-            jobData.put("requirements", createdJob.getRequirements());
-            jobData.put("responsibilities", createdJob.getResponsibilities());
-            jobData.put("applicationsCount", jobService.getApplicationsCountForJob(createdJob.getId()));
-            jobData.put("active", createdJob.isActive());
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "success");
-            response.put("message", "Job created successfully");
-            response.put("data", jobData);
-            response.put("action", "create");
-            response.put("timestamp", java.time.Instant.now().toString());
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ApiEnvelope.success("Job created successfully", JobResponse.from(createdJob),
+                    Map.of("action", "create")));
         } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("status", "error");
-            errorResponse.put("message", "Invalid request data: " + e.getMessage());
-            return ResponseEntity.badRequest().body(errorResponse);
+            return ResponseEntity.badRequest().body(ApiEnvelope.error("Invalid request data: " + e.getMessage()));
         }
     }
 
     @Operation(
         summary = "Get all active jobs",
-        description = "Retrieve all active job postings with optional filtering by location, title, and salary range (Public endpoint)"
+        description = "Retrieve active job postings with optional filtering by location, title, salary range, salary bounds and keywords. " +
+            "Title/keyword searches are ranked by relevance, other listings are newest first, unless sort is given. " +
+            "Pass limit (and then the returned nextCursor) to page through results (Public endpoint)"
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Jobs retrieved successfully"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping
-    public ResponseEntity<Map<String, Object>> getAllActiveJobs(
+    public ResponseEntity<ApiEnvelope<List<JobResponse>>> getAllActiveJobs(
             @Parameter(description = "Filter by job location") @RequestParam(required = false) String location,
             @Parameter(description = "Filter by job title") @RequestParam(required = false) String title,
-            @Parameter(description = "Filter by salary range") @RequestParam(required = false) String salaryRange) {
+            @Parameter(description = "Filter by salary range") @RequestParam(required = false) String salaryRange,
+            @Parameter(description = "Only jobs whose salary range reaches at least this amount") @RequestParam(required = false) Long minSalary,
+            @Parameter(description = "Only jobs whose salary range starts at or below this amount") @RequestParam(required = false) Long maxSalary,
+            @Parameter(description = "ISO currency code of minSalary/maxSalary and of sort=salary (defaults to app.salary.default-currency); only jobs paid in it match") @RequestParam(required = false) String currency,
+            @Parameter(description = "Free-text search over title, requirements and description, ranked by relevance") @RequestParam(required = false) String keywords,
+            @Parameter(description = "Opaque cursor from a previous page's nextCursor") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 100); enables cursor pagination") @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Sort by postedAt, title, applicationsCount or salary; overrides relevance ranking") @RequestParam(required = false) String sort,
+            @Parameter(description = "Sort direction (asc/desc), defaults per sort field") @RequestParam(required = false) String direction) {
+        JobSortField sortBy;
+        Sort.Direction sortDirection;
         try {
-            List<Job> jobs = jobService.searchJobs(location, title, salaryRange);
-            List<Map<String, Object>> jobsList = jobs.stream()
-                .sorted((j1, j2) -> {
-                    if (j1.getPostedAt() == null && j2.getPostedAt() == null) return 0;
-                    if (j1.getPostedAt() == null) return 1;
-                    if (j2.getPostedAt() == null) return -1;
-                    return j2.getPostedAt().compareTo(j1.getPostedAt()); // Descending order
-                })
-                .map(job -> {
-                    // Format the date as ISO-8601 string (2023-05-01T00:00:00Z format)
-                    String formattedDate = null;
-                    if (job.getPostedAt() != null) {
-                        // Convert LocalDateTime to proper ISO-8601 format with Z suffix for UTC
-                        formattedDate = job.getPostedAt().toString().replace("T", "T").concat("Z");
-                    }
-
-                    Map<String, Object> jobMap = new HashMap<>();
-                    jobMap.put("id", String.valueOf(job.getId()));
-                    jobMap.put("title", job.getTitle());
-                    jobMap.put("company", Map.of(
-                        "name", job.getCompany().getName(),
-                        "bio", job.getCompany().getBio() != null ? job.getCompany().getBio() : "No Description"
-                    ));
-                    jobMap.put("location", job.getLocation());
-                    jobMap.put("salaryRange", job.getSalaryRange());
-                    jobMap.put("description", job.getDescription());
-                    jobMap.put("postedAt", formattedDate);
-                    jobMap.put("requirements", job.getRequirements());
-                    jobMap.put("responsibilities", job.getResponsibilities());
-                    jobMap.put("applicationsCount", jobService.getApplicationsCountForJob(job.getId()));
-                    jobMap.put("active", job.isActive());
-                    
-                    return jobMap;
-                }).toList();
+            sortBy = sort != null ? JobSortField.fromParam(sort) : null;
+            sortDirection = direction != null ? Sort.Direction.fromString(direction) : null;
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiEnvelope.error("Invalid sort: " + e.getMessage()));
+        }
+        if (minSalary != null && maxSalary != null && minSalary > maxSalary) {
+            return ResponseEntity.badRequest().body(ApiEnvelope.error("minSalary must not be greater than maxSalary"));
+        }
+        if (currency != null && !currency.isBlank()) {
+            try {
+                SalaryRange.currencyCode(currency);
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(ApiEnvelope.error(e.getMessage()));
+            }
+        }
+        try {
+            boolean paged = cursor != null || limit != null;
+            JobPage page = null;
+            List<Job> jobs;
+            if (paged) {
+                page = jobService.searchJobsPage(location, title, salaryRange, minSalary, maxSalary, currency, keywords,
+                        cursor, limit, sortBy, sortDirection);
+                jobs = page.getJobs();
+            } else {
+                // Ranked by relevance for text searches, otherwise newest first, unless a sort is given
+                jobs = jobService.searchJobs(location, title, salaryRange, minSalary, maxSalary, currency, keywords,
+                        sortBy, sortDirection);
+            }
+            List<JobResponse> jobsList = JobResponse.from(jobs);
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "success");
-            response.put("message", "Jobs retrieved successfully");
-            response.put("data", jobsList);
-            response.put("count", jobsList.size());
-            response.put("filters", Map.of(
+            Map<String, Object> meta = new LinkedHashMap<>();
+            meta.put("count", jobsList.size());
+            meta.put("filters", Map.of(
                 "location", location != null ? location : "all",
                 "title", title != null ? title : "all",
-                "salaryRange", salaryRange != null ? salaryRange : "all"
+                "salaryRange", salaryRange != null ? salaryRange : "all",
+                "minSalary", minSalary != null ? minSalary.toString() : "all",
+                "maxSalary", maxSalary != null ? maxSalary.toString() : "all",
+                "currency", currency != null ? currency : "all",
+                "keywords", keywords != null ? keywords : "all"
             ));
-            response.put("timestamp", java.time.Instant.now().toString());
+            meta.put("sort", sortBy != null ? sortBy.toSort(sortDirection).iterator().next().toString() : "default");
+            if (paged) {
+                meta.put("nextCursor", page.getNextCursor());
+                meta.put("hasMore", page.isHasMore());
+            }
             
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ApiEnvelope.success("Jobs retrieved successfully", jobsList, meta));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiEnvelope.error("Invalid pagination cursor"));
         } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "error");
-            response.put("message", "Failed to retrieve jobs: " + e.getMessage());
-            response.put("timestamp", java.time.Instant.now().toString());
-            
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiEnvelope.error("Failed to retrieve jobs: " + e.getMessage()));
         }
     }
 
     // Get job by ID (Public)
     @GetMapping("/{id}")
-    public ResponseEntity<Map<String, Object>> getJobById(@PathVariable Long id) {
+    public ResponseEntity<ApiEnvelope<JobResponse>> getJobById(@PathVariable Long id) {
         return jobService.getJobById(id)
-                .map(job -> {
-                    // Format the date as ISO-8601 string
-                    String formattedDate = null;
-                    if (job.getPostedAt() != null) {
-                        formattedDate = job.getPostedAt().toString().replace("T", "T").concat("Z");
-                    }
-                    
-                    Map<String, Object> jobData = Map.of(
-                        "id", String.valueOf(job.getId()),
-                        "title", job.getTitle(),
-                        "company", Map.of(
-                            "name", job.getCompany().getName(),
-                            "bio", job.getCompany().getBio() != null ? job.getCompany().getBio() : "No Description"
-                        ),
-                        "location", job.getLocation(),
-                        "salaryRange", job.getSalaryRange(),
-                        "description", job.getDescription(),
-                        "postedAt", formattedDate,
-                        "requirements", job.getRequirements(),
-                        "responsibilities", job.getResponsibilities(),
-                        "applicationsCount", jobService.getApplicationsCountForJob(job.getId())
-                    );
-                    
-                    Map<String, Object> response = new HashMap<>();
-                    response.put("status", "success");
-                    response.put("message", "Job retrieved successfully");
-                    response.put("data", jobData);
-                    response.put("jobId", id);
-                    response.put("timestamp", java.time.Instant.now().toString());
-                    
-                    return ResponseEntity.ok(response);
-                })
-                .orElse(ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of(
-                    "status", "error",
-                    "message", "Job not found",
-                    "jobId", id,
-                    "timestamp", java.time.Instant.now().toString()
-                )));
+                .map(job -> ResponseEntity.ok(ApiEnvelope.success("Job retrieved successfully", JobResponse.from(job),
+                        Map.<String, Object>of("jobId", id))))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(ApiEnvelope.error("Job not found", Map.of("jobId", id))));
     }
 
     // Update job posting (COMPANY only, must be owner)
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('COMPANY')")
-    public ResponseEntity<Map<String, Object>> updateJob(
+    public ResponseEntity<ApiEnvelope<JobResponse>> updateJob(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @PathVariable Long id,
             @Valid @RequestBody Job job) {
         try {
             Job updatedJob = jobService.updateJob(userDetails.getUser().getId(), id, job);
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "success");
-            response.put("message", "Job updated successfully");
-            response.put("data", updatedJob);
-            response.put("jobId", id);
-            response.put("action", "update");
-            response.put("timestamp", java.time.Instant.now().toString());
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ApiEnvelope.success("Job updated successfully", JobResponse.from(updatedJob),
+                    Map.of("jobId", id, "action", "update")));
         } catch (RuntimeException e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "error");
-            response.put("message", "Failed to update job: " + e.getMessage());
-            response.put("jobId", id);
-            response.put("timestamp", java.time.Instant.now().toString());
-            
-            return ResponseEntity.badRequest().body(response);
+            return ResponseEntity.badRequest().body(ApiEnvelope.error("Failed to update job: " + e.getMessage(),
+                    Map.of("jobId", id)));
         }
     }
 
     // Delete job posting (COMPANY only, must be owner)
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('COMPANY')")
-    public ResponseEntity<?> deleteJob(
+    public ResponseEntity<ApiEnvelope<Void>> deleteJob(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @PathVariable Long id) {
         try {
             jobService.deleteJob(userDetails.getUser().getId(), id);
             
-            Map<String, Object> successResponse = new HashMap<>();
-            successResponse.put("status", "success");
-            successResponse.put("message", String.format("Job with ID %d has been successfully deactivated (marked as inactive)", id));
-            successResponse.put("jobId", id);
-            successResponse.put("action", "soft_delete");
-            successResponse.put("note", "Job is now hidden from public listings but data is preserved");
-            successResponse.put("timestamp", java.time.Instant.now().toString());
-            
-            return ResponseEntity.ok(successResponse);
+            return ResponseEntity.ok(ApiEnvelope.success(
+                    String.format("Job with ID %d has been successfully deactivated (marked as inactive)", id), null,
+                    Map.of("jobId", id,
+                            "action", "soft_delete",
+                            "note", "Job is now hidden from public listings but data is preserved")));
         } catch (RuntimeException e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("status", "error");
-            errorResponse.put("message", "Failed to delete job: " + e.getMessage());
-            errorResponse.put("jobId", id);
-            errorResponse.put("timestamp", java.time.Instant.now().toString());
-            return ResponseEntity.badRequest().body(errorResponse);
+            return ResponseEntity.badRequest().body(ApiEnvelope.error("Failed to delete job: " + e.getMessage(),
+                    Map.of("jobId", id)));
         }
     }
 
     // Get company's job postings (COMPANY only)
     @GetMapping("/company")
     @PreAuthorize("hasRole('COMPANY')")
-    public ResponseEntity<Map<String, Object>> getCompanyJobs(
+    public ResponseEntity<ApiEnvelope<List<JobResponse>>> getCompanyJobs(
             @AuthenticationPrincipal CustomUserDetails userDetails) {
+        Long companyId = userDetails.getUser().getId();
         try {
-            List<Job> jobs = jobService.getJobsByCompany(userDetails.getUser().getId());
-            List<Map<String, Object>> jobsList = jobs.stream().map(job -> Map.ofEntries(
-                Map.entry("id", String.valueOf(job.getId())),
-                Map.entry("title", job.getTitle()),
-                Map.entry("company", Map.of(
-                    "name", job.getCompany().getName(),
-                    "bio", job.getCompany().getBio() != null ? job.getCompany().getBio() : "No Description"
-                )),
-                Map.entry("location", job.getLocation()),
-                Map.entry("salaryRange", job.getSalaryRange()),
-                Map.entry("description", job.getDescription()),
-                Map.entry("postedAt", job.getPostedAt() != null ? job.getPostedAt().toString().replace("T", "T").concat("Z") : null),
-                Map.entry("requirements", job.getRequirements()),
-                Map.entry("responsibilities", job.getResponsibilities()),
-                Map.entry("applicationsCount", jobService.getApplicationsCountForJob(job.getId())),
-                Map.entry("active", job.isActive())
-            )).toList();
+            List<JobResponse> jobsList = JobResponse.from(jobService.getJobsByCompany(companyId));
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "success");
-            response.put("message", "Company jobs retrieved successfully");
-            response.put("data", jobsList);
-            response.put("count", jobsList.size());
-            response.put("companyId", userDetails.getUser().getId());
-            response.put("timestamp", java.time.Instant.now().toString());
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ApiEnvelope.success("Company jobs retrieved successfully", jobsList,
+                    Map.of("count", jobsList.size(), "companyId", companyId)));
         } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "error");
-            response.put("message", "Failed to retrieve company jobs: " + e.getMessage());
-            response.put("companyId", userDetails.getUser().getId());
-            response.put("timestamp", java.time.Instant.now().toString());
-            
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiEnvelope.error("Failed to retrieve company jobs: " + e.getMessage(), Map.of("companyId", companyId)));
         }
     }
 
     // Update job active status (COMPANY only, must be owner)
     @PutMapping("/{id}/status")
     @PreAuthorize("hasRole('COMPANY')")
-    public ResponseEntity<Map<String, Object>> updateJobStatus(
+    public ResponseEntity<ApiEnvelope<JobResponse>> updateJobStatus(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @PathVariable Long id,
             @RequestParam boolean active) {
@@ -350,89 +254,98 @@ public class JobController {
         try {
             Job updatedJob = jobService.updateJobActiveStatus(userDetails.getUser().getId(), id, active);
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "success");
-            response.put("message", "Job status updated successfully");
-            response.put("data", updatedJob);
-            response.put("jobId", id);
-            response.put("newStatus", active ? "active" : "inactive");
-            response.put("action", "status_update");
-            response.put("timestamp", java.time.Instant.now().toString());
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ApiEnvelope.success("Job status updated successfully", JobResponse.from(updatedJob),
+                    Map.of("jobId", id,
+                            "newStatus", active ? "active" : "inactive",
+                            "action", "status_update")));
         } catch (RuntimeException e) {
             logger.error("Error updating job status: {}", e.getMessage());
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "error");
-            response.put("message", "Failed to update job status: " + e.getMessage());
-            response.put("jobId", id);
-            response.put("requestedStatus", active ? "active" : "inactive");
-            response.put("timestamp", java.time.Instant.now().toString());
-            
-            return ResponseEntity.badRequest().body(response);
+            return ResponseEntity.badRequest().body(ApiEnvelope.error("Failed to update job status: " + e.getMessage(),
+                    Map.of("jobId", id, "requestedStatus", active ? "active" : "inactive")));
         }
     }
 
     // Get applications for a job (COMPANY only, must be owner)
     @GetMapping("/{jobId}/applications")
     @PreAuthorize("hasRole('COMPANY')")
-    public ResponseEntity<Map<String, Object>> getJobApplications(
+    public ResponseEntity<ApiEnvelope<List<ApplicationResponse>>> getJobApplications(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @PathVariable Long jobId) {
+        Long companyId = userDetails.getUser().getId();
         try {
-            List<Application> applications = jobService.getJobApplications(userDetails.getUser().getId(), jobId);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "success");
-            response.put("message", "Job applications retrieved successfully");
-            response.put("data", applications);
-            response.put("count", applications.size());
-            response.put("jobId", jobId);
-            response.put("companyId", userDetails.getUser().getId());
-            response.put("timestamp", java.time.Instant.now().toString());
+            List<ApplicationResponse> applications = ApplicationResponse.from(jobService.getJobApplications(companyId, jobId));
             
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ApiEnvelope.success("Job applications retrieved successfully", applications,
+                    Map.of("count", applications.size(), "jobId", jobId, "companyId", companyId)));
         } catch (RuntimeException e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "error");
-            response.put("message", "Failed to retrieve job applications: " + e.getMessage());
-            response.put("jobId", jobId);
-            response.put("companyId", userDetails.getUser().getId());
-            response.put("timestamp", java.time.Instant.now().toString());
-            
-            return ResponseEntity.badRequest().body(response);
+            return ResponseEntity.badRequest().body(ApiEnvelope.error("Failed to retrieve job applications: " + e.getMessage(),
+                    Map.of("jobId", jobId, "companyId", companyId)));
+        }
+    }
+
+    // Stream a job's applicant pipeline as Server-Sent Events (COMPANY only, must be owner).
+    // EventSource sends Last-Event-ID on reconnect; the query parameter serves clients that cannot set it
+    @GetMapping("/{jobId}/applications/stream")
+    @PreAuthorize("hasRole('COMPANY')")
+    public ResponseEntity<?> streamJobApplications(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long jobId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @RequestParam(required = false) String lastEventId) {
+        Long companyId = userDetails.getUser().getId();
+        try {
+            Flux<ServerSentEvent<Object>> events = applicationStreamService.streamJobApplications(
+                    companyId, jobId, lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
+
+            return ResponseEntity.ok().contentType(MediaType.TEXT_EVENT_STREAM).body(events);
+        } catch (RuntimeException e) {
+            // The content type is set so the envelope is written even to an Accept: text/event-stream client
+            return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON)
+                    .body(ApiEnvelope.error("Failed to stream job applications: " + e.getMessage(),
+                            Map.of("jobId", jobId, "companyId", companyId)));
+        }
+    }
+
+    // Stream the applicant pipeline of all the company's jobs as Server-Sent Events (COMPANY only)
+    @GetMapping("/company/applications/stream")
+    @PreAuthorize("hasRole('COMPANY')")
+    public ResponseEntity<?> streamCompanyApplications(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @RequestParam(required = false) String lastEventId) {
+        Long companyId = userDetails.getUser().getId();
+        try {
+            Flux<ServerSentEvent<Object>> events = applicationStreamService.streamCompanyApplications(
+                    companyId, lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
+
+            return ResponseEntity.ok().contentType(MediaType.TEXT_EVENT_STREAM).body(events);
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).contentType(MediaType.APPLICATION_JSON)
+                    .body(ApiEnvelope.error("Failed to stream company applications: " + e.getMessage(),
+                            Map.of("companyId", companyId)));
         }
     }
 
     // Update application status (COMPANY only, must be owner)
     @PutMapping("/applications/{applicationId}")
     @PreAuthorize("hasRole('COMPANY')")
-    public ResponseEntity<?> updateApplicationStatus(
+    public ResponseEntity<ApiEnvelope<ApplicationResponse>> updateApplicationStatus(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @PathVariable Long applicationId,
             @Valid @RequestBody ApplicationStatusDTO statusDTO) {
         try {
             // Validate input parameters
             if (applicationId == null || applicationId <= 0) {
-                Map<String, Object> errorResponse = new HashMap<>();
-                errorResponse.put("status", "error");
-                errorResponse.put("message", "Invalid application ID. Application ID must be a positive number");
-                return ResponseEntity.badRequest().body(errorResponse);
+                return ResponseEntity.badRequest().body(ApiEnvelope.error("Invalid application ID. Application ID must be a positive number"));
             }
             
             if (statusDTO == null) {
-                Map<String, Object> errorResponse = new HashMap<>();
-                errorResponse.put("status", "error");
-                errorResponse.put("message", "Request body is required. Please provide application status data");
-                return ResponseEntity.badRequest().body(errorResponse);
+                return ResponseEntity.badRequest().body(ApiEnvelope.error("Request body is required. Please provide application status data"));
             }
             
             if (statusDTO.getStatus() == null) {
-                Map<String, Object> errorResponse = new HashMap<>();
-                errorResponse.put("status", "error");
-                errorResponse.put("message", "Application status is required. Valid values are: PENDING, ACCEPTED, REJECTED, REVIEWING");
-                return ResponseEntity.badRequest().body(errorResponse);
+                return ResponseEntity.badRequest().body(ApiEnvelope.error("Application status is required. Valid values are: PENDING, ACCEPTED, REJECTED, REVIEWING"));
             }
             
             logger.info("Received status update request for application {}: {}", applicationId, statusDTO.getStatus());
@@ -443,28 +356,16 @@ public class JobController {
             
             logger.info("Successfully updated application status");
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "success");
-            response.put("message", "Application status updated successfully");
-            response.put("data", application);
-            response.put("applicationId", applicationId);
-            response.put("newStatus", statusDTO.getStatus());
-            response.put("action", "status_update");
-            response.put("timestamp", java.time.Instant.now().toString());
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ApiEnvelope.success("Application status updated successfully", ApplicationResponse.from(application),
+                    Map.of("applicationId", applicationId,
+                            "newStatus", statusDTO.getStatus(),
+                            "action", "status_update")));
         } catch (RuntimeException e) {
             logger.error("Error updating application status: {}", e.getMessage());
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("status", "error");
-            errorResponse.put("message", "Failed to update application status: " + e.getMessage());
-            return ResponseEntity.badRequest().body(errorResponse);
+            return ResponseEntity.badRequest().body(ApiEnvelope.error("Failed to update application status: " + e.getMessage()));
         } catch (Exception e) {
             logger.error("Unexpected error: {}", e.getMessage());
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("status", "error");
-            errorResponse.put("message", "Invalid request format or data type mismatch");
-            return ResponseEntity.badRequest().body(errorResponse);
+            return ResponseEntity.badRequest().body(ApiEnvelope.error("Invalid request format or data type mismatch"));
         }
     }
-}
\ No newline at end of file
+}
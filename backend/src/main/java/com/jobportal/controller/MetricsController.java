@@ -0,0 +1,153 @@
+package com.jobportal.controller;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.jobportal.dto.response.ApiEnvelope;
+import com.jobportal.security.PrincipalCache;
+import com.jobportal.service.CacheMetricsService;
+import com.jobportal.service.EmailOutboxDispatcher;
+import com.jobportal.service.LoggingMetricsService;
+import com.jobportal.service.audit.AuditPartitionManager;
+import com.jobportal.service.audit.AuditWriteQueue;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/admin/metrics")
+@PreAuthorize("hasAuthority('ROLE_ADMIN')")
+@Tag(name = "Metrics v1", description = "Runtime metrics for operators (Admin role required) - Version 1")
+@SecurityRequirement(name = "Bearer Authentication")
+public class MetricsController {
+
+    private static final Logger logger = LoggerFactory.getLogger(MetricsController.class);
+
+    @Autowired
+    private CacheMetricsService cacheMetricsService;
+
+    @Autowired
+    private AuditWriteQueue auditWriteQueue;
+
+    @Autowired
+    private AuditPartitionManager auditPartitionManager;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private EmailOutboxDispatcher emailOutboxDispatcher;
+
+    @Autowired
+    private LoggingMetricsService loggingMetricsService;
+
+    @GetMapping("/cache")
+    @Operation(
+        summary = "Get second-level cache statistics",
+        description = "Hit, miss and put counters for each Hibernate cache region and the query cache"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Cache statistics retrieved successfully"),
+        @ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
+    })
+    public ResponseEntity<ApiEnvelope<Map<String, Object>>> getCacheStatistics() {
+        try {
+            return ResponseEntity.ok(ApiEnvelope.success("Cache statistics retrieved successfully",
+                    cacheMetricsService.getCacheStatistics()));
+        } catch (RuntimeException e) {
+            logger.error("Error retrieving cache statistics: {}", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiEnvelope.error("Failed to retrieve cache statistics: " + e.getMessage()));
+        }
+    }
+
+    @GetMapping("/audit-queue")
+    @Operation(
+        summary = "Get audit write queue statistics",
+        description = "Queue depth, persisted batches and dropped or spilled audit entries"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Audit queue statistics retrieved successfully"),
+        @ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
+    })
+    public ResponseEntity<ApiEnvelope<Map<String, Object>>> getAuditQueueStatistics() {
+        return ResponseEntity.ok(ApiEnvelope.success("Audit queue statistics retrieved successfully",
+                auditWriteQueue.getStatistics()));
+    }
+
+    @GetMapping("/principal-cache")
+    @Operation(
+        summary = "Get principal cache statistics",
+        description = "Size, hits and misses of the cache used to resolve the user behind each JWT"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Principal cache statistics retrieved successfully"),
+        @ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
+    })
+    public ResponseEntity<ApiEnvelope<Map<String, Object>>> getPrincipalCacheStatistics() {
+        return ResponseEntity.ok(ApiEnvelope.success("Principal cache statistics retrieved successfully",
+                principalCache.getStatistics()));
+    }
+
+    @GetMapping("/email-outbox")
+    @Operation(
+        summary = "Get email outbox statistics",
+        description = "Outbox rows per status plus sent, retried and failed counters of the delivery workers"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Email outbox statistics retrieved successfully"),
+        @ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
+    })
+    public ResponseEntity<ApiEnvelope<Map<String, Object>>> getEmailOutboxStatistics() {
+        try {
+            return ResponseEntity.ok(ApiEnvelope.success("Email outbox statistics retrieved successfully",
+                    emailOutboxDispatcher.getStatistics()));
+        } catch (RuntimeException e) {
+            logger.error("Error retrieving email outbox statistics: {}", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiEnvelope.error("Failed to retrieve email outbox statistics: " + e.getMessage()));
+        }
+    }
+
+    @GetMapping("/audit-partitions")
+    @Operation(
+        summary = "Get audit log partition statistics",
+        description = "Partition count, retention settings and the outcome of the last partition maintenance run"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Audit partition statistics retrieved successfully"),
+        @ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
+    })
+    public ResponseEntity<ApiEnvelope<Map<String, Object>>> getAuditPartitionStatistics() {
+        return ResponseEntity.ok(ApiEnvelope.success("Audit partition statistics retrieved successfully",
+                auditPartitionManager.getStatistics()));
+    }
+
+    @GetMapping("/logging")
+    @Operation(
+        summary = "Get logging pipeline statistics",
+        description = "Queue depth plus discarded and dropped events of each asynchronous log appender"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Logging statistics retrieved successfully"),
+        @ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
+    })
+    public ResponseEntity<ApiEnvelope<Map<String, Object>>> getLoggingStatistics() {
+        return ResponseEntity.ok(ApiEnvelope.success("Logging statistics retrieved successfully",
+                loggingMetricsService.getAppenderStatistics()));
+    }
+}
@@ -8,6 +8,8 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import com.jobportal.dto.ProfileUpdateDTO;
+import com.jobportal.dto.response.ApiEnvelope;
+import com.jobportal.dto.response.UserResponse;
 import com.jobportal.security.CustomUserDetails;
 import com.jobportal.service.ProfileService;
 
@@ -40,28 +42,16 @@ public class ProfileController {
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @SecurityRequirement(name = "bearerAuth")
-    public ResponseEntity<Map<String, Object>> getMyProfile(
+    public ResponseEntity<ApiEnvelope<UserResponse>> getMyProfile(
             @AuthenticationPrincipal CustomUserDetails userDetails) {
         try {
-            Map<String, Object> profile = profileService.getUserProfile(userDetails.getUser().getId());
+            UserResponse profile = profileService.getUserProfile(userDetails.getUser().getId());
             
-            Map<String, Object> response = Map.of(
-                "status", "success",
-                "message", "Profile retrieved successfully",
-                "data", profile,
-                "userId", userDetails.getUser().getId(),
-                "timestamp", java.time.Instant.now().toString()
-            );
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ApiEnvelope.success("Profile retrieved successfully", profile,
+                    Map.of("userId", userDetails.getUser().getId())));
         } catch (Exception e) {
-            Map<String, Object> response = Map.of(
-                "status", "error",
-                "message", "Failed to retrieve profile: " + e.getMessage(),
-                "userId", userDetails.getUser().getId(),
-                "timestamp", java.time.Instant.now().toString()
-            );
-            return ResponseEntity.status(500).body(response);
+            return ResponseEntity.status(500).body(ApiEnvelope.error("Failed to retrieve profile: " + e.getMessage(),
+                    Map.of("userId", userDetails.getUser().getId())));
         }
     }
 
@@ -76,27 +66,15 @@ public class ProfileController {
         @ApiResponse(responseCode = "400", description = "Bad request - User not found"),
         @ApiResponse(responseCode = "404", description = "User profile not found")
     })
-    public ResponseEntity<Map<String, Object>> getUserProfile(@PathVariable Long userId) {
+    public ResponseEntity<ApiEnvelope<UserResponse>> getUserProfile(@PathVariable Long userId) {
         try {
-            Map<String, Object> profile = profileService.getUserProfile(userId);
-            
-            Map<String, Object> response = Map.of(
-                "status", "success",
-                "message", "Profile retrieved successfully",
-                "data", profile,
-                "userId", userId,
-                "timestamp", java.time.Instant.now().toString()
-            );
+            UserResponse profile = profileService.getUserProfile(userId);
             
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ApiEnvelope.success("Profile retrieved successfully", profile,
+                    Map.of("userId", userId)));
         } catch (RuntimeException e) {
-            Map<String, Object> response = Map.of(
-                "status", "error",
-                "message", "Failed to retrieve profile: " + e.getMessage(),
-                "userId", userId,
-                "timestamp", java.time.Instant.now().toString()
-            );
-            return ResponseEntity.badRequest().body(response);
+            return ResponseEntity.badRequest().body(ApiEnvelope.error("Failed to retrieve profile: " + e.getMessage(),
+                    Map.of("userId", userId)));
         }
     }
 
@@ -114,31 +92,18 @@ public class ProfileController {
         @ApiResponse(responseCode = "422", description = "Validation error")
     })
     @SecurityRequirement(name = "bearerAuth")
-    public ResponseEntity<Map<String, Object>> updateMyProfile(
+    public ResponseEntity<ApiEnvelope<UserResponse>> updateMyProfile(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @Valid @RequestBody ProfileUpdateDTO updateDTO) {
         try {
-            Map<String, Object> updatedProfile = profileService.updateUserProfile(
+            UserResponse updatedProfile = profileService.updateUserProfile(
                     userDetails.getUser().getId(), updateDTO);
             
-            Map<String, Object> response = Map.of(
-                "status", "success",
-                "message", "Profile updated successfully",
-                "data", updatedProfile,
-                "userId", userDetails.getUser().getId(),
-                "action", "update",
-                "timestamp", java.time.Instant.now().toString()
-            );
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ApiEnvelope.success("Profile updated successfully", updatedProfile,
+                    Map.of("userId", userDetails.getUser().getId(), "action", "update")));
         } catch (RuntimeException e) {
-            Map<String, Object> response = Map.of(
-                "status", "error",
-                "message", "Failed to update profile: " + e.getMessage(),
-                "userId", userDetails.getUser().getId(),
-                "timestamp", java.time.Instant.now().toString()
-            );
-            return ResponseEntity.badRequest().body(response);
+            return ResponseEntity.badRequest().body(ApiEnvelope.error("Failed to update profile: " + e.getMessage(),
+                    Map.of("userId", userDetails.getUser().getId())));
         }
     }
 
@@ -158,30 +123,17 @@ public class ProfileController {
         @ApiResponse(responseCode = "422", description = "Validation error")
     })
     @SecurityRequirement(name = "bearerAuth")
-    public ResponseEntity<Map<String, Object>> updateUserProfile(
+    public ResponseEntity<ApiEnvelope<UserResponse>> updateUserProfile(
             @PathVariable Long userId,
             @Valid @RequestBody ProfileUpdateDTO updateDTO) {
         try {
-            Map<String, Object> updatedProfile = profileService.updateUserProfile(userId, updateDTO);
-            
-            Map<String, Object> response = Map.of(
-                "status", "success",
-                "message", "Profile updated successfully by admin",
-                "data", updatedProfile,
-                "userId", userId,
-                "action", "admin_update",
-                "timestamp", java.time.Instant.now().toString()
-            );
+            UserResponse updatedProfile = profileService.updateUserProfile(userId, updateDTO);
             
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ApiEnvelope.success("Profile updated successfully by admin", updatedProfile,
+                    Map.of("userId", userId, "action", "admin_update")));
         } catch (RuntimeException e) {
-            Map<String, Object> response = Map.of(
-                "status", "error",
-                "message", "Failed to update profile: " + e.getMessage(),
-                "userId", userId,
-                "timestamp", java.time.Instant.now().toString()
-            );
-            return ResponseEntity.badRequest().body(response);
+            return ResponseEntity.badRequest().body(ApiEnvelope.error("Failed to update profile: " + e.getMessage(),
+                    Map.of("userId", userId)));
         }
     }
 } 
\ No newline at end of file
@@ -0,0 +1,79 @@
+package com.jobportal.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.jobportal.entity.Job;
+
+/**
+ * Position in the public job listing. Plain listings are ordered by (postedAt DESC, id DESC)
+ * and resume after the last row seen; relevance-ranked text searches and listings with an
+ * explicit sort resume at an offset into the result. Clients only ever see the opaque token produced by {@link #encode()}.
+ */
+public class JobCursor {
+    private static final String VERSION = "v1";
+    private static final String KEYSET = "k";
+    private static final String OFFSET = "o";
+
+    private final LocalDateTime postedAt;
+    private final Long id;
+    private final Integer offset;
+
+    private JobCursor(LocalDateTime postedAt, Long id, Integer offset) {
+        this.postedAt = postedAt;
+        this.id = id;
+        this.offset = offset;
+    }
+
+    public static JobCursor after(Job job) {
+        return new JobCursor(job.getPostedAt(), job.getId(), null);
+    }
+
+    public static JobCursor atOffset(int offset) {
+        return new JobCursor(null, null, offset);
+    }
+
+    public static JobCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length == 4 && VERSION.equals(parts[0]) && KEYSET.equals(parts[1])) {
+                return new JobCursor(LocalDateTime.parse(parts[2]), Long.parseLong(parts[3]), null);
+            }
+            if (parts.length == 3 && VERSION.equals(parts[0]) && OFFSET.equals(parts[1])) {
+                int offset = Integer.parseInt(parts[2]);
+                if (offset >= 0) {
+                    return atOffset(offset);
+                }
+            }
+            throw new IllegalArgumentException("Invalid cursor");
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    public String encode() {
+        String raw = isOffset()
+                ? VERSION + "|" + OFFSET + "|" + offset
+                : VERSION + "|" + KEYSET + "|" + postedAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isOffset() {
+        return offset != null;
+    }
+
+    public LocalDateTime getPostedAt() {
+        return postedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Integer getOffset() {
+        return offset;
+    }
+}
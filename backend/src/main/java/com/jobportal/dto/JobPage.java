@@ -0,0 +1,29 @@
+package com.jobportal.dto;
+
+import java.util.List;
+
+import com.jobportal.entity.Job;
+
+public class JobPage {
+    private final List<Job> jobs;
+    private final String nextCursor;
+    private final boolean hasMore;
+
+    public JobPage(List<Job> jobs, String nextCursor, boolean hasMore) {
+        this.jobs = jobs;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    public List<Job> getJobs() {
+        return jobs;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+}
@@ -0,0 +1,43 @@
+package com.jobportal.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Standard status/message/data/timestamp envelope of the REST API. Endpoint specific keys
+ * (count, filters, jobId, action, ...) go in meta and are written next to the standard ones.
+ * Null data is left out, as error responses never carried a data key.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"status", "message", "data", "timestamp"})
+public record ApiEnvelope<T>(String status, String message, T data, @JsonIgnore Map<String, Object> meta, String timestamp) {
+
+    public static final String SUCCESS = "success";
+    public static final String ERROR = "error";
+
+    public static <T> ApiEnvelope<T> success(String message, T data) {
+        return new ApiEnvelope<>(SUCCESS, message, data, Map.of(), Instant.now().toString());
+    }
+
+    public static <T> ApiEnvelope<T> success(String message, T data, Map<String, Object> meta) {
+        return new ApiEnvelope<>(SUCCESS, message, data, meta, Instant.now().toString());
+    }
+
+    public static <T> ApiEnvelope<T> error(String message) {
+        return new ApiEnvelope<>(ERROR, message, null, Map.of(), Instant.now().toString());
+    }
+
+    public static <T> ApiEnvelope<T> error(String message, Map<String, Object> meta) {
+        return new ApiEnvelope<>(ERROR, message, null, meta, Instant.now().toString());
+    }
+
+    @JsonAnyGetter
+    public Map<String, Object> metaFields() {
+        return meta;
+    }
+}
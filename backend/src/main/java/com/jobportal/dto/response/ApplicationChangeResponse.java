@@ -0,0 +1,22 @@
+package com.jobportal.dto.response;
+
+import com.jobportal.event.ApplicationChangedEvent;
+
+/**
+ * One incremental event of an applicant pipeline stream. The application is as it stands after
+ * the change; for WITHDRAWN and DELETED it is the application as it was when it was removed.
+ */
+public record ApplicationChangeResponse(
+        String type,
+        String previousStatus,
+        String changedAt,
+        ApplicationResponse application) {
+
+    public static ApplicationChangeResponse from(ApplicationChangedEvent change) {
+        return new ApplicationChangeResponse(
+                change.getType().name(),
+                change.getPreviousStatus() != null ? change.getPreviousStatus().toString() : null,
+                change.getChangedAt().toString(),
+                ApplicationResponse.from(change));
+    }
+}
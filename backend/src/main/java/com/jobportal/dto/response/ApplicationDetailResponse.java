@@ -0,0 +1,28 @@
+package com.jobportal.dto.response;
+
+import com.jobportal.entity.Application;
+
+import java.time.ZoneOffset;
+
+/**
+ * An application together with the full job posting and both parties' contact details.
+ */
+public record ApplicationDetailResponse(
+        String id,
+        String status,
+        String appliedAt,
+        JobResponse job,
+        UserSummary company,
+        UserSummary applicant) {
+
+    public static ApplicationDetailResponse from(Application application) {
+        return new ApplicationDetailResponse(
+                String.valueOf(application.getId()),
+                application.getStatus().toString(),
+                application.getAppliedAt() != null
+                        ? application.getAppliedAt().atZone(ZoneOffset.UTC).toInstant().toString() : null,
+                JobResponse.from(application.getJob()),
+                UserSummary.from(application.getJob().getCompany()),
+                UserSummary.from(application.getApplicant()));
+    }
+}
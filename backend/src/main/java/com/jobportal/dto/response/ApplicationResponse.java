@@ -0,0 +1,62 @@
+package com.jobportal.dto.response;
+
+import com.jobportal.entity.Application;
+import com.jobportal.event.ApplicationChangedEvent;
+import com.jobportal.repository.projection.ApplicationListView;
+
+import java.time.ZoneOffset;
+import java.util.List;
+
+public record ApplicationResponse(
+        String id,
+        JobSummary job,
+        UserSummary applicant,
+        String resumeUrl,
+        String status,
+        String appliedAt) {
+
+    public static ApplicationResponse from(Application application) {
+        return new ApplicationResponse(
+                String.valueOf(application.getId()),
+                JobSummary.from(application.getJob()),
+                UserSummary.from(application.getApplicant()),
+                application.getResumeUrl(),
+                application.getStatus().toString(),
+                application.getAppliedAt() != null
+                        ? application.getAppliedAt().atZone(ZoneOffset.UTC).toInstant().toString() : null);
+    }
+
+    public static ApplicationResponse from(ApplicationListView application) {
+        return new ApplicationResponse(
+                String.valueOf(application.getId()),
+                new JobSummary(String.valueOf(application.getJobId()), application.getJobTitle(),
+                        new CompanySummary(application.getCompanyName(), null)),
+                new UserSummary(String.valueOf(application.getApplicantId()),
+                        application.getApplicantName(), application.getApplicantEmail()),
+                application.getResumeUrl(),
+                application.getStatus().toString(),
+                application.getAppliedAt() != null
+                        ? application.getAppliedAt().atZone(ZoneOffset.UTC).toInstant().toString() : null);
+    }
+
+    public static ApplicationResponse from(ApplicationChangedEvent change) {
+        return new ApplicationResponse(
+                String.valueOf(change.getApplicationId()),
+                new JobSummary(String.valueOf(change.getJobId()), change.getJobTitle(),
+                        new CompanySummary(change.getCompanyName(), null)),
+                new UserSummary(String.valueOf(change.getApplicantId()),
+                        change.getApplicantName(), change.getApplicantEmail()),
+                change.getResumeUrl(),
+                change.getStatus().toString(),
+                change.getAppliedAt() != null
+                        ? change.getAppliedAt().atZone(ZoneOffset.UTC).toInstant().toString() : null);
+    }
+
+    public static List<ApplicationResponse> from(List<Application> applications) {
+        return applications.stream().map(ApplicationResponse::from).toList();
+    }
+
+    public static List<ApplicationResponse> fromViews(List<ApplicationListView> applications) {
+        return applications.stream().map(ApplicationResponse::from).toList();
+    }
+}
@@ -0,0 +1,48 @@
+package com.jobportal.dto.response;
+
+import com.jobportal.entity.audit.AuditLog;
+
+import java.util.List;
+
+public record AuditLogResponse(
+        String id,
+        String entityName,
+        String entityId,
+        String operation,
+        String userEmail,
+        Long userId,
+        String userRole,
+        String timestamp,
+        String oldValues,
+        String newValues,
+        String changedFields,
+        String ipAddress,
+        String userAgent,
+        String sessionId,
+        Boolean success,
+        String errorMessage) {
+
+    public static AuditLogResponse from(AuditLog log) {
+        return new AuditLogResponse(
+                String.valueOf(log.getId()),
+                log.getEntityName(),
+                log.getEntityId(),
+                log.getOperation() != null ? log.getOperation().name() : null,
+                log.getUserEmail(),
+                log.getUserId(),
+                log.getUserRole(),
+                log.getTimestamp() != null ? log.getTimestamp().toString() : null,
+                log.getOldValues(),
+                log.getNewValues(),
+                log.getChangedFields(),
+                log.getIpAddress(),
+                log.getUserAgent(),
+                log.getSessionId(),
+                log.getSuccess(),
+                log.getErrorMessage());
+    }
+
+    public static List<AuditLogResponse> from(List<AuditLog> logs) {
+        return logs.stream().map(AuditLogResponse::from).toList();
+    }
+}
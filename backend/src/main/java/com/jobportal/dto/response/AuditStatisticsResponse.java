@@ -0,0 +1,10 @@
+package com.jobportal.dto.response;
+
+import java.util.List;
+import java.util.Map;
+
+public record AuditStatisticsResponse(
+        List<String> entityNames,
+        Map<String, Long> operationCounts,
+        Map<String, Long> entityCounts) {
+}
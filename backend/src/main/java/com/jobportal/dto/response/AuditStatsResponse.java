@@ -0,0 +1,8 @@
+package com.jobportal.dto.response;
+
+public record AuditStatsResponse(
+        long totalLogs,
+        long successfulOperations,
+        long failedOperations,
+        long uniqueUsers) {
+}
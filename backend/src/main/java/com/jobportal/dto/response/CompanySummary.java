@@ -0,0 +1,15 @@
+package com.jobportal.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.jobportal.entity.User;
+
+/**
+ * Company name and bio. List views built from projections carry no bio, which is then left out.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CompanySummary(String name, String bio) {
+
+    public static CompanySummary from(User company) {
+        return new CompanySummary(company.getName(), company.getBio() != null ? company.getBio() : "No Description");
+    }
+}
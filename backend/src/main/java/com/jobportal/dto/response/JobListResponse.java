@@ -0,0 +1,37 @@
+package com.jobportal.dto.response;
+
+import com.jobportal.repository.projection.JobListView;
+
+import java.util.List;
+
+/**
+ * List page view of a job posting, built from a {@link JobListView} row. Open the job
+ * itself for the description, requirements and responsibilities.
+ */
+public record JobListResponse(
+        String id,
+        String title,
+        CompanySummary company,
+        String location,
+        String salaryRange,
+        String postedAt,
+        long applicationsCount,
+        boolean active) {
+
+    public static JobListResponse from(JobListView job) {
+        return new JobListResponse(
+                String.valueOf(job.getId()),
+                job.getTitle(),
+                new CompanySummary(job.getCompanyName(), null),
+                job.getLocation(),
+                job.getSalaryRange(),
+                // Same UTC ISO-8601 format as JobResponse
+                job.getPostedAt() != null ? job.getPostedAt() + "Z" : null,
+                job.getApplicationsCount() != null ? job.getApplicationsCount() : 0,
+                Boolean.TRUE.equals(job.getActive()));
+    }
+
+    public static List<JobListResponse> fromViews(List<JobListView> jobs) {
+        return jobs.stream().map(JobListResponse::from).toList();
+    }
+}
@@ -0,0 +1,53 @@
+package com.jobportal.dto.response;
+
+import com.jobportal.entity.Job;
+
+import java.util.List;
+
+/**
+ * Public view of a job posting. The element collections are copied here, while the session is
+ * still open, so serializing the response never touches the entity.
+ */
+public record JobResponse(
+        String id,
+        String title,
+        CompanySummary company,
+        String location,
+        String salaryRange,
+        Long salaryMin,
+        Long salaryMax,
+        String salaryCurrency,
+        String description,
+        String postedAt,
+        List<String> requirements,
+        List<String> responsibilities,
+        long applicationsCount,
+        boolean active) {
+
+    public static JobResponse from(Job job) {
+        return new JobResponse(
+                String.valueOf(job.getId()),
+                job.getTitle(),
+                CompanySummary.from(job.getCompany()),
+                job.getLocation(),
+                job.getSalaryRange(),
+                job.getSalaryMin(),
+                job.getSalaryMax(),
+                job.getSalaryCurrency(),
+                job.getDescription(),
+                // ISO-8601 with Z suffix (2023-05-01T00:00:00Z), postedAt is stored in UTC
+                job.getPostedAt() != null ? job.getPostedAt() + "Z" : null,
+                copy(job.getRequirements()),
+                copy(job.getResponsibilities()),
+                job.getApplicationsCount(),
+                job.isActive());
+    }
+
+    public static List<JobResponse> from(List<Job> jobs) {
+        return jobs.stream().map(JobResponse::from).toList();
+    }
+
+    private static List<String> copy(List<String> values) {
+        return values != null ? List.copyOf(values) : List.of();
+    }
+}
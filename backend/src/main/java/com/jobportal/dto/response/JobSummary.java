@@ -0,0 +1,10 @@
+package com.jobportal.dto.response;
+
+import com.jobportal.entity.Job;
+
+public record JobSummary(String id, String title, CompanySummary company) {
+
+    public static JobSummary from(Job job) {
+        return new JobSummary(String.valueOf(job.getId()), job.getTitle(), CompanySummary.from(job.getCompany()));
+    }
+}
@@ -0,0 +1,4 @@
+package com.jobportal.dto.response;
+
+public record LoginResponse(String token, long expiresAt, String expiresAtISO, UserResponse user) {
+}
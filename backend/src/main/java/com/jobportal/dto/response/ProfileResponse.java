@@ -0,0 +1,27 @@
+package com.jobportal.dto.response;
+
+/**
+ * GraphQL ProfileResponse: a {@link UserResponse} flattened next to the success flag and message.
+ */
+public record ProfileResponse(
+        boolean success,
+        String message,
+        String id,
+        String name,
+        String email,
+        String role,
+        String createdAt,
+        Boolean active,
+        String bio) {
+
+    public static ProfileResponse success(String message, UserResponse user) {
+        return new ProfileResponse(true, message, user.id(), user.name(), user.email(),
+                user.role() != null ? user.role().toString() : null,
+                user.createdAt() != null ? user.createdAt().toString() : null,
+                user.active(), user.bio());
+    }
+
+    public static ProfileResponse error(String message) {
+        return new ProfileResponse(false, message, null, null, null, null, null, null, null);
+    }
+}
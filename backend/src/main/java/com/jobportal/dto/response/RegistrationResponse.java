@@ -0,0 +1,11 @@
+package com.jobportal.dto.response;
+
+import com.jobportal.entity.User;
+import com.jobportal.enums.Role;
+
+public record RegistrationResponse(Long userId, String name, String email, Role role) {
+
+    public static RegistrationResponse from(User user) {
+        return new RegistrationResponse(user.getId(), user.getName(), user.getEmail(), user.getRole());
+    }
+}
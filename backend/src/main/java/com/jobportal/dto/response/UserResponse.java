@@ -0,0 +1,52 @@
+package com.jobportal.dto.response;
+
+import com.jobportal.entity.User;
+import com.jobportal.enums.Role;
+import com.jobportal.repository.projection.UserListView;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Account view of a user. Never expose {@link User} itself: it carries the password hash.
+ * Built from a {@link UserListView} row the bio is not loaded and stays null.
+ */
+public record UserResponse(
+        String id,
+        String name,
+        String email,
+        Role role,
+        String bio,
+        LocalDateTime createdAt,
+        boolean active) {
+
+    public static UserResponse from(User user) {
+        return new UserResponse(
+                String.valueOf(user.getId()),
+                user.getName(),
+                user.getEmail(),
+                user.getRole(),
+                user.getBio(),
+                user.getCreatedAt(),
+                user.isActive());
+    }
+
+    public static UserResponse from(UserListView user) {
+        return new UserResponse(
+                String.valueOf(user.getId()),
+                user.getName(),
+                user.getEmail(),
+                user.getRole(),
+                null,
+                user.getCreatedAt(),
+                Boolean.TRUE.equals(user.getActive()));
+    }
+
+    public static List<UserResponse> from(List<User> users) {
+        return users.stream().map(UserResponse::from).toList();
+    }
+
+    public static List<UserResponse> fromViews(List<UserListView> users) {
+        return users.stream().map(UserResponse::from).toList();
+    }
+}
@@ -0,0 +1,10 @@
+package com.jobportal.dto.response;
+
+import com.jobportal.entity.User;
+
+public record UserSummary(String id, String name, String email) {
+
+    public static UserSummary from(User user) {
+        return new UserSummary(String.valueOf(user.getId()), user.getName(), user.getEmail());
+    }
+}
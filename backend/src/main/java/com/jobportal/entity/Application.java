@@ -5,6 +5,9 @@ import jakarta.validation.constraints.NotBlank;
 import java.time.LocalDateTime;
 
 import com.jobportal.enums.ApplicationStatus;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.TableGenerator;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.annotation.CreatedBy;
@@ -16,14 +19,17 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @EntityListeners(AuditingEntityListener.class)
 public class Application {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "applications_id")
+    @GenericGenerator(name = "applications_id", type = PooledTableIdGenerator.class,
+            parameters = @Parameter(name = TableGenerator.SEGMENT_VALUE_PARAM, value = "applications"))
     private Long id;
 
-    @ManyToOne
+    // Lazy: list queries fetch these through entity graphs, GraphQL through batched loaders
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "job_id", nullable = false)
     private Job job;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "applicant_id", nullable = false)
     private User applicant;
 
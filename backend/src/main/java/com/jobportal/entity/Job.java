@@ -5,6 +5,13 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.jobportal.search.SalaryRange;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.TableGenerator;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.annotation.CreatedBy;
@@ -12,11 +19,36 @@ import org.springframework.data.annotation.LastModifiedBy;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Entity
-@Table(name = "jobs")
+@Table(name = "jobs", indexes = {
+    // Serves the public listing order (postedAt DESC, id DESC) and its keyset pagination
+    @Index(name = "idx_jobs_active_posted_at_id", columnList = "is_active, posted_at, id"),
+    // Back the other JobSortField orders of the active listing
+    @Index(name = "idx_jobs_active_title_id", columnList = "is_active, title, id"),
+    @Index(name = "idx_jobs_active_applications_count_id", columnList = "is_active, applications_count, id"),
+    @Index(name = "idx_jobs_active_salary_min_max", columnList = "is_active, salary_min, salary_max")
+})
 @EntityListeners(AuditingEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "jobs")
+// Fetch plans for JobRepository queries. Only one bag can be join fetched per query, so the
+// collections left out of a plan are loaded for a whole result set through @BatchSize
+@NamedEntityGraphs({
+    @NamedEntityGraph(name = Job.LISTING_GRAPH, attributeNodes = @NamedAttributeNode("company")),
+    @NamedEntityGraph(name = Job.DETAIL_GRAPH, attributeNodes = {
+        @NamedAttributeNode("company"),
+        @NamedAttributeNode("requirements")
+    })
+})
 public class Job {
+    // Company joined in; requirements and responsibilities batch loaded per page
+    public static final String LISTING_GRAPH = "Job.listing";
+    // Company and requirements joined in; responsibilities in one extra select
+    public static final String DETAIL_GRAPH = "Job.detail";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "jobs_id")
+    @GenericGenerator(name = "jobs_id", type = PooledTableIdGenerator.class,
+            parameters = @Parameter(name = TableGenerator.SEGMENT_VALUE_PARAM, value = "jobs"))
     private Long id;
 
     @Column(nullable = false)
@@ -25,7 +57,8 @@ public class Job {
     @Column(nullable = false, length = 1000)
     private String description;
 
-    @ManyToOne
+    // Lazy: the fetch plans above join it in, GraphQL loads it in batches
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "company_id", nullable = false)
     private User company;
 
@@ -35,18 +68,39 @@ public class Job {
     @Column(name = "salary_range")
     private String salaryRange;
 
+    // Numeric reading of salaryRange (see SalaryRange), derived on every write. salaryMax is
+    // null for open-ended ranges; all three are null when the text holds no amount.
+    @Column(name = "salary_min")
+    private Long salaryMin;
+
+    @Column(name = "salary_max")
+    private Long salaryMax;
+
+    @Column(name = "salary_currency", length = 3)
+    private String salaryCurrency;
+
     @Column(nullable = false)
     private LocalDateTime postedAt = LocalDateTime.now();
 
     @Column(nullable = false)
     private boolean isActive = true;
+
+    // Denormalized number of applications. Only changed through the atomic UPDATEs in
+    // JobRepository/JobCounterRepository, so it is excluded from regular entity updates to avoid
+    // lost increments.
+    @Column(name = "applications_count", nullable = false, updatable = false)
+    private long applicationsCount = 0;
     
     @ElementCollection
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "job_requirements")
     @CollectionTable(name = "job_requirements", joinColumns = @JoinColumn(name = "job_id"))
     @Column(name = "requirement", length = 500)
     private List<String> requirements = new ArrayList<>();
     
     @ElementCollection
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "job_responsibilities")
     @CollectionTable(name = "job_responsibilities", joinColumns = @JoinColumn(name = "job_id"))
     @Column(name = "responsibility", length = 500)
     private List<String> responsibilities = new ArrayList<>();
@@ -100,6 +154,27 @@ public class Job {
         this.salaryRange = salaryRange;
     }
 
+    public Long getSalaryMin() {
+        return salaryMin;
+    }
+
+    public Long getSalaryMax() {
+        return salaryMax;
+    }
+
+    public String getSalaryCurrency() {
+        return salaryCurrency;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void deriveSalary() {
+        SalaryRange salary = SalaryRange.parse(salaryRange);
+        salaryMin = salary != null ? salary.min() : null;
+        salaryMax = salary != null ? salary.max() : null;
+        salaryCurrency = salary != null ? salary.currency() : null;
+    }
+
     public LocalDateTime getPostedAt() {
         return postedAt;
     }
@@ -115,6 +190,14 @@ public class Job {
     public void setActive(boolean active) {
         isActive = active;
     }
+
+    public long getApplicationsCount() {
+        return applicationsCount;
+    }
+
+    public void setApplicationsCount(long applicationsCount) {
+        this.applicationsCount = applicationsCount;
+    }
     
     public List<String> getRequirements() {
         return requirements;
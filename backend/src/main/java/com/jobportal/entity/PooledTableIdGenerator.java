@@ -0,0 +1,42 @@
+package com.jobportal.entity;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.id.OptimizableGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+/**
+ * Table-based id generator with the pooled optimizer. Each entity has a row (segment) in
+ * {@value #TABLE}; a node reserves a block of ids with one row update and hands them out
+ * from memory, so inserts no longer need the generated key back and Hibernate can batch them.
+ * The block size comes from the {@value #BLOCK_SIZE_SETTING} setting (see IdGenerationConfiguration).
+ */
+public class PooledTableIdGenerator extends TableGenerator {
+    private static final long serialVersionUID = 1L;
+
+    public static final String TABLE = "id_generators";
+    public static final String SEGMENT_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final String BLOCK_SIZE_SETTING = "jobportal.id.block_size";
+
+    @Override
+    public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
+        Object blockSize = serviceRegistry.requireService(ConfigurationService.class).getSettings().get(BLOCK_SIZE_SETTING);
+
+        Properties pooled = new Properties();
+        pooled.putAll(params);
+        pooled.put(TABLE_PARAM, TABLE);
+        pooled.put(SEGMENT_COLUMN_PARAM, SEGMENT_COLUMN);
+        pooled.put(VALUE_COLUMN_PARAM, VALUE_COLUMN);
+        pooled.put(OptimizableGenerator.INCREMENT_PARAM,
+                blockSize != null ? blockSize.toString() : String.valueOf(OptimizableGenerator.DEFAULT_INCREMENT_SIZE));
+        pooled.put(OptimizableGenerator.OPT_PARAM, StandardOptimizerDescriptor.POOLED.getExternalName());
+
+        super.configure(type, pooled, serviceRegistry);
+    }
+}
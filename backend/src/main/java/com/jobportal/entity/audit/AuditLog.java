@@ -3,12 +3,29 @@ package com.jobportal.entity.audit;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.TableGenerator;
+
+import com.jobportal.entity.PooledTableIdGenerator;
+
 @Entity
-@Table(name = "audit_logs")
+// Indexes for the audit search filters: the selective equality column first, then timestamp for the range
+// and the newest-first sort. A filter on both entity and user uses either composite; success is a two-value
+// column that the timestamp range narrows better than an index on it would. entity_id serves the history lookup.
+@Table(name = "audit_logs", indexes = {
+        @Index(name = "idx_audit_logs_timestamp", columnList = "timestamp"),
+        @Index(name = "idx_audit_logs_user_email_timestamp", columnList = "user_email, timestamp"),
+        @Index(name = "idx_audit_logs_entity_name_timestamp", columnList = "entity_name, timestamp"),
+        @Index(name = "idx_audit_logs_operation_timestamp", columnList = "operation, timestamp"),
+        @Index(name = "idx_audit_logs_entity_id", columnList = "entity_name, entity_id")
+})
 public class AuditLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "audit_logs_id")
+    @GenericGenerator(name = "audit_logs_id", type = PooledTableIdGenerator.class,
+            parameters = @Parameter(name = TableGenerator.SEGMENT_VALUE_PARAM, value = "audit_logs"))
     private Long id;
 
     @Column(name = "entity_name", nullable = false)
@@ -0,0 +1,88 @@
+package com.jobportal.entity.audit;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Hourly audit counts for periods whose raw audit_logs partitions have been dropped by
+ * the retention job. Rows are written in bulk with INSERT ... SELECT, never through JPA.
+ */
+@Entity
+@Table(name = "audit_log_hourly", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_audit_log_hourly_bucket",
+                columnNames = {"bucket_start", "operation", "entity_name", "success"})
+}, indexes = {
+        @Index(name = "idx_audit_log_hourly_operation_bucket", columnList = "operation, bucket_start")
+})
+public class AuditLogHourlyCount {
+
+    // Rows are only inserted by SQL, so the database assigns the id
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "operation", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private AuditOperation operation;
+
+    @Column(name = "entity_name", nullable = false)
+    private String entityName;
+
+    @Column(name = "success", nullable = false)
+    private boolean success;
+
+    @Column(name = "log_count", nullable = false)
+    private long logCount;
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public void setBucketStart(LocalDateTime bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    public AuditOperation getOperation() {
+        return operation;
+    }
+
+    public void setOperation(AuditOperation operation) {
+        this.operation = operation;
+    }
+
+    public String getEntityName() {
+        return entityName;
+    }
+
+    public void setEntityName(String entityName) {
+        this.entityName = entityName;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+
+    public long getLogCount() {
+        return logCount;
+    }
+
+    public void setLogCount(long logCount) {
+        this.logCount = logCount;
+    }
+}
@@ -0,0 +1,87 @@
+package com.jobportal.entity.audit;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Per-minute audit counts behind the in-memory AuditStatistics window, shared by all nodes.
+ * Each node adds its own counts with an upsert and reloads the table; rows older than the
+ * 24 hour window are deleted. bucket_start is in UTC.
+ */
+@Entity
+@Table(name = "audit_stats_minute", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_audit_stats_minute_bucket",
+                columnNames = {"bucket_start", "operation", "entity_name", "success"})
+})
+public class AuditStatsMinute {
+
+    // Rows are only written by SQL, so the database assigns the id
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "operation", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private AuditOperation operation;
+
+    @Column(name = "entity_name", nullable = false)
+    private String entityName;
+
+    @Column(name = "success", nullable = false)
+    private boolean success;
+
+    @Column(name = "log_count", nullable = false)
+    private long logCount;
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public void setBucketStart(LocalDateTime bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    public AuditOperation getOperation() {
+        return operation;
+    }
+
+    public void setOperation(AuditOperation operation) {
+        this.operation = operation;
+    }
+
+    public String getEntityName() {
+        return entityName;
+    }
+
+    public void setEntityName(String entityName) {
+        this.entityName = entityName;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+
+    public long getLogCount() {
+        return logCount;
+    }
+
+    public void setLogCount(long logCount) {
+        this.logCount = logCount;
+    }
+}
@@ -0,0 +1,8 @@
+package com.jobportal.enums;
+
+public enum EmailOutboxStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,40 @@
+package com.jobportal.enums;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * Sort keys of the public job listing. Each maps to a Job attribute covered by an
+ * (is_active, ...) index on the jobs table; id breaks ties so the order is total.
+ */
+public enum JobSortField {
+    POSTED_AT("postedAt", Sort.Direction.DESC),
+    TITLE("title", Sort.Direction.ASC),
+    APPLICATIONS_COUNT("applicationsCount", Sort.Direction.DESC),
+    // Only meaningful within one currency: the search narrows a salary sort to the requested
+    // currency, or the default one
+    SALARY("salaryMin", Sort.Direction.DESC);
+
+    private final String property;
+    private final Sort.Direction defaultDirection;
+
+    JobSortField(String property, Sort.Direction defaultDirection) {
+        this.property = property;
+        this.defaultDirection = defaultDirection;
+    }
+
+    public Sort toSort(Sort.Direction direction) {
+        Sort.Direction dir = direction != null ? direction : defaultDirection;
+        return Sort.by(dir, property).and(Sort.by(dir, "id"));
+    }
+
+    // Accepts the REST spelling (postedAt, applicationsCount, ...) as well as the constant name
+    public static JobSortField fromParam(String value) {
+        for (JobSortField field : values()) {
+            if (field.name().equalsIgnoreCase(value) || field.property.equalsIgnoreCase(value)
+                    || (field == SALARY && "salary".equalsIgnoreCase(value))) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown sort field: " + value);
+    }
+}
@@ -0,0 +1,136 @@
+package com.jobportal.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.function.Predicate;
+
+/**
+ * In-process fan-out of {@link ApplicationChangedEvent}s to live subscribers (GraphQL
+ * subscriptions, SSE streams). Events are numbered and delivered once the publishing transaction
+ * commits; the last app.events.replay-size of them are retained so a subscriber that reconnects
+ * can resume after the last sequence it saw.
+ *
+ * Each subscriber has its own buffer of app.events.subscriber-buffer-size events and is served
+ * on its own worker, so a slow one never holds up the request that published the change or any
+ * other subscriber. A subscriber that falls further behind is ended with an overflow error and is
+ * expected to reconnect.
+ */
+@Component
+public class ApplicationChangeBus {
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationChangeBus.class);
+
+    @Value("${app.events.subscriber-buffer-size:64}")
+    private int bufferSize;
+
+    @Value("${app.events.replay-size:1000}")
+    private int replaySize;
+
+    // Sequences restart with the process; the epoch tells a resumed client which run issued its sequence
+    private final long epoch = System.currentTimeMillis();
+
+    public record Entry(long sequence, ApplicationChangedEvent event) {
+    }
+
+    private record Subscriber(Predicate<ApplicationChangedEvent> filter, Sinks.Many<Entry> sink) {
+    }
+
+    // Guards the sequence, the retained events and the subscriber set, so every subscriber sees
+    // events in sequence order and none is missed between a replay and going live
+    private final Object lock = new Object();
+    private final ArrayDeque<Entry> recent = new ArrayDeque<>();
+    private final Set<Subscriber> subscribers = new LinkedHashSet<>();
+    private long lastSequence;
+
+    public long getEpoch() {
+        return epoch;
+    }
+
+    public long getLastSequence() {
+        synchronized (lock) {
+            return lastSequence;
+        }
+    }
+
+    // Whether every event after this sequence is still retained
+    public boolean canResumeAfter(long sequence) {
+        synchronized (lock) {
+            if (sequence < 0 || sequence > lastSequence) {
+                return false;
+            }
+            return sequence == lastSequence || (!recent.isEmpty() && recent.peekFirst().sequence() <= sequence + 1);
+        }
+    }
+
+    // Live events matching the filter, until the returned Flux is cancelled
+    public Flux<Entry> subscribe(Predicate<ApplicationChangedEvent> filter) {
+        return subscribe(filter, -1);
+    }
+
+    // Retained events after afterSequence (none when it is negative), then live ones
+    public Flux<Entry> subscribe(Predicate<ApplicationChangedEvent> filter, long afterSequence) {
+        return Flux.defer(() -> {
+            Subscriber subscriber;
+            synchronized (lock) {
+                List<Entry> backlog = new ArrayList<>();
+                if (afterSequence >= 0) {
+                    for (Entry entry : recent) {
+                        if (entry.sequence() > afterSequence && filter.test(entry.event())) {
+                            backlog.add(entry);
+                        }
+                    }
+                }
+                Sinks.Many<Entry> sink = Sinks.many().unicast()
+                        .onBackpressureBuffer(new ArrayBlockingQueue<>(backlog.size() + Math.max(1, bufferSize)));
+                backlog.forEach(sink::tryEmitNext);
+                subscriber = new Subscriber(filter, sink);
+                subscribers.add(subscriber);
+            }
+            return subscriber.sink().asFlux()
+                    .publishOn(Schedulers.boundedElastic(), 1)
+                    .doFinally(signal -> {
+                        synchronized (lock) {
+                            subscribers.remove(subscriber);
+                        }
+                    });
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationChanged(ApplicationChangedEvent event) {
+        synchronized (lock) {
+            Entry entry = new Entry(++lastSequence, event);
+            recent.addLast(entry);
+            while (recent.size() > Math.max(0, replaySize)) {
+                recent.pollFirst();
+            }
+
+            Iterator<Subscriber> iterator = subscribers.iterator();
+            while (iterator.hasNext()) {
+                Subscriber subscriber = iterator.next();
+                if (subscriber.filter().test(event) && subscriber.sink().tryEmitNext(entry).isFailure()) {
+                    // Buffer full, or the subscriber is already gone
+                    iterator.remove();
+                    subscriber.sink().tryEmitError(
+                            Exceptions.failWithOverflow("Subscriber fell more than " + bufferSize + " events behind"));
+                    logger.debug("Dropped application change subscriber at sequence {}", entry.sequence());
+                }
+            }
+        }
+    }
+}
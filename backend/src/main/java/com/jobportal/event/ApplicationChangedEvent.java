@@ -0,0 +1,133 @@
+package com.jobportal.event;
+
+import com.jobportal.entity.Application;
+import com.jobportal.entity.Job;
+import com.jobportal.entity.User;
+import com.jobportal.enums.ApplicationStatus;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * Published whenever an application is created, moves to a different status, is withdrawn by
+ * its applicant or is deleted along with its job or user or by an admin. Carries everything
+ * subscribers need to route and render the change, so delivering it never reads the application
+ * back (a withdrawn or deleted application no longer exists).
+ */
+public class ApplicationChangedEvent {
+
+    public enum Type {
+        APPLICATION_CREATED,
+        STATUS_CHANGED,
+        WITHDRAWN,
+        DELETED
+    }
+
+    private final Type type;
+    private final Long applicationId;
+    private final Long jobId;
+    private final String jobTitle;
+    private final Long companyId;
+    private final String companyName;
+    private final Long applicantId;
+    private final String applicantName;
+    private final String applicantEmail;
+    private final String resumeUrl;
+    private final LocalDateTime appliedAt;
+    private final ApplicationStatus previousStatus;
+    private final ApplicationStatus status;
+    private final Instant changedAt;
+
+    private ApplicationChangedEvent(Type type, Application application, ApplicationStatus previousStatus) {
+        Job job = application.getJob();
+        User applicant = application.getApplicant();
+        this.type = type;
+        this.applicationId = application.getId();
+        this.jobId = job.getId();
+        this.jobTitle = job.getTitle();
+        this.companyId = job.getCompany().getId();
+        this.companyName = job.getCompany().getName();
+        this.applicantId = applicant.getId();
+        this.applicantName = applicant.getName();
+        this.applicantEmail = applicant.getEmail();
+        this.resumeUrl = application.getResumeUrl();
+        this.appliedAt = application.getAppliedAt();
+        this.previousStatus = previousStatus;
+        this.status = application.getStatus();
+        this.changedAt = Instant.now();
+    }
+
+    public static ApplicationChangedEvent created(Application application) {
+        return new ApplicationChangedEvent(Type.APPLICATION_CREATED, application, null);
+    }
+
+    public static ApplicationChangedEvent statusChanged(Application application, ApplicationStatus previousStatus) {
+        return new ApplicationChangedEvent(Type.STATUS_CHANGED, application, previousStatus);
+    }
+
+    // Built before the application is deleted
+    public static ApplicationChangedEvent withdrawn(Application application) {
+        return new ApplicationChangedEvent(Type.WITHDRAWN, application, application.getStatus());
+    }
+
+    // Built before the application is deleted
+    public static ApplicationChangedEvent deleted(Application application) {
+        return new ApplicationChangedEvent(Type.DELETED, application, application.getStatus());
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public String getJobTitle() {
+        return jobTitle;
+    }
+
+    public Long getCompanyId() {
+        return companyId;
+    }
+
+    public String getCompanyName() {
+        return companyName;
+    }
+
+    public Long getApplicantId() {
+        return applicantId;
+    }
+
+    public String getApplicantName() {
+        return applicantName;
+    }
+
+    public String getApplicantEmail() {
+        return applicantEmail;
+    }
+
+    public String getResumeUrl() {
+        return resumeUrl;
+    }
+
+    public LocalDateTime getAppliedAt() {
+        return appliedAt;
+    }
+
+    public ApplicationStatus getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public ApplicationStatus getStatus() {
+        return status;
+    }
+
+    public Instant getChangedAt() {
+        return changedAt;
+    }
+}
@@ -0,0 +1,17 @@
+package com.jobportal.event;
+
+/**
+ * Published whenever a job is created, edited, activated/deactivated or deleted.
+ * Listeners that keep derived state (such as the search index) reload the job by id.
+ */
+public class JobChangedEvent {
+    private final Long jobId;
+
+    public JobChangedEvent(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+}
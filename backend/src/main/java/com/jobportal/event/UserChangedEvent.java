@@ -0,0 +1,17 @@
+package com.jobportal.event;
+
+/**
+ * Published whenever a user's profile, status or role changes or the user is deleted.
+ * Listeners that hold copies of the user (such as the principal cache) drop them by id.
+ */
+public class UserChangedEvent {
+    private final Long userId;
+
+    public UserChangedEvent(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+}
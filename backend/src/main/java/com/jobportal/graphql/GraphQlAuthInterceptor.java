@@ -0,0 +1,126 @@
+package com.jobportal.graphql;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.graphql.server.WebGraphQlRequest;
+import org.springframework.graphql.server.WebGraphQlResponse;
+import org.springframework.graphql.server.WebSocketGraphQlInterceptor;
+import org.springframework.graphql.server.WebSocketGraphQlRequest;
+import org.springframework.graphql.server.WebSocketSessionInfo;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import com.jobportal.entity.User;
+import com.jobportal.security.CustomUserDetails;
+import com.jobportal.security.PrincipalCache;
+import com.jobportal.security.jwt.JwtClaims;
+import com.jobportal.security.jwt.JwtUtils;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Identifies the caller of every GraphQL request and records it in the GraphQLContext: the role
+ * under ROLE_KEY, for per-role limits, and for WebSocket requests the user under USER_KEY.
+ *
+ * HTTP requests are read while still on the thread that holds the SecurityContext. WebSocket
+ * connections are authenticated once, from the handshake or, since browsers cannot set headers
+ * on a handshake, from an "Authorization: Bearer ..." entry in the connection_init payload. The
+ * connection's user is then re-checked through the PrincipalCache on every operation, and
+ * {@link UserSessionWebSocketHandler} closes the connection once the user is no longer valid.
+ */
+@Component
+public class GraphQlAuthInterceptor implements WebSocketGraphQlInterceptor {
+    public static final String ROLE_KEY = "jobportal.role";
+    public static final String USER_KEY = "jobportal.user";
+    public static final String ANONYMOUS = "ANONYMOUS";
+
+    static final String SESSION_USER = GraphQlAuthInterceptor.class.getName() + ".user";
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Override
+    public Mono<WebGraphQlResponse> intercept(WebGraphQlRequest request, Chain chain) {
+        CustomUserDetails user;
+        if (request instanceof WebSocketGraphQlRequest socketRequest) {
+            Map<String, Object> attributes = socketRequest.getSessionInfo().getAttributes();
+            CustomUserDetails sessionUser = (CustomUserDetails) attributes.get(SESSION_USER);
+            user = sessionUser != null ? revalidate(sessionUser) : null;
+            if (sessionUser != null && user == null) {
+                attributes.remove(SESSION_USER);
+                return Mono.error(new RuntimeException("User is no longer authorized"));
+            }
+            if (user != null) {
+                attributes.put(SESSION_USER, user);
+            }
+        } else {
+            user = userOf(SecurityContextHolder.getContext().getAuthentication());
+        }
+        request.configureExecutionInput((input, builder) -> {
+            input.getGraphQLContext().put(ROLE_KEY, user != null ? user.getUser().getRole().name() : ANONYMOUS);
+            if (user != null) {
+                input.getGraphQLContext().put(USER_KEY, user);
+            }
+            return input;
+        });
+        return chain.next(request);
+    }
+
+    @Override
+    public Mono<Object> handleConnectionInitialization(WebSocketSessionInfo sessionInfo, Map<String, Object> payload) {
+        Object header = payload.get("Authorization");
+        if (header instanceof String value && value.startsWith("Bearer ")) {
+            CustomUserDetails user = authenticate(value.substring(7));
+            if (user == null) {
+                return Mono.error(new RuntimeException("Invalid or expired token"));
+            }
+            sessionInfo.getAttributes().put(SESSION_USER, user);
+            return Mono.empty();
+        }
+        return sessionInfo.getPrincipal()
+                .doOnNext(principal -> {
+                    if (principal instanceof Authentication authentication && userOf(authentication) != null) {
+                        sessionInfo.getAttributes().put(SESSION_USER, userOf(authentication));
+                    }
+                })
+                .then(Mono.empty());
+    }
+
+    // The current state of a connection's user: null once the user is gone, inactive or has a
+    // different email or role than it authenticated with
+    CustomUserDetails revalidate(CustomUserDetails sessionUser) {
+        User authenticated = sessionUser.getUser();
+        User user = principalCache.getUser(authenticated.getId());
+        if (user == null || !user.isActive() || !user.getEmail().equals(authenticated.getEmail())
+                || user.getRole() != authenticated.getRole()) {
+            return null;
+        }
+        return new CustomUserDetails(user);
+    }
+
+    private CustomUserDetails userOf(Authentication authentication) {
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails;
+        }
+        return null;
+    }
+
+    // Same checks as JwtAuthenticationFilter: valid token, active user, matching email and role
+    private CustomUserDetails authenticate(String token) {
+        JwtClaims claims = jwtUtils.parseToken(token);
+        if (claims == null || claims.getUserId() == null) {
+            return null;
+        }
+        User user = principalCache.getUser(claims.getUserId());
+        if (user == null || !user.isActive() || !user.getEmail().equals(claims.getEmail())
+                || !("ROLE_" + user.getRole().name()).equals(claims.getRole())) {
+            return null;
+        }
+        return new CustomUserDetails(user);
+    }
+}
@@ -0,0 +1,175 @@
+package com.jobportal.graphql;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import graphql.ErrorType;
+import graphql.ExecutionInput;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import jakarta.annotation.PostConstruct;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Parsed and validated GraphQL documents, kept in a bounded cache keyed by query text so repeated
+ * operations skip parsing and validation.
+ *
+ * Also implements Apollo-style persisted queries: a request may carry
+ * extensions.persistedQuery.sha256Hash instead of the query text. Queries shipped under
+ * graphql/persisted/*.graphql are registered at startup under the hash of their text without
+ * surrounding whitespace; any other query sent once with its hash is remembered for later
+ * hash-only requests. With app.graphql.persisted-queries.registered-only set, only the shipped
+ * queries are accepted, by hash or by text.
+ */
+@Component
+public class PersistedQueryDocumentProvider implements PreparsedDocumentProvider {
+    private static final Logger logger = LoggerFactory.getLogger(PersistedQueryDocumentProvider.class);
+
+    private static final String REGISTERED_QUERIES = "classpath*:graphql/persisted/*.graphql";
+
+    @Value("${app.graphql.document-cache.max-entries:500}")
+    private long maxDocuments;
+
+    @Value("${app.graphql.persisted-queries.max-entries:1000}")
+    private long maxPersistedQueries;
+
+    @Value("${app.graphql.persisted-queries.registered-only:false}")
+    private boolean registeredOnly;
+
+    // hash -> query text, for the shipped queries
+    private final Map<String, String> registered = new HashMap<>();
+
+    // hash -> query text, for queries clients registered by sending them with their hash
+    private Cache<String, String> automatic;
+
+    // query text -> parsed and validated document
+    private Cache<String, PreparsedDocumentEntry> documents;
+
+    @PostConstruct
+    void init() throws IOException {
+        documents = Caffeine.newBuilder().maximumSize(maxDocuments).build();
+        automatic = Caffeine.newBuilder().maximumSize(maxPersistedQueries).build();
+
+        for (Resource resource : new PathMatchingResourcePatternResolver().getResources(REGISTERED_QUERIES)) {
+            String query = resource.getContentAsString(StandardCharsets.UTF_8).strip();
+            registered.put(sha256(query), query);
+        }
+        if (registeredOnly && registered.isEmpty()) {
+            logger.warn("GraphQL is limited to registered queries, but none were found under {}", REGISTERED_QUERIES);
+        } else if (!registered.isEmpty()) {
+            logger.info("Registered {} persisted GraphQL queries", registered.size());
+        }
+    }
+
+    @Override
+    public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(ExecutionInput executionInput,
+                                                                      Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+        return CompletableFuture.completedFuture(resolve(executionInput, parseAndValidateFunction));
+    }
+
+    // Still abstract in graphql-java 21; the engine only calls getDocumentAsync
+    @Override
+    @Deprecated
+    public PreparsedDocumentEntry getDocument(ExecutionInput executionInput,
+                                              Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+        return resolve(executionInput, parseAndValidateFunction);
+    }
+
+    private PreparsedDocumentEntry resolve(ExecutionInput executionInput,
+                                           Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+        String hash = persistedQueryHash(executionInput);
+        String query = executionInput.getQuery();
+
+        // Hash only: look the text up
+        if (hash != null && (!StringUtils.hasText(query) || PersistedQuerySupport.PERSISTED_QUERY_MARKER.equals(query))) {
+            String known = registered.get(hash);
+            if (known == null && !registeredOnly) {
+                known = automatic.getIfPresent(hash);
+            }
+            if (known == null) {
+                return errorEntry("PersistedQueryNotFound", "PERSISTED_QUERY_NOT_FOUND", hash);
+            }
+            String text = known;
+            return document(executionInput.transform(builder -> builder.query(text)), parseAndValidateFunction);
+        }
+
+        // Text and hash: the hash must be that of the exact text sent
+        if (hash != null && !hash.equals(sha256(query))) {
+            return errorEntry("PersistedQueryIdInvalid", "PERSISTED_QUERY_ID_INVALID", hash);
+        }
+        if (registeredOnly && !registered.containsKey(sha256(query.strip()))) {
+            return new PreparsedDocumentEntry(GraphqlErrorBuilder.newError()
+                    .errorType(ErrorType.ValidationError)
+                    .message("Only registered queries are accepted")
+                    .build());
+        }
+
+        PreparsedDocumentEntry entry = document(executionInput, parseAndValidateFunction);
+        if (hash != null && !registeredOnly && !entry.hasErrors()) {
+            automatic.put(hash, query);
+        }
+        return entry;
+    }
+
+    // Invalid documents are not cached, so they cannot push the working set out
+    private PreparsedDocumentEntry document(ExecutionInput executionInput,
+                                            Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+        String query = executionInput.getQuery();
+        PreparsedDocumentEntry entry = documents.getIfPresent(query);
+        if (entry == null) {
+            entry = parseAndValidateFunction.apply(executionInput);
+            if (!entry.hasErrors()) {
+                documents.put(query, entry);
+            }
+        }
+        return entry;
+    }
+
+    // Apollo clients retry with the full text on a PersistedQueryNotFound message or code
+    private PreparsedDocumentEntry errorEntry(String message, String code, String hash) {
+        return new PreparsedDocumentEntry(GraphqlErrorBuilder.newError()
+                .errorType(ErrorType.ValidationError)
+                .message(message)
+                .extensions(Map.of("code", code, "persistedQueryId", hash))
+                .build());
+    }
+
+    private String persistedQueryHash(ExecutionInput executionInput) {
+        if (executionInput.getExtensions() != null
+                && executionInput.getExtensions().get("persistedQuery") instanceof Map<?, ?> persistedQuery
+                && persistedQuery.get("sha256Hash") instanceof String hash
+                && StringUtils.hasText(hash)) {
+            return hash.toLowerCase(Locale.ROOT);
+        }
+        return null;
+    }
+
+    private static String sha256(String query) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(query.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
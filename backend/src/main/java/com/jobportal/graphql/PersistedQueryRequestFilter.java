@@ -0,0 +1,166 @@
+package com.jobportal.graphql;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lets hash-only persisted query requests through to GraphQL. The HTTP handler rejects a request
+ * without query text before any interceptor runs, so a body that carries
+ * extensions.persistedQuery but no query gets graphql-java's persisted query marker as its query;
+ * {@link PersistedQueryDocumentProvider} then resolves the text from the hash.
+ *
+ * The body is buffered to look for the extension, so it is read up to
+ * app.graphql.max-request-bytes; larger requests are rejected with 413.
+ */
+@Component
+public class PersistedQueryRequestFilter extends OncePerRequestFilter {
+
+    private static final byte[] PERSISTED_QUERY = "\"persistedQuery\"".getBytes(StandardCharsets.UTF_8);
+
+    @Value("${spring.graphql.path:/graphql}")
+    private String graphqlPath;
+
+    @Value("${app.graphql.max-request-bytes:262144}")
+    private int maxRequestBytes;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod()) || !graphqlPath.equals(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // Declared or actual length over the limit; one byte past it is enough to tell
+        byte[] body = request.getContentLengthLong() > maxRequestBytes
+                ? null
+                : request.getInputStream().readNBytes(maxRequestBytes + 1);
+        if (body == null || body.length > maxRequestBytes) {
+            response.setStatus(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+            response.setContentType("application/json");
+            objectMapper.writeValue(response.getOutputStream(), Map.of("errors", List.of(Map.of(
+                    "message", "GraphQL request body exceeds " + maxRequestBytes + " bytes"))));
+            return;
+        }
+
+        // Only bodies that mention persistedQuery are parsed here
+        if (contains(body, PERSISTED_QUERY)) {
+            try {
+                Map<String, Object> document = objectMapper.readValue(body, new TypeReference<Map<String, Object>>() {});
+                if (document.get("extensions") instanceof Map<?, ?> extensions
+                        && extensions.get("persistedQuery") instanceof Map
+                        && !(document.get("query") instanceof String query && StringUtils.hasText(query))) {
+                    document.put("query", PersistedQuerySupport.PERSISTED_QUERY_MARKER);
+                    body = objectMapper.writeValueAsBytes(document);
+                }
+            } catch (IOException e) {
+                // Not a JSON object; left for the GraphQL handler to reject
+            }
+        }
+
+        filterChain.doFilter(new BodyRequest(request, body), response);
+    }
+
+    private static boolean contains(byte[] body, byte[] token) {
+        outer:
+        for (int i = 0; i <= body.length - token.length; i++) {
+            for (int j = 0; j < token.length; j++) {
+                if (body[i + j] != token[j]) {
+                    continue outer;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    // Replays a body that has already been read
+    private static class BodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        BodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // The whole body is in memory, so it is available and finished at once
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.jobportal.graphql;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.jobportal.enums.Role;
+import com.jobportal.service.JobService;
+
+import graphql.ErrorType;
+import graphql.ExecutionResult;
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.analysis.QueryTraverser;
+import graphql.analysis.QueryVisitorFieldEnvironment;
+import graphql.analysis.QueryVisitorStub;
+import graphql.execution.AbortExecutionException;
+import graphql.execution.DataFetcherResult;
+import graphql.execution.ExecutionContext;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationCreateStateParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.language.OperationDefinition;
+import graphql.schema.DataFetcher;
+import graphql.schema.GraphQLOutputType;
+import graphql.schema.GraphQLTypeUtil;
+import jakarta.annotation.PostConstruct;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Static cost and depth limits for GraphQL operations, checked after validation and before any
+ * data fetcher runs. A field costs its weight plus, for list fields, the expected list size times
+ * the cost of its selection (at least the object weight per element for lists of objects): the
+ * "first" argument when given (or the parent's, for page types such as JobPage.jobs), otherwise
+ * app.graphql.cost.default-list-size. Fields listed in app.graphql.cost.unbounded-list-fields
+ * return every matching row when called without "first" and are costed at
+ * app.graphql.cost.unbounded-list-size instead. Leaf fields are free unless weighted in
+ * app.graphql.cost.field-weights. Each role has its own budget; over-budget operations are
+ * rejected with the computed cost per root field in the error extensions.
+ *
+ * Queries and mutations also get an execution deadline: once it passes, remaining non-trivial
+ * data fetchers return an error instead of running.
+ */
+@Component
+public class QueryCostInstrumentation extends SimplePerformantInstrumentation {
+    private static final Logger logger = LoggerFactory.getLogger(QueryCostInstrumentation.class);
+
+    @Value("${app.graphql.cost.default-list-size:20}")
+    private int defaultListSize;
+
+    @Value("${app.graphql.cost.unbounded-list-size:1000}")
+    private int unboundedListSize;
+
+    @Value("${app.graphql.cost.unbounded-list-fields:}")
+    private String unboundedListFieldSpec;
+
+    @Value("${app.graphql.cost.object-weight:1}")
+    private int objectWeight;
+
+    @Value("${app.graphql.cost.field-weights:}")
+    private String fieldWeightSpec;
+
+    @Value("${app.graphql.budget.anonymous.max-cost:200}")
+    private long anonymousMaxCost;
+
+    @Value("${app.graphql.budget.anonymous.max-depth:6}")
+    private int anonymousMaxDepth;
+
+    @Value("${app.graphql.budget.applicant.max-cost:500}")
+    private long applicantMaxCost;
+
+    @Value("${app.graphql.budget.applicant.max-depth:8}")
+    private int applicantMaxDepth;
+
+    @Value("${app.graphql.budget.company.max-cost:1000}")
+    private long companyMaxCost;
+
+    @Value("${app.graphql.budget.company.max-depth:8}")
+    private int companyMaxDepth;
+
+    @Value("${app.graphql.budget.admin.max-cost:5000}")
+    private long adminMaxCost;
+
+    @Value("${app.graphql.budget.admin.max-depth:10}")
+    private int adminMaxDepth;
+
+    @Value("${app.graphql.timeout-ms:10000}")
+    private long timeoutMs;
+
+    private final Map<String, Integer> fieldWeights = new HashMap<>();
+    private final Set<String> unboundedListFields = new HashSet<>();
+    private final Map<String, Budget> budgets = new HashMap<>();
+
+    private record Budget(long maxCost, int maxDepth) {
+    }
+
+    private record QueryCost(long total, int depth, Map<String, Long> byRootField) {
+    }
+
+    private static class State implements InstrumentationState {
+        // System.nanoTime() after which data fetchers stop running; 0 while there is none
+        private volatile long deadline;
+    }
+
+    @PostConstruct
+    public void init() {
+        budgets.put(GraphQlAuthInterceptor.ANONYMOUS, new Budget(anonymousMaxCost, anonymousMaxDepth));
+        budgets.put(Role.APPLICANT.name(), new Budget(applicantMaxCost, applicantMaxDepth));
+        budgets.put(Role.COMPANY.name(), new Budget(companyMaxCost, companyMaxDepth));
+        budgets.put(Role.ADMIN.name(), new Budget(adminMaxCost, adminMaxDepth));
+
+        // "Type.field:weight,Type.field:weight"
+        for (String entry : fieldWeightSpec.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2 || !parts[0].contains(".")) {
+                throw new IllegalArgumentException("Invalid app.graphql.cost.field-weights entry: " + entry);
+            }
+            fieldWeights.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+        }
+
+        // "Type.field,Type.field"
+        for (String entry : unboundedListFieldSpec.split(",")) {
+            if (!entry.isBlank()) {
+                unboundedListFields.add(entry.trim());
+            }
+        }
+    }
+
+    @Override
+    public InstrumentationState createState(InstrumentationCreateStateParameters parameters) {
+        return new State();
+    }
+
+    @Override
+    public InstrumentationContext<ExecutionResult> beginExecuteOperation(InstrumentationExecuteOperationParameters parameters,
+                                                                         InstrumentationState state) {
+        ExecutionContext context = parameters.getExecutionContext();
+        String role = context.getGraphQLContext().getOrDefault(GraphQlAuthInterceptor.ROLE_KEY, GraphQlAuthInterceptor.ANONYMOUS);
+        Budget budget = budgets.getOrDefault(role, budgets.get(GraphQlAuthInterceptor.ANONYMOUS));
+
+        QueryCost cost = measure(context);
+        if (cost.total() > budget.maxCost() || cost.depth() > budget.maxDepth()) {
+            logger.warn("Rejected GraphQL operation {} for {}: cost {}/{}, depth {}/{}",
+                    context.getOperationDefinition().getName(), role,
+                    cost.total(), budget.maxCost(), cost.depth(), budget.maxDepth());
+            throw new AbortExecutionException(List.of(budgetError(role, budget, cost)));
+        }
+
+        if (timeoutMs > 0 && state instanceof State timed
+                && context.getOperationDefinition().getOperation() != OperationDefinition.Operation.SUBSCRIPTION) {
+            timed.deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        }
+        return super.beginExecuteOperation(parameters, state);
+    }
+
+    @Override
+    public DataFetcher<?> instrumentDataFetcher(DataFetcher<?> dataFetcher, InstrumentationFieldFetchParameters parameters,
+                                                InstrumentationState state) {
+        if (parameters.isTrivialDataFetcher() || !(state instanceof State timed)) {
+            return dataFetcher;
+        }
+        return environment -> {
+            long deadline = timed.deadline;
+            if (deadline != 0 && System.nanoTime() - deadline > 0) {
+                return DataFetcherResult.newResult()
+                        .error(GraphqlErrorBuilder.newError(environment)
+                                .errorType(ErrorType.ExecutionAborted)
+                                .message("Query exceeded the execution timeout of " + timeoutMs + " ms")
+                                .build())
+                        .build();
+            }
+            return dataFetcher.get(environment);
+        };
+    }
+
+    private QueryCost measure(ExecutionContext context) {
+        // Summed cost of the selections below each field, filled in as post-order reaches them
+        Map<QueryVisitorFieldEnvironment, Long> selectionCosts = new HashMap<>();
+        Map<String, Long> byRootField = new LinkedHashMap<>();
+        long[] total = {0};
+        int[] depth = {0};
+
+        QueryTraverser.newQueryTraverser()
+                .schema(context.getGraphQLSchema())
+                .document(context.getDocument())
+                .operationName(context.getOperationDefinition().getName())
+                .coercedVariables(context.getCoercedVariables())
+                .build()
+                .visitPostOrder(new QueryVisitorStub() {
+                    @Override
+                    public void visitField(QueryVisitorFieldEnvironment env) {
+                        if (isIntrospection(env)) {
+                            return;
+                        }
+                        long cost = weightOf(env) + listSizeOf(env) * elementCostOf(env, selectionCosts.getOrDefault(env, 0L));
+                        QueryVisitorFieldEnvironment parent = env.getParentEnvironment();
+                        if (parent == null) {
+                            byRootField.merge(env.getField().getResultKey(), cost, Long::sum);
+                            total[0] += cost;
+                        } else {
+                            selectionCosts.merge(parent, cost, Long::sum);
+                        }
+                        depth[0] = Math.max(depth[0], depthOf(env));
+                    }
+                });
+        return new QueryCost(total[0], depth[0], byRootField);
+    }
+
+    // Schema introspection (GraphiQL, codegen) and __typename are not charged
+    private boolean isIntrospection(QueryVisitorFieldEnvironment env) {
+        return env.isTypeNameIntrospectionField()
+                || env.getFieldDefinition().getName().startsWith("__")
+                || env.getFieldsContainer().getName().startsWith("__");
+    }
+
+    private String keyOf(QueryVisitorFieldEnvironment env) {
+        return env.getFieldsContainer().getName() + "." + env.getFieldDefinition().getName();
+    }
+
+    private long weightOf(QueryVisitorFieldEnvironment env) {
+        Integer weight = fieldWeights.get(keyOf(env));
+        if (weight != null) {
+            return weight;
+        }
+        return GraphQLTypeUtil.isLeaf(GraphQLTypeUtil.unwrapAll(env.getFieldDefinition().getType())) ? 0 : objectWeight;
+    }
+
+    private long listSizeOf(QueryVisitorFieldEnvironment env) {
+        GraphQLOutputType type = env.getFieldDefinition().getType();
+        if (!GraphQLTypeUtil.isList(GraphQLTypeUtil.unwrapNonNull(type))) {
+            return 1;
+        }
+        Integer first = firstArgument(env);
+        if (first == null && env.getParentEnvironment() != null) {
+            first = firstArgument(env.getParentEnvironment());
+        }
+        if (first != null) {
+            return first;
+        }
+        return unboundedListFields.contains(keyOf(env)) ? unboundedListSize : defaultListSize;
+    }
+
+    // Each element of an object list is a row to load, even when only free leaf fields are selected
+    private long elementCostOf(QueryVisitorFieldEnvironment env, long selectionCost) {
+        GraphQLOutputType type = env.getFieldDefinition().getType();
+        if (!GraphQLTypeUtil.isList(GraphQLTypeUtil.unwrapNonNull(type)) || GraphQLTypeUtil.isLeaf(GraphQLTypeUtil.unwrapAll(type))) {
+            return selectionCost;
+        }
+        return Math.max(selectionCost, objectWeight);
+    }
+
+    // Bounded by what the job listing actually serves
+    private Integer firstArgument(QueryVisitorFieldEnvironment env) {
+        Object first = env.getArguments().get("first");
+        if (first instanceof Number number) {
+            return Math.max(0, Math.min(number.intValue(), JobService.MAX_PAGE_SIZE));
+        }
+        return null;
+    }
+
+    private int depthOf(QueryVisitorFieldEnvironment env) {
+        int depth = 0;
+        for (QueryVisitorFieldEnvironment current = env; current != null; current = current.getParentEnvironment()) {
+            depth++;
+        }
+        return depth;
+    }
+
+    private GraphQLError budgetError(String role, Budget budget, QueryCost cost) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("code", "QUERY_BUDGET_EXCEEDED");
+        report.put("role", role);
+        report.put("cost", cost.total());
+        report.put("maxCost", budget.maxCost());
+        report.put("depth", cost.depth());
+        report.put("maxDepth", budget.maxDepth());
+        report.put("fieldCosts", cost.byRootField());
+        return GraphqlErrorBuilder.newError()
+                .errorType(ErrorType.ExecutionAborted)
+                .message("Query cost %d at depth %d exceeds the %s budget (max cost %d, max depth %d)",
+                        cost.total(), cost.depth(), role, budget.maxCost(), budget.maxDepth())
+                .extensions(report)
+                .build();
+    }
+}
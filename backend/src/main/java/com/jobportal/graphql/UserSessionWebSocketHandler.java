@@ -0,0 +1,86 @@
+package com.jobportal.graphql;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.graphql.server.WebGraphQlHandler;
+import org.springframework.graphql.server.webmvc.GraphQlWebSocketHandler;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+
+import com.jobportal.event.UserChangedEvent;
+import com.jobportal.security.CustomUserDetails;
+import com.jobportal.security.PrincipalCache;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The GraphQL WebSocket handler, keeping track of open connections so that a connection whose
+ * user is deactivated, deleted or changes role is closed as soon as the change commits, rather
+ * than staying subscribed for as long as the client keeps it open.
+ */
+public class UserSessionWebSocketHandler extends GraphQlWebSocketHandler {
+    private static final Logger logger = LoggerFactory.getLogger(UserSessionWebSocketHandler.class);
+
+    // graphql-ws close code for a connection that is not allowed to continue
+    static final CloseStatus FORBIDDEN = new CloseStatus(4403, "Forbidden");
+
+    private final GraphQlAuthInterceptor authInterceptor;
+
+    private final PrincipalCache principalCache;
+
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+
+    public UserSessionWebSocketHandler(WebGraphQlHandler graphQlHandler, HttpMessageConverter<?> converter,
+                                       Duration initTimeoutDuration, GraphQlAuthInterceptor authInterceptor,
+                                       PrincipalCache principalCache) {
+        super(graphQlHandler, converter, initTimeoutDuration);
+        this.authInterceptor = authInterceptor;
+        this.principalCache = principalCache;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        sessions.put(session.getId(), session);
+        super.afterConnectionEstablished(session);
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) {
+        sessions.remove(session.getId());
+        super.afterConnectionClosed(session, closeStatus);
+    }
+
+    // Runs after the publishing transaction commits. The principal cache drops the user on the same
+    // event, but listener order is not guaranteed, so the entry is dropped here before re-checking
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        principalCache.invalidate(event.getUserId());
+        for (WebSocketSession session : sessions.values()) {
+            if (!(session.getAttributes().get(GraphQlAuthInterceptor.SESSION_USER) instanceof CustomUserDetails user)
+                    || !event.getUserId().equals(user.getUser().getId())) {
+                continue;
+            }
+            CustomUserDetails current = authInterceptor.revalidate(user);
+            if (current != null) {
+                session.getAttributes().put(GraphQlAuthInterceptor.SESSION_USER, current);
+                continue;
+            }
+            session.getAttributes().remove(GraphQlAuthInterceptor.SESSION_USER);
+            try {
+                session.close(FORBIDDEN);
+                logger.info("Closed GraphQL WebSocket session {} of user {}", session.getId(), event.getUserId());
+            } catch (IOException e) {
+                logger.warn("Failed to close GraphQL WebSocket session {}: {}", session.getId(), e.getMessage());
+            }
+        }
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+}
@@ -16,7 +16,6 @@ import com.jobportal.service.AdminService;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 @Controller
 public class AdminResolver {
@@ -24,106 +23,44 @@ public class AdminResolver {
     @Autowired
     private AdminService adminService;
 
+    // Queries return the entities; EntityFieldResolver resolves associations only when selected
     @QueryMapping
-    public List<Map<String, Object>> getAllUsers(
+    public List<User> getAllUsers(
             @Argument String role,
             @Argument Boolean includeInactive,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
         checkAdminAccess(userDetails);
 
-        List<User> users = adminService.getAllUsers(role, includeInactive != null ? includeInactive : false);
-        return users.stream().map(user -> {
-            Map<String, Object> map = new HashMap<>();
-            map.put("id", user.getId());
-            map.put("name", user.getName());
-            map.put("email", user.getEmail());
-            map.put("role", user.getRole().toString());
-            map.put("createdAt", user.getCreatedAt() != null ? user.getCreatedAt().toString() : null);
-            map.put("active", user.isActive());
-            map.put("bio", user.getBio());
-            return map;
-        }).toList();
+        return adminService.getAllUsers(role, includeInactive != null ? includeInactive : false);
     }
 
     @QueryMapping
-    public Map<String, Object> getUserById(
+    public User getUserById(
             @Argument Long id,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
         checkAdminAccess(userDetails);
 
-        Optional<User> userOpt = adminService.getUserById(id);
-        if (userOpt.isEmpty()) {
-            return null;
-        }
-
-        User user = userOpt.get();
-        Map<String, Object> map = new HashMap<>();
-        map.put("id", user.getId());
-        map.put("name", user.getName());
-        map.put("email", user.getEmail());
-        map.put("role", user.getRole().toString());
-        map.put("createdAt", user.getCreatedAt() != null ? user.getCreatedAt().toString() : null);
-        map.put("active", user.isActive());
-        map.put("bio", user.getBio());
-        return map;
+        return adminService.getUserById(id).orElse(null);
     }
 
     @QueryMapping
-    public List<Map<String, Object>> getAdminJobs(
+    public List<Job> getAdminJobs(
             @Argument Boolean active,
             @Argument Boolean includeExpired,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
         checkAdminAccess(userDetails);
 
-        List<Job> jobs = adminService.getAllJobs(active, includeExpired != null ? includeExpired : false);
-        return jobs.stream().map(job -> {
-            Map<String, Object> map = new HashMap<>();
-            map.put("id", job.getId());
-            map.put("title", job.getTitle());
-            map.put("description", job.getDescription());
-            map.put("company", Map.of(
-                "id", job.getCompany().getId(),
-                "name", job.getCompany().getName(),
-                "email", job.getCompany().getEmail(),
-                "bio", job.getCompany().getBio() != null ? job.getCompany().getBio() : "No Description"
-            ));
-            map.put("location", job.getLocation());
-            map.put("salaryRange", job.getSalaryRange());
-            map.put("postedAt", job.getPostedAt() != null ? job.getPostedAt().toString() : null);
-            map.put("requirements", job.getRequirements());
-            map.put("responsibilities", job.getResponsibilities());
-            map.put("active", job.isActive());
-            return map;
-        }).toList();
+        return adminService.getAllJobs(active, includeExpired != null ? includeExpired : false);
     }
 
     @QueryMapping
-    public List<Map<String, Object>> getAllApplications(
+    public List<Application> getAllApplications(
             @Argument String status,
             @Argument Boolean includeArchived,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
         checkAdminAccess(userDetails);
 
-        List<Application> applications = adminService.getAllApplications(status, includeArchived != null ? includeArchived : false);
-        return applications.stream().map(app -> Map.of(
-            "id", String.valueOf(app.getId()),
-            "job", Map.of(
-                "id", String.valueOf(app.getJob().getId()),
-                "title", app.getJob().getTitle(),
-                "company", Map.of(
-                    "id", app.getJob().getCompany().getId(),
-                    "name", app.getJob().getCompany().getName()
-                )
-            ),
-            "applicant", Map.of(
-                "id", app.getApplicant().getId(),
-                "name", app.getApplicant().getName(),
-                "email", app.getApplicant().getEmail()
-            ),
-            "status", app.getStatus().toString(),
-            "appliedAt", app.getAppliedAt().toString(),
-            "resumeUrl", app.getResumeUrl()
-        )).toList();
+        return adminService.getAllApplications(status, includeArchived != null ? includeArchived : false);
     }
 
     @MutationMapping
@@ -137,24 +74,14 @@ public class AdminResolver {
     }
 
     @MutationMapping
-    public Map<String, Object> updateUserStatus(
+    public User updateUserStatus(
             @Argument Long id,
             @Argument Map<String, Object> input,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
         checkAdminAccess(userDetails);
 
         Boolean active = (Boolean) input.get("active");
-        User user = adminService.updateUserStatus(id, active);
-
-        Map<String, Object> map = new HashMap<>();
-        map.put("id", user.getId());
-        map.put("name", user.getName());
-        map.put("email", user.getEmail());
-        map.put("role", user.getRole().toString());
-        map.put("createdAt", user.getCreatedAt() != null ? user.getCreatedAt().toString() : null);
-        map.put("active", user.isActive());
-        map.put("bio", user.getBio());
-        return map;
+        return adminService.updateUserStatus(id, active);
     }
 
     @MutationMapping
@@ -178,7 +105,7 @@ public class AdminResolver {
     }
 
     @MutationMapping
-    public List<Map<String, Object>> bulkUpdateUserStatus(
+    public List<User> bulkUpdateUserStatus(
             @Argument List<Map<String, Object>> userStatusMap,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
         checkAdminAccess(userDetails);
@@ -190,22 +117,11 @@ public class AdminResolver {
             statusMap.put(userId, active);
         }
 
-        List<User> updatedUsers = adminService.bulkUpdateUserStatus(statusMap);
-        return updatedUsers.stream().map(user -> {
-            Map<String, Object> map = new HashMap<>();
-            map.put("id", user.getId());
-            map.put("name", user.getName());
-            map.put("email", user.getEmail());
-            map.put("role", user.getRole().toString());
-            map.put("createdAt", user.getCreatedAt() != null ? user.getCreatedAt().toString() : null);
-            map.put("active", user.isActive());
-            map.put("bio", user.getBio());
-            return map;
-        }).toList();
+        return adminService.bulkUpdateUserStatus(statusMap);
     }
 
     @MutationMapping
-    public List<Map<String, Object>> bulkUpdateJobStatus(
+    public List<Job> bulkUpdateJobStatus(
             @Argument List<Map<String, Object>> jobStatusMap,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
         checkAdminAccess(userDetails);
@@ -217,21 +133,7 @@ public class AdminResolver {
             statusMap.put(jobId, active);
         }
 
-        List<Job> updatedJobs = adminService.bulkUpdateJobStatus(statusMap);
-        return updatedJobs.stream().map(job -> {
-            Map<String, Object> map = new HashMap<>();
-            map.put("id", job.getId());
-            map.put("title", job.getTitle());
-            map.put("description", job.getDescription());
-            map.put("company", Map.of(
-                "id", job.getCompany().getId(),
-                "name", job.getCompany().getName()
-            ));
-            map.put("location", job.getLocation());
-            map.put("salaryRange", job.getSalaryRange());
-            map.put("active", job.isActive());
-            return map;
-        }).toList();
+        return adminService.bulkUpdateJobStatus(statusMap);
     }
 
     private void checkAdminAccess(CustomUserDetails userDetails) {
@@ -8,14 +8,11 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 
 import com.jobportal.entity.Application;
-import com.jobportal.entity.Job;
-import com.jobportal.entity.User;
 import com.jobportal.enums.ApplicationStatus;
 import com.jobportal.security.CustomUserDetails;
 import com.jobportal.service.ApplicantService;
 import com.jobportal.service.JobService;
 
-import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Map;
 
@@ -28,89 +25,38 @@ public class ApplicationResolver {
     @Autowired
     private JobService jobService;
 
+    // Queries return the Application entities; EntityFieldResolver resolves job, applicant and
+    // the formatted fields, and only when they are selected
     @QueryMapping
-    public List<Map<String, Object>> getMyApplications(@AuthenticationPrincipal CustomUserDetails userDetails) {
+    public List<Application> getMyApplications(@AuthenticationPrincipal CustomUserDetails userDetails) {
         if (userDetails == null || !userDetails.getUser().getRole().toString().equals("APPLICANT")) {
             throw new RuntimeException("Access denied. Applicant role required.");
         }
 
-        List<Application> applications = applicantService.getApplicationsByApplicant(userDetails.getUser().getId());
-        return applications.stream().map(app -> Map.of(
-            "id", String.valueOf(app.getId()),
-            "job", Map.of(
-                "id", String.valueOf(app.getJob().getId()),
-                "title", app.getJob().getTitle(),
-                "company", Map.of(
-                    "name", app.getJob().getCompany().getName()
-                )
-            ),
-            "status", app.getStatus().toString(),
-            "appliedAt", app.getAppliedAt().atZone(ZoneOffset.UTC).toInstant().toString()
-        )).toList();
+        return applicantService.getApplicationsByApplicant(userDetails.getUser().getId());
     }
 
+    // Resolved as ApplicationDetails: job fields are read off the application's job
     @QueryMapping
-    public Map<String, Object> getApplicationStatus(
+    public Application getApplicationStatus(
             @Argument Long applicationId,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
         if (userDetails == null || !userDetails.getUser().getRole().toString().equals("APPLICANT")) {
             throw new RuntimeException("Access denied. Applicant role required.");
         }
 
-        Application application = applicantService.getApplicationStatus(userDetails.getUser().getId(), applicationId);
-        Job job = application.getJob();
-        User company = job.getCompany();
-        User applicant = application.getApplicant();
-
-        return Map.of(
-            "title", job.getTitle(),
-            "description", job.getDescription(),
-            "company", Map.of(
-                "id", company.getId(),
-                "name", company.getName(),
-                "email", company.getEmail(),
-                "bio", company.getBio() != null ? company.getBio() : "No Description"
-            ),
-            "requirements", job.getRequirements(),
-            "responsibilities", job.getResponsibilities(),
-            "applicant", Map.of(
-                "id", applicant.getId(),
-                "name", applicant.getName(),
-                "email", applicant.getEmail(),
-                "role", applicant.getRole().toString(),
-                "createdAt", applicant.getCreatedAt().toString(),
-                "active", applicant.isActive(),
-                "bio", applicant.getBio()
-            ),
-            "status", application.getStatus().toString(),
-            "appliedAt", application.getAppliedAt().atZone(ZoneOffset.UTC).toInstant().toString()
-        );
+        return applicantService.getApplicationStatus(userDetails.getUser().getId(), applicationId);
     }
 
     @QueryMapping
-    public List<Map<String, Object>> getJobApplications(
+    public List<Application> getJobApplications(
             @Argument Long jobId,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
         if (userDetails == null || !userDetails.getUser().getRole().toString().equals("COMPANY")) {
             throw new RuntimeException("Access denied. Company role required.");
         }
 
-        List<Application> applications = jobService.getJobApplications(userDetails.getUser().getId(), jobId);
-        return applications.stream().map(app -> Map.of(
-            "id", String.valueOf(app.getId()),
-            "job", Map.of(
-                "id", String.valueOf(app.getJob().getId()),
-                "title", app.getJob().getTitle()
-            ),
-            "applicant", Map.of(
-                "id", app.getApplicant().getId(),
-                "name", app.getApplicant().getName(),
-                "email", app.getApplicant().getEmail()
-            ),
-            "status", app.getStatus().toString(),
-            "appliedAt", app.getAppliedAt().atZone(ZoneOffset.UTC).toInstant().toString(),
-            "resumeUrl", app.getResumeUrl()
-        )).toList();
+        return jobService.getJobApplications(userDetails.getUser().getId(), jobId);
     }
 
     @MutationMapping
@@ -139,7 +85,7 @@ public class ApplicationResolver {
     }
 
     @MutationMapping
-    public Map<String, Object> updateApplicationStatus(
+    public Application updateApplicationStatus(
             @Argument Long applicationId,
             @Argument Map<String, Object> input,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
@@ -150,23 +96,6 @@ public class ApplicationResolver {
         String statusString = (String) input.get("status");
         // Convert String to ApplicationStatus enum
         ApplicationStatus status = ApplicationStatus.valueOf(statusString);
-        Application application = jobService.updateApplicationStatus(
-            userDetails.getUser().getId(), applicationId, status);
-
-        return Map.of(
-            "id", String.valueOf(application.getId()),
-            "job", Map.of(
-                "id", String.valueOf(application.getJob().getId()),
-                "title", application.getJob().getTitle()
-            ),
-            "applicant", Map.of(
-                "id", application.getApplicant().getId(),
-                "name", application.getApplicant().getName(),
-                "email", application.getApplicant().getEmail()
-            ),
-            "status", application.getStatus().toString(),
-            "appliedAt", application.getAppliedAt().atZone(ZoneOffset.UTC).toInstant().toString(),
-            "resumeUrl", application.getResumeUrl()
-        );
+        return jobService.updateApplicationStatus(userDetails.getUser().getId(), applicationId, status);
     }
 }
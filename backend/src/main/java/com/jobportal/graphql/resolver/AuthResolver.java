@@ -8,6 +8,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Controller;
 
+import com.jobportal.dto.response.ProfileResponse;
 import com.jobportal.entity.User;
 import com.jobportal.enums.Role;
 import com.jobportal.repository.UserRepository;
@@ -131,40 +132,26 @@ public class AuthResolver {
     }
 
     @QueryMapping
-    public Map<String, Object> me(@AuthenticationPrincipal CustomUserDetails userDetails) {
+    public ProfileResponse me(@AuthenticationPrincipal CustomUserDetails userDetails) {
         try {
             if (userDetails == null) {
-                Map<String, Object> errorResponse = new HashMap<>();
-                errorResponse.put("success", false);
-                errorResponse.put("message", "User not authenticated");
-                return errorResponse;
+                return ProfileResponse.error("User not authenticated");
             }
-            Map<String, Object> profile = profileService.getUserProfile(userDetails.getUser().getId());
-            profile.put("success", true);
-            profile.put("message", "Profile retrieved successfully");
-            return profile;
+            return ProfileResponse.success("Profile retrieved successfully",
+                    profileService.getUserProfile(userDetails.getUser().getId()));
 
         } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "Failed to retrieve profile: " + e.getMessage());
-            return errorResponse;
+            return ProfileResponse.error("Failed to retrieve profile: " + e.getMessage());
         }
     }
 
     @QueryMapping
-    public Map<String, Object> getUserProfile(@Argument Long userId) {
+    public ProfileResponse getUserProfile(@Argument Long userId) {
         try {
-            Map<String, Object> profile = profileService.getUserProfile(userId);
-            profile.put("success", true);
-            profile.put("message", "Profile retrieved successfully");
-            return profile;
+            return ProfileResponse.success("Profile retrieved successfully", profileService.getUserProfile(userId));
 
         } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "Failed to retrieve profile: " + e.getMessage());
-            return errorResponse;
+            return ProfileResponse.error("Failed to retrieve profile: " + e.getMessage());
         }
     }
 }
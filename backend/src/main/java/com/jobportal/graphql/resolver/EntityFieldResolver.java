@@ -0,0 +1,140 @@
+package com.jobportal.graphql.resolver;
+
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.stereotype.Controller;
+
+import com.jobportal.entity.Application;
+import com.jobportal.entity.Job;
+import com.jobportal.entity.User;
+import com.jobportal.repository.JobRepository;
+import com.jobportal.repository.UserRepository;
+
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Field resolvers for the entity-backed GraphQL types. Queries return Job, Application and User
+ * entities as they are; associations are resolved here only when a query selects them, through
+ * per-request DataLoaders (@BatchMapping) that load every uninitialized reference of a result
+ * list in one query per type.
+ */
+@Controller
+public class EntityFieldResolver {
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    // Job
+
+    @BatchMapping(typeName = "Job")
+    public Map<Job, User> company(List<Job> jobs) {
+        return batchLoad(jobs, Job::getCompany, User::getId, userRepository::findAllById);
+    }
+
+    @SchemaMapping(typeName = "Job")
+    public String postedAt(Job job) {
+        return job.getPostedAt() != null ? job.getPostedAt() + "Z" : null;
+    }
+
+    // Application
+
+    @BatchMapping(typeName = "Application")
+    public Map<Application, Job> job(List<Application> applications) {
+        return batchLoad(applications, Application::getJob, Job::getId, jobRepository::findAllById);
+    }
+
+    @BatchMapping(typeName = "Application")
+    public Map<Application, User> applicant(List<Application> applications) {
+        return batchLoad(applications, Application::getApplicant, User::getId, userRepository::findAllById);
+    }
+
+    @SchemaMapping(typeName = "Application")
+    public String appliedAt(Application application) {
+        return formatAppliedAt(application);
+    }
+
+    // ApplicationDetails: one application flattened with its job
+
+    @SchemaMapping(typeName = "ApplicationDetails")
+    public String title(Application application) {
+        return application.getJob().getTitle();
+    }
+
+    @SchemaMapping(typeName = "ApplicationDetails")
+    public String description(Application application) {
+        return application.getJob().getDescription();
+    }
+
+    @SchemaMapping(typeName = "ApplicationDetails")
+    public User company(Application application) {
+        return application.getJob().getCompany();
+    }
+
+    @SchemaMapping(typeName = "ApplicationDetails")
+    public List<String> requirements(Application application) {
+        return application.getJob().getRequirements();
+    }
+
+    @SchemaMapping(typeName = "ApplicationDetails")
+    public List<String> responsibilities(Application application) {
+        return application.getJob().getResponsibilities();
+    }
+
+    @SchemaMapping(typeName = "ApplicationDetails", field = "appliedAt")
+    public String detailsAppliedAt(Application application) {
+        return formatAppliedAt(application);
+    }
+
+    // Company: a User with the COMPANY role
+
+    @SchemaMapping(typeName = "Company")
+    public String bio(User company) {
+        return company.getBio() != null ? company.getBio() : "No Description";
+    }
+
+    private String formatAppliedAt(Application application) {
+        return application.getAppliedAt() != null
+                ? application.getAppliedAt().atZone(ZoneOffset.UTC).toInstant().toString() : null;
+    }
+
+    // Maps each source to its association. References that are already initialized are used as
+    // they are; the rest are fetched with a single findAllById over their distinct ids.
+    private <S, T> Map<S, T> batchLoad(List<S> sources, Function<S, T> association, Function<T, Long> idOf,
+                                       Function<Set<Long>, List<T>> loader) {
+        Set<Long> missing = new LinkedHashSet<>();
+        for (S source : sources) {
+            T target = association.apply(source);
+            if (target != null && !Hibernate.isInitialized(target)) {
+                missing.add(idOf.apply(target));
+            }
+        }
+
+        Map<Long, T> loaded = new HashMap<>();
+        if (!missing.isEmpty()) {
+            for (T target : loader.apply(missing)) {
+                loaded.put(idOf.apply(target), target);
+            }
+        }
+
+        Map<S, T> result = new LinkedHashMap<>();
+        for (S source : sources) {
+            T target = association.apply(source);
+            if (target != null) {
+                result.put(source, Hibernate.isInitialized(target) ? target : loaded.getOrDefault(idOf.apply(target), target));
+            }
+        }
+        return result;
+    }
+}
@@ -1,20 +1,25 @@
 package com.jobportal.graphql.resolver;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.GraphQlExceptionHandler;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.execution.ErrorType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 
+import com.jobportal.dto.JobPage;
 import com.jobportal.entity.Job;
+import com.jobportal.enums.JobSortField;
 import com.jobportal.security.CustomUserDetails;
 import com.jobportal.service.JobService;
 
-import java.util.HashMap;
+import graphql.GraphQLError;
+
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 @Controller
 public class JobResolver {
@@ -22,40 +27,63 @@ public class JobResolver {
     @Autowired
     private JobService jobService;
 
+    // Queries return the Job entities; EntityFieldResolver resolves the fields that need loading
+    // or formatting, and only when they are selected
     @QueryMapping
-    public List<Map<String, Object>> getAllJobs(
+    public List<Job> getAllJobs(
             @Argument String location,
             @Argument String title,
-            @Argument String salaryRange) {
-        List<Job> jobs = jobService.searchJobs(location, title, salaryRange);
-        return jobs.stream()
-            .sorted((j1, j2) -> {
-                if (j1.getPostedAt() == null && j2.getPostedAt() == null) return 0;
-                if (j1.getPostedAt() == null) return 1;
-                if (j2.getPostedAt() == null) return -1;
-                return j2.getPostedAt().compareTo(j1.getPostedAt());
-            })
-            .map(this::mapJobToGraphQL)
-            .toList();
+            @Argument String salaryRange,
+            @Argument Long minSalary,
+            @Argument Long maxSalary,
+            @Argument String salaryCurrency,
+            @Argument String keywords,
+            @Argument Integer first,
+            @Argument String after,
+            @Argument JobSortField sortBy,
+            @Argument Sort.Direction direction) {
+        if (first != null || after != null) {
+            return jobService.searchJobsPage(location, title, salaryRange, minSalary, maxSalary, salaryCurrency,
+                    keywords, after, first, sortBy, direction)
+                .getJobs();
+        }
+        // Ranked by relevance for title/keyword searches, otherwise newest first, unless sortBy is given
+        return jobService.searchJobs(location, title, salaryRange, minSalary, maxSalary, salaryCurrency,
+                keywords, sortBy, direction);
     }
 
     @QueryMapping
-    public Map<String, Object> getJobById(@Argument Long id) {
-        Optional<Job> jobOpt = jobService.getJobById(id);
-        return jobOpt.map(this::mapJobToGraphQL).orElse(null);
+    public JobPage getJobsPage(
+            @Argument String location,
+            @Argument String title,
+            @Argument String salaryRange,
+            @Argument Long minSalary,
+            @Argument Long maxSalary,
+            @Argument String salaryCurrency,
+            @Argument String keywords,
+            @Argument Integer first,
+            @Argument String after,
+            @Argument JobSortField sortBy,
+            @Argument Sort.Direction direction) {
+        return jobService.searchJobsPage(location, title, salaryRange, minSalary, maxSalary, salaryCurrency,
+                keywords, after, first, sortBy, direction);
     }
 
     @QueryMapping
-    public List<Map<String, Object>> getCompanyJobs(@AuthenticationPrincipal CustomUserDetails userDetails) {
+    public Job getJobById(@Argument Long id) {
+        return jobService.getJobById(id).orElse(null);
+    }
+
+    @QueryMapping
+    public List<Job> getCompanyJobs(@AuthenticationPrincipal CustomUserDetails userDetails) {
         if (userDetails == null || !userDetails.getUser().getRole().toString().equals("COMPANY")) {
             throw new RuntimeException("Access denied. Company role required.");
         }
-        List<Job> jobs = jobService.getJobsByCompany(userDetails.getUser().getId());
-        return jobs.stream().map(this::mapJobToGraphQL).toList();
+        return jobService.getJobsByCompany(userDetails.getUser().getId());
     }
 
     @MutationMapping
-    public Map<String, Object> createJob(
+    public Job createJob(
             @Argument Map<String, Object> input,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
         if (userDetails == null || !userDetails.getUser().getRole().toString().equals("COMPANY")) {
@@ -71,11 +99,11 @@ public class JobResolver {
         job.setResponsibilities((List<String>) input.get("responsibilities"));
 
         Job createdJob = jobService.createJob(userDetails.getUser(), job);
-        return mapJobToGraphQL(createdJob);
+        return createdJob;
     }
 
     @MutationMapping
-    public Map<String, Object> updateJob(
+    public Job updateJob(
             @Argument Long id,
             @Argument Map<String, Object> input,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
@@ -92,7 +120,7 @@ public class JobResolver {
         if (input.containsKey("responsibilities")) job.setResponsibilities((List<String>) input.get("responsibilities"));
 
         Job updatedJob = jobService.updateJob(userDetails.getUser().getId(), id, job);
-        return mapJobToGraphQL(updatedJob);
+        return updatedJob;
     }
 
     @MutationMapping
@@ -108,7 +136,7 @@ public class JobResolver {
     }
 
     @MutationMapping
-    public Map<String, Object> updateJobStatus(
+    public Job updateJobStatus(
             @Argument Long id,
             @Argument Boolean active,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
@@ -117,33 +145,13 @@ public class JobResolver {
         }
 
         Job updatedJob = jobService.updateJobActiveStatus(userDetails.getUser().getId(), id, active);
-        return mapJobToGraphQL(updatedJob);
+        return updatedJob;
     }
 
-    private Map<String, Object> mapJobToGraphQL(Job job) {
-        String formattedDate = null;
-        if (job.getPostedAt() != null) {
-            formattedDate = job.getPostedAt().toString().replace("T", "T").concat("Z");
-        }
-
-        Map<String, Object> jobMap = new HashMap<>();
-        jobMap.put("id", String.valueOf(job.getId()));
-        jobMap.put("title", job.getTitle());
-        jobMap.put("description", job.getDescription());
-        jobMap.put("company", Map.of(
-            "id", job.getCompany().getId(),
-            "name", job.getCompany().getName(),
-            "email", job.getCompany().getEmail(),
-            "bio", job.getCompany().getBio() != null ? job.getCompany().getBio() : "No Description"
-        ));
-        jobMap.put("location", job.getLocation());
-        jobMap.put("salaryRange", job.getSalaryRange());
-        jobMap.put("postedAt", formattedDate);
-        jobMap.put("requirements", job.getRequirements());
-        jobMap.put("responsibilities", job.getResponsibilities());
-        jobMap.put("applicationsCount", jobService.getApplicationsCountForJob(job.getId()));
-        jobMap.put("active", job.isActive());
-
-        return jobMap;
+    // Invalid search arguments (reversed salary bounds, unknown currency, foreign cursor) are
+    // client errors, as on the REST listing
+    @GraphQlExceptionHandler
+    public GraphQLError handleInvalidArgument(IllegalArgumentException e) {
+        return GraphQLError.newError().errorType(ErrorType.BAD_REQUEST).message(e.getMessage()).build();
     }
 }
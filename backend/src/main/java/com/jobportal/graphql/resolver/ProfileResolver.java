@@ -7,6 +7,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 
 import com.jobportal.dto.ProfileUpdateDTO;
+import com.jobportal.dto.response.UserResponse;
 import com.jobportal.security.CustomUserDetails;
 import com.jobportal.service.ProfileService;
 
@@ -19,7 +20,7 @@ public class ProfileResolver {
     private ProfileService profileService;
 
     @MutationMapping
-    public Map<String, Object> updateProfile(
+    public UserResponse updateProfile(
             @Argument Map<String, Object> input,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
         if (userDetails == null) {
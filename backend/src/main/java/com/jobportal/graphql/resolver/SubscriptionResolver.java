@@ -0,0 +1,50 @@
+package com.jobportal.graphql.resolver;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.ContextValue;
+import org.springframework.graphql.data.method.annotation.SubscriptionMapping;
+import org.springframework.stereotype.Controller;
+
+import com.jobportal.entity.User;
+import com.jobportal.event.ApplicationChangeBus;
+import com.jobportal.event.ApplicationChangedEvent;
+import com.jobportal.graphql.GraphQlAuthInterceptor;
+import com.jobportal.security.CustomUserDetails;
+
+import reactor.core.publisher.Flux;
+
+import java.util.function.Predicate;
+
+@Controller
+public class SubscriptionResolver {
+
+    @Autowired
+    private ApplicationChangeBus applicationChangeBus;
+
+    // Applicants receive changes to their own applications, companies changes to applications for
+    // their jobs and admins every change; applicationId and jobId narrow that further.
+    // The caller is the WebSocket connection's user, see GraphQlAuthInterceptor
+    @SubscriptionMapping
+    public Flux<ApplicationChangedEvent> applicationStatusChanged(
+            @Argument Long applicationId,
+            @Argument Long jobId,
+            @ContextValue(name = GraphQlAuthInterceptor.USER_KEY, required = false) CustomUserDetails userDetails) {
+        if (userDetails == null) {
+            throw new RuntimeException("Authentication required");
+        }
+
+        User user = userDetails.getUser();
+        Long userId = user.getId();
+        Predicate<ApplicationChangedEvent> visible = switch (user.getRole()) {
+            case APPLICANT -> event -> userId.equals(event.getApplicantId());
+            case COMPANY -> event -> userId.equals(event.getCompanyId());
+            case ADMIN -> event -> true;
+        };
+        return applicationChangeBus.subscribe(visible
+                        .and(event -> event.getType() == ApplicationChangedEvent.Type.STATUS_CHANGED)
+                        .and(event -> applicationId == null || applicationId.equals(event.getApplicationId()))
+                        .and(event -> jobId == null || jobId.equals(event.getJobId())))
+                .map(ApplicationChangeBus.Entry::event);
+    }
+}
@@ -0,0 +1,97 @@
+package com.jobportal.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stand-in syslog collector for the local-syslog profile: a plain TCP listener inside the
+ * application that the SYSLOG appender writes to instead of the hosted collector. It only
+ * counts the newline-delimited messages it receives, so the syslog path can be exercised
+ * without network access.
+ */
+@Component
+@Profile("local-syslog")
+public class LocalSyslogCollector {
+    private static final Logger logger = LoggerFactory.getLogger(LocalSyslogCollector.class);
+
+    @Value("${logging.syslog.local-host:localhost}")
+    private String host;
+
+    @Value("${logging.syslog.local-port:5514}")
+    private int port;
+
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicInteger connections = new AtomicInteger();
+    private volatile String lastMessage;
+
+    private ServerSocket serverSocket;
+
+    @PostConstruct
+    void start() throws IOException {
+        serverSocket = new ServerSocket(port, 50, InetAddress.getByName(host));
+        Thread acceptor = new Thread(this::accept, "local-syslog-collector");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        logger.info("Local syslog collector listening on {}:{}", host, port);
+    }
+
+    @PreDestroy
+    void stop() throws IOException {
+        serverSocket.close();
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("address", host + ":" + port);
+        statistics.put("connections", connections.get());
+        statistics.put("received", received.get());
+        statistics.put("lastMessage", lastMessage);
+        return statistics;
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                Thread reader = new Thread(() -> read(socket), "local-syslog-connection-" + connections.incrementAndGet());
+                reader.setDaemon(true);
+                reader.start();
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    logger.warn("Local syslog collector failed to accept a connection: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void read(Socket socket) {
+        try (socket; BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (!line.isBlank()) {
+                    received.incrementAndGet();
+                    lastMessage = line;
+                }
+            }
+        } catch (IOException e) {
+            // The appender reconnects on its next write
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.jobportal.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Logback AsyncAppender that counts what it drops. Once the queue is filled beyond
+ * discardingThreshold, events at or below discardLevel are discarded (logback's default is
+ * INFO); with neverBlock a full queue drops the event instead of blocking the logging thread.
+ * LoggingMetricsService reads the counters from the logger context.
+ */
+public class MeteredAsyncAppender extends AsyncAppender {
+
+    private Level discardLevel = Level.INFO;
+
+    private final LongAdder offered = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+    private final LongAdder droppedFull = new LongAdder();
+
+    public void setDiscardLevel(String discardLevel) {
+        this.discardLevel = Level.toLevel(discardLevel, Level.INFO);
+    }
+
+    public String getDiscardLevel() {
+        return discardLevel.toString();
+    }
+
+    // Only called once the queue is past discardingThreshold
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        if (event.getLevel().toInt() <= discardLevel.toInt()) {
+            discarded.increment();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        if (isNeverBlock() && getRemainingCapacity() == 0) {
+            // AsyncAppenderBase would silently fail the offer; count it instead
+            droppedFull.increment();
+            return;
+        }
+        offered.increment();
+        super.append(event);
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("queueDepth", isStarted() ? getNumberOfElementsInQueue() : 0);
+        statistics.put("queueSize", getQueueSize());
+        statistics.put("discardingThreshold", getDiscardingThreshold());
+        statistics.put("discardLevel", getDiscardLevel());
+        statistics.put("neverBlock", isNeverBlock());
+        statistics.put("offered", offered.sum());
+        statistics.put("discarded", discarded.sum());
+        statistics.put("droppedQueueFull", droppedFull.sum());
+        return statistics;
+    }
+}
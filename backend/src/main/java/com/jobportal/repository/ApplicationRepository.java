@@ -1,12 +1,15 @@
 package com.jobportal.repository;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.jobportal.entity.Application;
 import com.jobportal.entity.Job;
 import com.jobportal.entity.User;
 import com.jobportal.enums.ApplicationStatus;
+import com.jobportal.repository.projection.ApplicationListView;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,12 +17,33 @@ import java.util.Optional;
 @Repository
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
     List<Application> findByApplicantId(Long applicantId);
+    // Applications listed with their job, its company and the applicant in a single select
+    @EntityGraph(attributePaths = {"job", "job.company", "applicant"})
     List<Application> findByJobId(Long jobId);
+    @EntityGraph(attributePaths = {"job", "job.company", "applicant"})
+    List<Application> findByJobCompanyId(Long companyId);
     List<Application> findByStatus(ApplicationStatus status);
     void deleteByJobId(Long jobId);
     void deleteByApplicantId(Long applicantId);
     long countByStatus(String status);
     Optional<Application> findByApplicantAndJob(User applicant, Job job);
+    @EntityGraph(attributePaths = {"job", "job.company", "applicant"})
     List<Application> findByApplicantOrderByAppliedAtDesc(User applicant);
     long countByJobId(Long jobId);
+
+    // List page rows flattened over job, company and applicant, optionally filtered by status
+    @Query("SELECT a.id AS id, j.id AS jobId, j.title AS jobTitle, c.name AS companyName, " +
+            "ap.id AS applicantId, ap.name AS applicantName, ap.email AS applicantEmail, " +
+            "a.resumeUrl AS resumeUrl, a.status AS status, a.appliedAt AS appliedAt " +
+            "FROM Application a JOIN a.job j JOIN j.company c JOIN a.applicant ap " +
+            "WHERE (:status IS NULL OR a.status = :status) ORDER BY a.id")
+    List<ApplicationListView> findListViews(ApplicationStatus status);
+
+    // Applicant pipeline snapshot of one job or of all of a company's jobs
+    @Query("SELECT a.id AS id, j.id AS jobId, j.title AS jobTitle, c.name AS companyName, " +
+            "ap.id AS applicantId, ap.name AS applicantName, ap.email AS applicantEmail, " +
+            "a.resumeUrl AS resumeUrl, a.status AS status, a.appliedAt AS appliedAt " +
+            "FROM Application a JOIN a.job j JOIN j.company c JOIN a.applicant ap " +
+            "WHERE c.id = :companyId AND (:jobId IS NULL OR j.id = :jobId) ORDER BY a.id")
+    List<ApplicationListView> findPipelineViews(Long companyId, Long jobId);
 }
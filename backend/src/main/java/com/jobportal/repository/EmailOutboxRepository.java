@@ -0,0 +1,31 @@
+package com.jobportal.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.jobportal.entity.EmailOutbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    // Due rows, locked for the calling transaction; rows locked by another dispatcher are skipped (MySQL 8+)
+    @Query(value = "SELECT * FROM email_outbox WHERE status = 'PENDING' AND next_attempt_at <= :now " +
+            "ORDER BY next_attempt_at, id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<EmailOutbox> lockDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // Hand rows claimed by a dispatcher that died mid-send back to the queue
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = com.jobportal.enums.EmailOutboxStatus.PENDING, e.claimedAt = null " +
+            "WHERE e.status = com.jobportal.enums.EmailOutboxStatus.SENDING AND e.claimedAt < :claimedBefore")
+    int releaseStaleClaims(@Param("claimedBefore") LocalDateTime claimedBefore);
+
+    // Row counts per status: [status, count]
+    @Query("SELECT e.status, COUNT(e) FROM EmailOutbox e GROUP BY e.status")
+    List<Object[]> countGroupByStatus();
+}
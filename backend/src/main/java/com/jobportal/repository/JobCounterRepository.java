@@ -0,0 +1,7 @@
+package com.jobportal.repository;
+
+public interface JobCounterRepository {
+
+    // Atomically move the denormalized applications counter, never below zero
+    int adjustApplicationsCount(Long jobId, long delta);
+}
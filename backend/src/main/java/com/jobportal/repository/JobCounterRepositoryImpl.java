@@ -0,0 +1,52 @@
+package com.jobportal.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.jobportal.entity.Job;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Moves jobs.applications_count with plain SQL. A JPQL bulk UPDATE would make Hibernate evict
+ * the whole jobs cache region and invalidate every cached query over jobs, and this runs on
+ * every apply and withdraw. Here only the changed job is evicted, once the transaction commits.
+ *
+ * The query cache is left alone: cached listing results keep their job ids, and those jobs are
+ * re-read with the new count, but a listing sorted by applicationsCount may keep its previous
+ * order until the result expires (app.cache.query.ttl-seconds).
+ */
+public class JobCounterRepositoryImpl implements JobCounterRepository {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public int adjustApplicationsCount(Long jobId, long delta) {
+        int updated = jdbcTemplate.update(
+                "UPDATE jobs SET applications_count = "
+                        + "CASE WHEN applications_count + ? < 0 THEN 0 ELSE applications_count + ? END WHERE id = ?",
+                delta, delta, jobId);
+        evictAfterCommit(jobId);
+        return updated;
+    }
+
+    // Evicting earlier would let a concurrent reader cache the pre-commit value again
+    private void evictAfterCommit(Long jobId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            entityManagerFactory.getCache().evict(Job.class, jobId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entityManagerFactory.getCache().evict(Job.class, jobId);
+            }
+        });
+    }
+}
@@ -1,39 +1,153 @@
 package com.jobportal.repository;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.jobportal.entity.Job;
+import com.jobportal.repository.projection.JobListView;
 
+import org.hibernate.jpa.HibernateHints;
+
+import jakarta.persistence.QueryHint;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface JobRepository extends JpaRepository<Job, Long> {
+public interface JobRepository extends JpaRepository<Job, Long>, JobCounterRepository {
+    // Listing queries marked HINT_CACHEABLE go to the query cache; Hibernate invalidates
+    // their results whenever the jobs table changes. Queries returning jobs name the fetch
+    // plan (Job.LISTING_GRAPH / Job.DETAIL_GRAPH) their callers render
+    @EntityGraph(Job.LISTING_GRAPH)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Job> findByIsActiveTrue();
+    @EntityGraph(Job.LISTING_GRAPH)
     List<Job> findByCompanyId(Long companyId);
     long countByIsActiveTrue();
+    @EntityGraph(Job.LISTING_GRAPH)
     List<Job> findByIsActive(Boolean isActive);
 
-    @Modifying
+    @Override
+    @EntityGraph(Job.LISTING_GRAPH)
+    List<Job> findAll();
+
+    @Override
+    @EntityGraph(Job.LISTING_GRAPH)
+    List<Job> findAllById(Iterable<Long> ids);
+
+    // Single job with everything the detail view renders
+    @EntityGraph(Job.DETAIL_GRAPH)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT j FROM Job j WHERE j.id = :id")
+    Optional<Job> findDetailById(Long id);
+
+    // List page rows with the company name joined in, optionally filtered by active flag
+    @Query("SELECT j.id AS id, j.title AS title, c.id AS companyId, c.name AS companyName, " +
+            "j.location AS location, j.salaryRange AS salaryRange, j.postedAt AS postedAt, " +
+            "j.applicationsCount AS applicationsCount, j.isActive AS active " +
+            "FROM Job j JOIN j.company c WHERE (:active IS NULL OR j.isActive = :active) ORDER BY j.id")
+    List<JobListView> findListViews(Boolean active);
+
+    // Clears the persistence context so a following findById sees the new status
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
     @Query("UPDATE Job j SET j.isActive = :active WHERE j.id = :jobId")
     void updateJobActiveStatus(Long jobId, boolean active);
 
+    // Recompute the counter from the applications table for a batch of jobs, touching only drifted rows.
+    // As a bulk UPDATE it clears the jobs cache region, which is acceptable for this maintenance path;
+    // the per-application adjustApplicationsCount (JobCounterRepository) avoids that
+    @Modifying
+    @Query("UPDATE Job j SET j.applicationsCount = " +
+            "(SELECT COUNT(a) FROM Application a WHERE a.job.id = j.id) " +
+            "WHERE j.id IN :jobIds " +
+            "AND j.applicationsCount <> (SELECT COUNT(a2) FROM Application a2 WHERE a2.job.id = j.id)")
+    int reconcileApplicationsCount(List<Long> jobIds);
+
+    // Job ids in ascending order, used to walk the table in batches
+    @Query("SELECT j.id FROM Job j WHERE j.id > :afterId ORDER BY j.id")
+    List<Long> findIdsAfter(Long afterId, Pageable pageable);
+
     // Search by title (case-insensitive partial match)
+    @EntityGraph(Job.LISTING_GRAPH)
     List<Job> findByTitleContainingIgnoreCaseAndIsActiveTrue(String title);
 
     // Search by location (case-insensitive partial match)
+    @EntityGraph(Job.LISTING_GRAPH)
     List<Job> findByLocationContainingIgnoreCaseAndIsActiveTrue(String location);
 
     // Search by salary range (case-insensitive partial match)
     // Use exact matching for salary range since it might contain special characters
+    @EntityGraph(Job.LISTING_GRAPH)
     List<Job> findBySalaryRangeAndIsActiveTrue(String salaryRange);
 
-    // Custom query for advanced search with dynamic parameters
+    // Custom query for advanced search with dynamic parameters, ordered by the given sort
+    // (see JobSortField) in the database. minSalary/maxSalary keep jobs whose salary range
+    // overlaps [minSalary, maxSalary]; jobs without a parsed salary only pass when neither is set.
+    // currency keeps jobs paid in it, counting jobs whose salary names no currency as defaultCurrency
+    @EntityGraph(Job.LISTING_GRAPH)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT j FROM Job j WHERE j.isActive = true " +
+            "AND (:title IS NULL OR LOWER(j.title) LIKE LOWER(CONCAT('%', :title, '%'))) " +
+            "AND (:location IS NULL OR LOWER(j.location) LIKE LOWER(CONCAT('%', :location, '%'))) " +
+            "AND (:salaryRange IS NULL OR j.salaryRange = :salaryRange) " +
+            "AND (:minSalary IS NULL OR j.salaryMax >= :minSalary OR (j.salaryMax IS NULL AND j.salaryMin IS NOT NULL)) " +
+            "AND (:maxSalary IS NULL OR j.salaryMin <= :maxSalary) " +
+            "AND (:currency IS NULL OR COALESCE(j.salaryCurrency, :defaultCurrency) = :currency)")
+    List<Job> searchJobs(String title, String location, String salaryRange, Long minSalary, Long maxSalary,
+                         String currency, String defaultCurrency, Sort sort);
+
+    // One page of the same search; the pageable carries the sort
+    @EntityGraph(Job.LISTING_GRAPH)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT j FROM Job j WHERE j.isActive = true " +
+            "AND (:title IS NULL OR LOWER(j.title) LIKE LOWER(CONCAT('%', :title, '%'))) " +
+            "AND (:location IS NULL OR LOWER(j.location) LIKE LOWER(CONCAT('%', :location, '%'))) " +
+            "AND (:salaryRange IS NULL OR j.salaryRange = :salaryRange) " +
+            "AND (:minSalary IS NULL OR j.salaryMax >= :minSalary OR (j.salaryMax IS NULL AND j.salaryMin IS NOT NULL)) " +
+            "AND (:maxSalary IS NULL OR j.salaryMin <= :maxSalary) " +
+            "AND (:currency IS NULL OR COALESCE(j.salaryCurrency, :defaultCurrency) = :currency)")
+    Slice<Job> searchJobsSlice(String title, String location, String salaryRange, Long minSalary, Long maxSalary,
+                               String currency, String defaultCurrency, Pageable pageable);
+
+    // The given jobs (search index hits already filtered to active ones) in the requested order
+    @EntityGraph(Job.LISTING_GRAPH)
+    @Query("SELECT j FROM Job j WHERE j.id IN :jobIds")
+    Slice<Job> findByIdIn(Collection<Long> jobIds, Pageable pageable);
+
+    // Which of the given jobs (search index hits) are active and pass the remaining filters
+    @Query("SELECT j.id FROM Job j WHERE j.id IN :jobIds AND j.isActive = true " +
+            "AND (:title IS NULL OR LOWER(j.title) LIKE LOWER(CONCAT('%', :title, '%'))) " +
+            "AND (:location IS NULL OR LOWER(j.location) LIKE LOWER(CONCAT('%', :location, '%'))) " +
+            "AND (:salaryRange IS NULL OR j.salaryRange = :salaryRange) " +
+            "AND (:minSalary IS NULL OR j.salaryMax >= :minSalary OR (j.salaryMax IS NULL AND j.salaryMin IS NOT NULL)) " +
+            "AND (:maxSalary IS NULL OR j.salaryMin <= :maxSalary) " +
+            "AND (:currency IS NULL OR COALESCE(j.salaryCurrency, :defaultCurrency) = :currency)")
+    List<Long> findActiveIdsIn(Collection<Long> jobIds, String title, String location, String salaryRange,
+                               Long minSalary, Long maxSalary, String currency, String defaultCurrency);
+
+    // Keyset page of the same search: rows strictly after (cursorPostedAt, cursorId) in listing order
+    @EntityGraph(Job.LISTING_GRAPH)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT j FROM Job j WHERE j.isActive = true " +
             "AND (:title IS NULL OR LOWER(j.title) LIKE LOWER(CONCAT('%', :title, '%'))) " +
             "AND (:location IS NULL OR LOWER(j.location) LIKE LOWER(CONCAT('%', :location, '%'))) " +
-            "AND (:salaryRange IS NULL OR j.salaryRange = :salaryRange)")
-    List<Job> searchJobs(String title, String location, String salaryRange);
+            "AND (:salaryRange IS NULL OR j.salaryRange = :salaryRange) " +
+            "AND (:minSalary IS NULL OR j.salaryMax >= :minSalary OR (j.salaryMax IS NULL AND j.salaryMin IS NOT NULL)) " +
+            "AND (:maxSalary IS NULL OR j.salaryMin <= :maxSalary) " +
+            "AND (:currency IS NULL OR COALESCE(j.salaryCurrency, :defaultCurrency) = :currency) " +
+            "AND (:cursorPostedAt IS NULL OR j.postedAt < :cursorPostedAt " +
+            "OR (j.postedAt = :cursorPostedAt AND j.id < :cursorId)) " +
+            "ORDER BY j.postedAt DESC, j.id DESC")
+    List<Job> searchJobsPage(String title, String location, String salaryRange, Long minSalary, Long maxSalary,
+                             String currency, String defaultCurrency,
+                             LocalDateTime cursorPostedAt, Long cursorId, Pageable pageable);
 }
@@ -7,6 +7,7 @@ import org.springframework.stereotype.Repository;
 
 import com.jobportal.entity.User;
 import com.jobportal.enums.Role;
+import com.jobportal.repository.projection.UserListView;
 
 import java.util.List;
 import java.util.Optional;
@@ -18,6 +19,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
     long countByRole(Role role);
     boolean existsByEmail(String email);
 
+    // List page rows: selects only the projected columns, optionally filtered by role
+    @Query("SELECT u.id AS id, u.name AS name, u.email AS email, u.role AS role, " +
+            "u.createdAt AS createdAt, u.active AS active FROM User u " +
+            "WHERE (:role IS NULL OR u.role = :role) ORDER BY u.id")
+    List<UserListView> findListViews(Role role);
+
     @Modifying
     @Query("UPDATE User u SET u.active = :active WHERE u.id = :userId")
     void updateUserActiveStatus(Long userId, boolean active);
@@ -0,0 +1,30 @@
+package com.jobportal.repository.audit;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.jobportal.entity.audit.AuditLogHourlyCount;
+import com.jobportal.entity.audit.AuditOperation;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// All queries take an upper bound so hours still present in audit_logs are never counted twice
+@Repository
+public interface AuditLogHourlyCountRepository extends JpaRepository<AuditLogHourlyCount, Long> {
+
+    @Query("SELECT COALESCE(SUM(h.logCount), 0) FROM AuditLogHourlyCount h " +
+            "WHERE h.operation = :operation AND h.bucketStart >= :since AND h.bucketStart < :before")
+    Long sumByOperationBetween(@Param("operation") AuditOperation operation,
+                               @Param("since") LocalDateTime since, @Param("before") LocalDateTime before);
+
+    @Query("SELECT COALESCE(SUM(h.logCount), 0) FROM AuditLogHourlyCount h " +
+            "WHERE h.success = :success AND h.bucketStart >= :since AND h.bucketStart < :before")
+    Long sumBySuccessBetween(@Param("success") boolean success,
+                             @Param("since") LocalDateTime since, @Param("before") LocalDateTime before);
+
+    @Query("SELECT DISTINCT h.entityName FROM AuditLogHourlyCount h")
+    List<String> findDistinctEntityNames();
+}
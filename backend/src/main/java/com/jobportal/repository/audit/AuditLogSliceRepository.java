@@ -0,0 +1,13 @@
+package com.jobportal.repository.audit;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.jobportal.entity.audit.AuditLog;
+
+public interface AuditLogSliceRepository {
+
+    // Like findAll(spec, pageable) but without the COUNT(*) query: fetches one extra row to know if there is a next page
+    Slice<AuditLog> findSlice(Specification<AuditLog> spec, Pageable pageable);
+}
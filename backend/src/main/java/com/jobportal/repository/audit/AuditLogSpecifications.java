@@ -0,0 +1,82 @@
+package com.jobportal.repository.audit;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.jobportal.entity.audit.AuditLog;
+import com.jobportal.entity.audit.AuditOperation;
+
+import java.time.LocalDateTime;
+
+/**
+ * Composable filters for audit log searches. Each filter is a plain equality or range on an
+ * indexed column, so any combination can use one of the composite indexes on audit_logs.
+ */
+public final class AuditLogSpecifications {
+
+    private AuditLogSpecifications() {
+    }
+
+    public static Specification<AuditLog> hasUserEmail(String userEmail) {
+        return (root, query, cb) -> cb.equal(root.get("userEmail"), userEmail);
+    }
+
+    public static Specification<AuditLog> hasEntityName(String entityName) {
+        return (root, query, cb) -> cb.equal(root.get("entityName"), entityName);
+    }
+
+    public static Specification<AuditLog> hasOperation(AuditOperation operation) {
+        return (root, query, cb) -> cb.equal(root.get("operation"), operation);
+    }
+
+    public static Specification<AuditLog> hasSuccess(boolean success) {
+        return (root, query, cb) -> cb.equal(root.get("success"), success);
+    }
+
+    public static Specification<AuditLog> timestampFrom(LocalDateTime from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("timestamp"), from);
+    }
+
+    public static Specification<AuditLog> timestampTo(LocalDateTime to) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("timestamp"), to);
+    }
+
+    // Case-insensitive, like the audit screen's default view that hides its own requests
+    public static Specification<AuditLog> excludingEntity(String entityName) {
+        return (root, query, cb) -> cb.notEqual(cb.lower(root.get("entityName")), entityName.toLowerCase());
+    }
+
+    /**
+     * All non-null filters combined with AND; with no filters at all, everything except
+     * the audit controller's own entries.
+     */
+    public static Specification<AuditLog> matching(String userEmail, String entityName, AuditOperation operation,
+                                                   Boolean success, LocalDateTime from, LocalDateTime to) {
+        Specification<AuditLog> spec = Specification.where(null);
+        boolean filtered = false;
+        if (userEmail != null && !userEmail.isEmpty()) {
+            spec = spec.and(hasUserEmail(userEmail));
+            filtered = true;
+        }
+        if (entityName != null && !entityName.isEmpty()) {
+            spec = spec.and(hasEntityName(entityName));
+            filtered = true;
+        }
+        if (operation != null) {
+            spec = spec.and(hasOperation(operation));
+            filtered = true;
+        }
+        if (success != null) {
+            spec = spec.and(hasSuccess(success));
+            filtered = true;
+        }
+        if (from != null) {
+            spec = spec.and(timestampFrom(from));
+            filtered = true;
+        }
+        if (to != null) {
+            spec = spec.and(timestampTo(to));
+            filtered = true;
+        }
+        return filtered ? spec : excludingEntity("AuditController");
+    }
+}
@@ -0,0 +1,22 @@
+package com.jobportal.repository.projection;
+
+import com.jobportal.enums.ApplicationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Columns of an application row shown in list pages, flattened from the application,
+ * its job, the job's company and the applicant.
+ */
+public interface ApplicationListView {
+    Long getId();
+    Long getJobId();
+    String getJobTitle();
+    String getCompanyName();
+    Long getApplicantId();
+    String getApplicantName();
+    String getApplicantEmail();
+    String getResumeUrl();
+    ApplicationStatus getStatus();
+    LocalDateTime getAppliedAt();
+}
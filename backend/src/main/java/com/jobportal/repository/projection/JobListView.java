@@ -0,0 +1,19 @@
+package com.jobportal.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Columns of a job row shown in list pages, with the owning company's name joined in.
+ * Leaves out the description and the requirement/responsibility collections.
+ */
+public interface JobListView {
+    Long getId();
+    String getTitle();
+    Long getCompanyId();
+    String getCompanyName();
+    String getLocation();
+    String getSalaryRange();
+    LocalDateTime getPostedAt();
+    Long getApplicationsCount();
+    Boolean getActive();
+}
@@ -0,0 +1,17 @@
+package com.jobportal.repository.projection;
+
+import com.jobportal.enums.Role;
+
+import java.time.LocalDateTime;
+
+/**
+ * Columns of a user row shown in list pages. Leaves out the password hash and the bio.
+ */
+public interface UserListView {
+    Long getId();
+    String getName();
+    String getEmail();
+    Role getRole();
+    LocalDateTime getCreatedAt();
+    Boolean getActive();
+}
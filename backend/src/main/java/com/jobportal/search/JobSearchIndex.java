@@ -0,0 +1,377 @@
+package com.jobportal.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jobportal.entity.Job;
+import com.jobportal.event.JobChangedEvent;
+import com.jobportal.repository.JobRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over active jobs (title, requirements, description) with
+ * BM25F ranking. Built once at startup and then kept current from {@link JobChangedEvent}s
+ * after the publishing transaction commits. The location and salary of each job are kept
+ * alongside, so the listing filters are applied before hits are ranked and cut to max-hits.
+ */
+@Component
+public class JobSearchIndex {
+    private static final Logger logger = LoggerFactory.getLogger(JobSearchIndex.class);
+
+    public enum Field {
+        TITLE(3.0),
+        REQUIREMENTS(1.5),
+        DESCRIPTION(1.0);
+
+        private final double weight;
+
+        Field(double weight) {
+            this.weight = weight;
+        }
+    }
+
+    public record Hit(Long jobId, double score) {
+    }
+
+    /**
+     * The non-text listing filters, with the same meaning as in the JobRepository search
+     * queries: location is a case-insensitive substring, salaryRange an exact match and
+     * minSalary/maxSalary keep salaries overlapping [minSalary, maxSalary] and currency keeps
+     * salaries in that currency, defaultCurrency standing in for salaries that name none. Null
+     * means no filter.
+     */
+    public record Filter(String location, String salaryRange, Long minSalary, Long maxSalary,
+                         String currency, String defaultCurrency) {
+        public static final Filter NONE = new Filter(null, null, null, null, null, null);
+
+        boolean test(Facets job) {
+            if (location != null && (job.location() == null || !job.location().contains(location.toLowerCase()))) {
+                return false;
+            }
+            if (salaryRange != null && !salaryRange.equalsIgnoreCase(job.salaryRange())) {
+                return false;
+            }
+            if (currency != null && !currency.equals(job.currency() != null ? job.currency() : defaultCurrency)) {
+                return false;
+            }
+            if (minSalary != null && !(job.salaryMax() != null ? job.salaryMax() >= minSalary : job.salaryMin() != null)) {
+                return false;
+            }
+            return maxSalary == null || (job.salaryMin() != null && job.salaryMin() <= maxSalary);
+        }
+    }
+
+    // What Filter looks at, location lower-cased
+    private record Facets(String location, String salaryRange, Long salaryMin, Long salaryMax, String currency) {
+    }
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int MAX_PREFIX_EXPANSIONS = 50;
+    private static final int BUILD_BATCH_SIZE = 500;
+    private static final Field[] FIELDS = Field.values();
+
+    @Value("${search.index.max-hits:1000}")
+    private int maxHits;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final TextAnalyzer analyzer = new TextAnalyzer();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // term -> (jobId -> term frequency per field); sorted so the last query term can be prefix-expanded
+    private final TreeMap<String, Map<Long, int[]>> postings = new TreeMap<>();
+    // jobId -> terms of that job, needed to unindex it
+    private final Map<Long, Set<String>> docTerms = new HashMap<>();
+    // jobId -> token count per field
+    private final Map<Long, int[]> docLengths = new HashMap<>();
+    private final Map<Long, Facets> docFacets = new HashMap<>();
+    private final long[] totalLengths = new long[FIELDS.length];
+
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Whether the text leaves any term to search for once stop words are removed
+    public boolean hasTerms(String text) {
+        return text != null && !analyzer.analyze(text).isEmpty();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long started = System.currentTimeMillis();
+        TransactionTemplate tx = readOnlyTransaction();
+        Long lastId = 0L;
+        int indexed = 0;
+        while (true) {
+            Long after = lastId;
+            List<Long> ids = jobRepository.findIdsAfter(after, PageRequest.of(0, BUILD_BATCH_SIZE));
+            if (ids.isEmpty()) {
+                break;
+            }
+            Integer added = tx.execute(status -> {
+                int count = 0;
+                for (Job job : jobRepository.findAllById(ids)) {
+                    if (job.isActive()) {
+                        index(job);
+                        count++;
+                    }
+                }
+                return count;
+            });
+            indexed += added != null ? added : 0;
+            lastId = ids.get(ids.size() - 1);
+        }
+        ready = true;
+        logger.info("Job search index built: {} active jobs, {} terms in {} ms",
+                indexed, termCount(), System.currentTimeMillis() - started);
+    }
+
+    // Runs after the publishing transaction commits, so the reload sees the committed row
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        try {
+            readOnlyTransaction().executeWithoutResult(status -> {
+                Job job = jobRepository.findById(event.getJobId()).orElse(null);
+                if (job != null && job.isActive()) {
+                    index(job);
+                } else {
+                    remove(event.getJobId());
+                }
+            });
+        } catch (RuntimeException e) {
+            logger.error("Failed to refresh search index for job {}: {}", event.getJobId(), e.getMessage());
+        }
+    }
+
+    // Add or replace a job in the index; an inactive job is removed instead
+    public void index(Job job) {
+        if (!job.isActive()) {
+            remove(job.getId());
+            return;
+        }
+        List<List<String>> fieldTerms = new ArrayList<>(FIELDS.length);
+        fieldTerms.add(analyzer.analyze(job.getTitle()));
+        fieldTerms.add(analyzer.analyze(job.getRequirements() != null ? String.join(" ", job.getRequirements()) : null));
+        fieldTerms.add(analyzer.analyze(job.getDescription()));
+
+        Map<String, int[]> frequencies = new HashMap<>();
+        int[] lengths = new int[FIELDS.length];
+        for (int f = 0; f < FIELDS.length; f++) {
+            lengths[f] = fieldTerms.get(f).size();
+            for (String term : fieldTerms.get(f)) {
+                frequencies.computeIfAbsent(term, t -> new int[FIELDS.length])[f]++;
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            unindex(job.getId());
+            for (Map.Entry<String, int[]> entry : frequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), t -> new HashMap<>()).put(job.getId(), entry.getValue());
+            }
+            docTerms.put(job.getId(), new HashSet<>(frequencies.keySet()));
+            docLengths.put(job.getId(), lengths);
+            docFacets.put(job.getId(), new Facets(
+                    job.getLocation() != null ? job.getLocation().toLowerCase() : null,
+                    job.getSalaryRange(), job.getSalaryMin(), job.getSalaryMax(), job.getSalaryCurrency()));
+            for (int f = 0; f < FIELDS.length; f++) {
+                totalLengths[f] += lengths[f];
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            unindex(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ranked job ids for a title filter (every term must appear in the title) and/or free-text
+     * keywords (any term in any field), restricted to jobs passing the filter. When both are
+     * given, keyword hits are restricted to jobs matching the title and the scores are added.
+     * The last term of each query also matches as a prefix, so partially typed words still find
+     * results. Only the max-hits best are returned unless allHits is set, which callers that
+     * re-order the matches (an explicit sort) need.
+     */
+    public List<Long> search(String title, String keywords, Filter filter, boolean allHits) {
+        boolean hasTitle = title != null && !title.isBlank();
+        boolean hasKeywords = keywords != null && !keywords.isBlank();
+        if (!hasTitle && !hasKeywords) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores;
+            if (hasTitle) {
+                scores = score(title, EnumSet.of(Field.TITLE), true);
+                if (hasKeywords) {
+                    Map<Long, Double> keywordScores = score(keywords, EnumSet.allOf(Field.class), false);
+                    keywordScores.keySet().retainAll(scores.keySet());
+                    keywordScores.forEach((id, s) -> scores.merge(id, s, Double::sum));
+                    scores.keySet().retainAll(keywordScores.keySet());
+                }
+            } else {
+                scores = score(keywords, EnumSet.allOf(Field.class), false);
+            }
+            if (filter != null) {
+                scores.keySet().removeIf(id -> !filter.test(docFacets.get(id)));
+            }
+            return topHits(scores, allHits ? Integer.MAX_VALUE : maxHits).stream().map(Hit::jobId).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, Double> score(String query, Set<Field> fields, boolean matchAll) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(analyzer.analyze(query)));
+        Map<Long, Double> scores = new HashMap<>();
+        if (terms.isEmpty()) {
+            return scores;
+        }
+
+        int documents = docLengths.size();
+        double[] averageLengths = new double[FIELDS.length];
+        for (int f = 0; f < FIELDS.length; f++) {
+            averageLengths[f] = documents == 0 ? 1.0 : Math.max(1.0, (double) totalLengths[f] / documents);
+        }
+
+        Map<Long, Integer> matchedTerms = new HashMap<>();
+        for (int t = 0; t < terms.size(); t++) {
+            boolean last = t == terms.size() - 1;
+            Set<Long> matched = new HashSet<>();
+            for (String term : last ? expand(terms.get(t)) : List.of(terms.get(t))) {
+                Map<Long, int[]> termPostings = postings.get(term);
+                if (termPostings == null) {
+                    continue;
+                }
+                double idf = Math.log(1.0 + (documents - termPostings.size() + 0.5) / (termPostings.size() + 0.5));
+                for (Map.Entry<Long, int[]> posting : termPostings.entrySet()) {
+                    int[] lengths = docLengths.get(posting.getKey());
+                    double tf = 0;
+                    for (Field field : fields) {
+                        int f = field.ordinal();
+                        int frequency = posting.getValue()[f];
+                        if (frequency > 0) {
+                            tf += field.weight * frequency / (1 - B + B * lengths[f] / averageLengths[f]);
+                        }
+                    }
+                    if (tf > 0) {
+                        scores.merge(posting.getKey(), idf * tf * (K1 + 1) / (tf + K1), Double::sum);
+                        matched.add(posting.getKey());
+                    }
+                }
+            }
+            matched.forEach(id -> matchedTerms.merge(id, 1, Integer::sum));
+        }
+
+        if (matchAll) {
+            scores.keySet().removeIf(id -> matchedTerms.getOrDefault(id, 0) < terms.size());
+        }
+        return scores;
+    }
+
+    // The term itself plus indexed terms that start with it
+    private Collection<String> expand(String term) {
+        Set<String> expanded = new LinkedHashSet<>();
+        expanded.add(term);
+        SortedMap<String, Map<Long, int[]>> tail = postings.subMap(term, term + Character.MAX_VALUE);
+        for (String candidate : tail.keySet()) {
+            if (expanded.size() > MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+            expanded.add(candidate);
+        }
+        return expanded;
+    }
+
+    private List<Hit> topHits(Map<Long, Double> scores, int limit) {
+        Comparator<Hit> byScore = Comparator.comparingDouble(Hit::score).thenComparing(Hit::jobId);
+        PriorityQueue<Hit> heap = new PriorityQueue<>(byScore);
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            heap.offer(new Hit(entry.getKey(), entry.getValue()));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+        List<Hit> hits = new ArrayList<>(heap);
+        hits.sort(byScore.reversed());
+        return hits;
+    }
+
+    // Caller holds the write lock
+    private void unindex(Long jobId) {
+        Set<String> terms = docTerms.remove(jobId);
+        if (terms != null) {
+            for (String term : terms) {
+                Map<Long, int[]> termPostings = postings.get(term);
+                if (termPostings != null) {
+                    termPostings.remove(jobId);
+                    if (termPostings.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+        }
+        docFacets.remove(jobId);
+        int[] lengths = docLengths.remove(jobId);
+        if (lengths != null) {
+            for (int f = 0; f < FIELDS.length; f++) {
+                totalLengths[f] -= lengths[f];
+            }
+        }
+    }
+
+    private int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private TransactionTemplate readOnlyTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+}
@@ -0,0 +1,272 @@
+package com.jobportal.search;
+
+import java.util.Arrays;
+
+/**
+ * Porter (1980) suffix-stripping stemmer for lower-case English words.
+ * Instances keep per-word state, so use one instance per thread.
+ */
+class PorterStemmer {
+    private char[] b;
+    private int k;
+    private int j;
+
+    String stem(String word) {
+        if (word.length() <= 2) {
+            return word;
+        }
+        b = word.toCharArray();
+        k = b.length - 1;
+        step1ab();
+        if (k > 0) {
+            step1c();
+            step2();
+            step3();
+            step4();
+            step5();
+        }
+        return new String(b, 0, k + 1);
+    }
+
+    private boolean cons(int i) {
+        switch (b[i]) {
+            case 'a', 'e', 'i', 'o', 'u':
+                return false;
+            case 'y':
+                return i == 0 || !cons(i - 1);
+            default:
+                return true;
+        }
+    }
+
+    // Number of vowel-consonant sequences in b[0..j]
+    private int m() {
+        int n = 0;
+        int i = 0;
+        while (true) {
+            if (i > j) return n;
+            if (!cons(i)) break;
+            i++;
+        }
+        i++;
+        while (true) {
+            while (true) {
+                if (i > j) return n;
+                if (cons(i)) break;
+                i++;
+            }
+            i++;
+            n++;
+            while (true) {
+                if (i > j) return n;
+                if (!cons(i)) break;
+                i++;
+            }
+            i++;
+        }
+    }
+
+    private boolean vowelInStem() {
+        for (int i = 0; i <= j; i++) {
+            if (!cons(i)) return true;
+        }
+        return false;
+    }
+
+    private boolean doublec(int i) {
+        return i >= 1 && b[i] == b[i - 1] && cons(i);
+    }
+
+    // consonant-vowel-consonant ending where the last consonant is not w, x or y
+    private boolean cvc(int i) {
+        if (i < 2 || !cons(i) || cons(i - 1) || !cons(i - 2)) return false;
+        char ch = b[i];
+        return ch != 'w' && ch != 'x' && ch != 'y';
+    }
+
+    private boolean ends(String s) {
+        int l = s.length();
+        int o = k - l + 1;
+        if (o < 0) return false;
+        for (int i = 0; i < l; i++) {
+            if (b[o + i] != s.charAt(i)) return false;
+        }
+        j = k - l;
+        return true;
+    }
+
+    private void setto(String s) {
+        int l = s.length();
+        int o = j + 1;
+        if (o + l > b.length) {
+            b = Arrays.copyOf(b, o + l);
+        }
+        for (int i = 0; i < l; i++) {
+            b[o + i] = s.charAt(i);
+        }
+        k = j + l;
+    }
+
+    private void r(String s) {
+        if (m() > 0) setto(s);
+    }
+
+    // Plurals and -ed / -ing
+    private void step1ab() {
+        if (b[k] == 's') {
+            if (ends("sses")) k -= 2;
+            else if (ends("ies")) setto("i");
+            else if (b[k - 1] != 's') k--;
+        }
+        if (ends("eed")) {
+            if (m() > 0) k--;
+        } else if ((ends("ed") || ends("ing")) && vowelInStem()) {
+            k = j;
+            if (ends("at")) setto("ate");
+            else if (ends("bl")) setto("ble");
+            else if (ends("iz")) setto("ize");
+            else if (doublec(k)) {
+                k--;
+                char ch = b[k];
+                if (ch == 'l' || ch == 's' || ch == 'z') k++;
+            } else if (m() == 1 && cvc(k)) setto("e");
+        }
+    }
+
+    // Terminal y to i when there is another vowel in the stem
+    private void step1c() {
+        if (ends("y") && vowelInStem()) b[k] = 'i';
+    }
+
+    // Double suffixes to single ones
+    private void step2() {
+        if (k == 0) return;
+        switch (b[k - 1]) {
+            case 'a':
+                if (ends("ational")) { r("ate"); break; }
+                if (ends("tional")) { r("tion"); break; }
+                break;
+            case 'c':
+                if (ends("enci")) { r("ence"); break; }
+                if (ends("anci")) { r("ance"); break; }
+                break;
+            case 'e':
+                if (ends("izer")) { r("ize"); break; }
+                break;
+            case 'l':
+                if (ends("bli")) { r("ble"); break; }
+                if (ends("alli")) { r("al"); break; }
+                if (ends("entli")) { r("ent"); break; }
+                if (ends("eli")) { r("e"); break; }
+                if (ends("ousli")) { r("ous"); break; }
+                break;
+            case 'o':
+                if (ends("ization")) { r("ize"); break; }
+                if (ends("ation")) { r("ate"); break; }
+                if (ends("ator")) { r("ate"); break; }
+                break;
+            case 's':
+                if (ends("alism")) { r("al"); break; }
+                if (ends("iveness")) { r("ive"); break; }
+                if (ends("fulness")) { r("ful"); break; }
+                if (ends("ousness")) { r("ous"); break; }
+                break;
+            case 't':
+                if (ends("aliti")) { r("al"); break; }
+                if (ends("iviti")) { r("ive"); break; }
+                if (ends("biliti")) { r("ble"); break; }
+                break;
+            case 'g':
+                if (ends("logi")) { r("log"); break; }
+                break;
+            default:
+                break;
+        }
+    }
+
+    // -ic-, -full, -ness etc.
+    private void step3() {
+        switch (b[k]) {
+            case 'e':
+                if (ends("icate")) { r("ic"); break; }
+                if (ends("ative")) { r(""); break; }
+                if (ends("alize")) { r("al"); break; }
+                break;
+            case 'i':
+                if (ends("iciti")) { r("ic"); break; }
+                break;
+            case 'l':
+                if (ends("ical")) { r("ic"); break; }
+                if (ends("ful")) { r(""); break; }
+                break;
+            case 's':
+                if (ends("ness")) { r(""); break; }
+                break;
+            default:
+                break;
+        }
+    }
+
+    // -ant, -ence etc. in context <c>vcvc<v>
+    private void step4() {
+        if (k == 0) return;
+        switch (b[k - 1]) {
+            case 'a':
+                if (ends("al")) break;
+                return;
+            case 'c':
+                if (ends("ance")) break;
+                if (ends("ence")) break;
+                return;
+            case 'e':
+                if (ends("er")) break;
+                return;
+            case 'i':
+                if (ends("ic")) break;
+                return;
+            case 'l':
+                if (ends("able")) break;
+                if (ends("ible")) break;
+                return;
+            case 'n':
+                if (ends("ant")) break;
+                if (ends("ement")) break;
+                if (ends("ment")) break;
+                if (ends("ent")) break;
+                return;
+            case 'o':
+                if (ends("ion") && j >= 0 && (b[j] == 's' || b[j] == 't')) break;
+                if (ends("ou")) break;
+                return;
+            case 's':
+                if (ends("ism")) break;
+                return;
+            case 't':
+                if (ends("ate")) break;
+                if (ends("iti")) break;
+                return;
+            case 'u':
+                if (ends("ous")) break;
+                return;
+            case 'v':
+                if (ends("ive")) break;
+                return;
+            case 'z':
+                if (ends("ize")) break;
+                return;
+            default:
+                return;
+        }
+        if (m() > 1) k = j;
+    }
+
+    // Final -e and -ll
+    private void step5() {
+        j = k;
+        if (b[k] == 'e') {
+            int a = m();
+            if (a > 1 || a == 1 && !cvc(k - 1)) k--;
+        }
+        if (b[k] == 'l' && doublec(k) && m() > 1) k--;
+    }
+}
@@ -0,0 +1,106 @@
+package com.jobportal.search;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Numeric reading of a free-text salary range such as "100000-120000", "$90k - $110k",
+ * "80,000 EUR" or "120000+". Amounts accept k, m and lakh (L, LPA) suffixes; a suffix on the
+ * upper bound only ("100-120k") applies to both. The currency comes from a symbol or an
+ * upper-case ISO code and is null when the text names none. An open upper bound ("120000+")
+ * leaves max null.
+ */
+public record SalaryRange(Long min, Long max, String currency) {
+
+    private static final Pattern AMOUNT = Pattern.compile(
+            "(\\d[\\d,]*(?:\\.\\d+)?)\\s*(k|m|lpa|lakhs?|l)?(?![a-z])", Pattern.CASE_INSENSITIVE);
+    private static final Pattern ISO_CODE = Pattern.compile("\\b[A-Z]{3}\\b");
+
+    private static final Map<String, String> SYMBOLS = Map.of(
+            "$", "USD",
+            "\u20AC", "EUR",
+            "\u00A3", "GBP",
+            "\u20B9", "INR",
+            "\u00A5", "JPY");
+
+    // Returns null when the text holds no amount
+    public static SalaryRange parse(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+
+        List<BigDecimal> amounts = new ArrayList<>();
+        List<String> suffixes = new ArrayList<>();
+        int firstEnd = 0;
+        Matcher matcher = AMOUNT.matcher(text);
+        while (amounts.size() < 2 && matcher.find()) {
+            amounts.add(new BigDecimal(matcher.group(1).replace(",", "")));
+            suffixes.add(matcher.group(2));
+            if (amounts.size() == 1) {
+                firstEnd = matcher.end();
+            }
+        }
+        if (amounts.isEmpty()) {
+            return null;
+        }
+        if (amounts.size() == 2 && suffixes.get(0) == null) {
+            suffixes.set(0, suffixes.get(1));
+        }
+
+        long first = scale(amounts.get(0), suffixes.get(0));
+        String currency = currencyOf(text);
+        if (amounts.size() == 1) {
+            boolean openEnded = text.substring(firstEnd).trim().startsWith("+");
+            return new SalaryRange(first, openEnded ? null : first, currency);
+        }
+        long second = scale(amounts.get(1), suffixes.get(1));
+        return new SalaryRange(Math.min(first, second), Math.max(first, second), currency);
+    }
+
+    // Upper-cased ISO 4217 code; throws IllegalArgumentException for anything else
+    public static String currencyCode(String code) {
+        if (code == null || !code.trim().matches("[A-Za-z]{3}")) {
+            throw new IllegalArgumentException("Unknown currency: " + code);
+        }
+        return Currency.getInstance(code.trim().toUpperCase(Locale.ROOT)).getCurrencyCode();
+    }
+
+    private static long scale(BigDecimal amount, String suffix) {
+        if (suffix == null) {
+            return amount.longValue();
+        }
+        String unit = suffix.toLowerCase(Locale.ROOT);
+        long factor = switch (unit) {
+            case "k" -> 1_000L;
+            case "m" -> 1_000_000L;
+            default -> 100_000L; // l, lpa, lakh, lakhs
+        };
+        return amount.multiply(BigDecimal.valueOf(factor)).longValue();
+    }
+
+    private static String currencyOf(String text) {
+        for (Map.Entry<String, String> symbol : SYMBOLS.entrySet()) {
+            if (text.contains(symbol.getKey())) {
+                return symbol.getValue();
+            }
+        }
+        Matcher code = ISO_CODE.matcher(text);
+        while (code.find()) {
+            try {
+                return Currency.getInstance(code.group()).getCurrencyCode();
+            } catch (IllegalArgumentException e) {
+                // Not an ISO 4217 code, keep looking
+            }
+        }
+        if (text.toLowerCase(Locale.ROOT).matches(".*\\d\\s*(lpa|lakhs?|l)\\b.*")) {
+            return "INR";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,56 @@
+package com.jobportal.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Turns free text into index terms: lower-cases, splits on anything that is not a letter,
+ * digit, '+' or '#', drops stop words and stems plain alphabetic tokens.
+ * Keeping '+' and '#' preserves technology names such as "c++" and "c#".
+ */
+public class TextAnalyzer {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+        "a", "an", "and", "are", "as", "at", "be", "but", "by", "for", "from", "has", "have",
+        "in", "into", "is", "it", "its", "of", "on", "or", "our", "such", "that", "the", "their",
+        "then", "there", "these", "they", "this", "to", "was", "we", "will", "with", "you", "your"
+    );
+
+    public List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+
+        PorterStemmer stemmer = new PorterStemmer();
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            char ch = i < lower.length() ? lower.charAt(i) : ' ';
+            boolean tokenChar = Character.isLetterOrDigit(ch) || (start >= 0 && (ch == '+' || ch == '#'));
+            if (tokenChar) {
+                if (start < 0) start = i;
+            } else if (start >= 0) {
+                addTerm(lower.substring(start, i), stemmer, terms);
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    private void addTerm(String token, PorterStemmer stemmer, List<String> terms) {
+        if (STOP_WORDS.contains(token)) {
+            return;
+        }
+        boolean alphabetic = true;
+        for (int i = 0; i < token.length(); i++) {
+            if (token.charAt(i) < 'a' || token.charAt(i) > 'z') {
+                alphabetic = false;
+                break;
+            }
+        }
+        terms.add(alphabetic ? stemmer.stem(token) : token);
+    }
+}
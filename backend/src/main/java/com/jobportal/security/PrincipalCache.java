@@ -0,0 +1,84 @@
+package com.jobportal.security;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobportal.entity.User;
+import com.jobportal.event.UserChangedEvent;
+import com.jobportal.repository.UserRepository;
+
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Users resolved by JwtAuthenticationFilter, keyed by id, so an authenticated request does not
+ * need a database round trip just to check the account is still active. Entries expire after
+ * security.principal-cache.ttl-seconds and are dropped as soon as a {@link UserChangedEvent} commits.
+ */
+@Component
+public class PrincipalCache {
+
+    @Value("${security.principal-cache.max-entries:10000}")
+    private long maxEntries;
+
+    @Value("${security.principal-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Cache<Long, User> cache;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    // Returns a private copy, so request code can't modify the cached instance; null if the user doesn't exist
+    public User getUser(Long userId) {
+        User cached = cache.get(userId, id -> userRepository.findById(id).orElse(null));
+        return cached != null ? copyOf(cached) : null;
+    }
+
+    public void invalidate(Long userId) {
+        cache.invalidate(userId);
+    }
+
+    // Runs after the publishing transaction commits, so the next lookup reloads the committed row
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidate(event.getUserId());
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("size", cache.estimatedSize());
+        statistics.put("hits", cache.stats().hitCount());
+        statistics.put("misses", cache.stats().missCount());
+        statistics.put("evictions", cache.stats().evictionCount());
+        return statistics;
+    }
+
+    private User copyOf(User user) {
+        User copy = new User(user.getName(), user.getEmail(), user.getPassword(), user.getRole());
+        copy.setId(user.getId());
+        copy.setCreatedAt(user.getCreatedAt());
+        copy.setActive(user.isActive());
+        copy.setBio(user.getBio());
+        copy.setCreatedDate(user.getCreatedDate());
+        copy.setLastModifiedDate(user.getLastModifiedDate());
+        copy.setCreatedBy(user.getCreatedBy());
+        copy.setLastModifiedBy(user.getLastModifiedBy());
+        return copy;
+    }
+}
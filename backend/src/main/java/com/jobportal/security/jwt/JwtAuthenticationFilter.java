@@ -1,6 +1,5 @@
 package com.jobportal.security.jwt;
 
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,10 +19,10 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import com.jobportal.entity.User;
 import com.jobportal.repository.UserRepository;
 import com.jobportal.security.CustomUserDetails;
+import com.jobportal.security.PrincipalCache;
 
 import java.io.IOException;
 import java.util.Collections;
-import java.util.Optional;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -36,6 +35,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private PrincipalCache principalCache;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
@@ -45,14 +47,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = parseJwt(request);
 
-            if (jwt != null && jwtUtils.validateToken(jwt)) {
-                String email = jwtUtils.getEmailFromToken(jwt);
-                String role = jwtUtils.getRoleFromToken(jwt);
+            // One signature check per request; null when the token is invalid or expired
+            JwtClaims claims = jwt != null ? jwtUtils.parseToken(jwt) : null;
+
+            if (claims != null) {
+                String email = claims.getEmail();
+                String role = claims.getRole();
                 logger.debug("Processing authentication for user: {}", email);
 
-                Optional<User> userOpt = userRepository.findByEmail(email);
-                if (userOpt.isPresent()) {
-                    User user = userOpt.get();
+                // Served from the principal cache; only a miss reaches the database
+                User user = claims.getUserId() != null
+                        ? principalCache.getUser(claims.getUserId())
+                        : userRepository.findByEmail(email).orElse(null);
+                if (user != null && !user.getEmail().equals(email)) {
+                    user = null;
+                }
+                if (user != null) {
                     String expectedRole = "ROLE_" + user.getRole().name();
 
                     if (!user.isActive()) {
@@ -0,0 +1,38 @@
+package com.jobportal.security.jwt;
+
+import java.util.Date;
+
+/**
+ * The claims of a verified access token, as issued by {@link JwtUtils#generateToken}.
+ */
+public final class JwtClaims {
+
+    private final String email;
+    private final Long userId;
+    private final String role;
+    private final Date expiration;
+
+    public JwtClaims(String email, Long userId, String role, Date expiration) {
+        this.email = email;
+        this.userId = userId;
+        this.role = role;
+        this.expiration = expiration;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    // Includes the ROLE_ prefix, e.g. ROLE_ADMIN
+    public String getRole() {
+        return role;
+    }
+
+    public Date getExpiration() {
+        return expiration;
+    }
+}
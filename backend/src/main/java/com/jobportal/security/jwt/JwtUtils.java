@@ -1,5 +1,7 @@
 package com.jobportal.security.jwt;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.security.Keys;
@@ -11,6 +13,7 @@ import com.jobportal.enums.Role;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import jakarta.annotation.PostConstruct;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
@@ -26,8 +29,16 @@ public class JwtUtils {
     @Value("${jwt.expiration}")
     private long jwtExpirationMs;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    // Built once: deriving the key and the parser on every call was the bulk of the per-request cost
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
 
     public String generateToken(String email, Long userId, Role role) {
@@ -40,35 +51,37 @@ public class JwtUtils {
                 .claim("role", roleName)  // Store the role with ROLE_ prefix
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + jwtExpirationMs))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
+    /**
+     * Verifies the signature and expiry once and returns the claims, or null if the token is invalid.
+     */
+    public JwtClaims parseToken(String token) {
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            return new JwtClaims(
+                    claims.getSubject(),
+                    claims.get("id", Long.class),
+                    claims.get("role", String.class),
+                    claims.getExpiration());
+        } catch (JwtException | IllegalArgumentException e) {
+            logger.error("Invalid JWT token: {}", e.getMessage());
+            return null;
+        }
+    }
+
     public String getEmailFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return parser.parseClaimsJws(token).getBody().getSubject();
     }
 
     public String getRoleFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .get("role", String.class);
+        return parser.parseClaimsJws(token).getBody().get("role", String.class);
     }
 
     public Date getExpirationDateFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getExpiration();
+        return parser.parseClaimsJws(token).getBody().getExpiration();
     }
 
     public long getExpirationTimeInMs() {
@@ -76,15 +89,6 @@ public class JwtUtils {
     }
 
     public boolean validateToken(String authToken) {
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(authToken);
-            return true;
-        } catch (JwtException e) {
-            logger.error("Invalid JWT token: {}", e.getMessage());
-        }
-        return false;
+        return parseToken(authToken) != null;
     }
 }
@@ -3,6 +3,8 @@ package com.jobportal.service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,11 +13,18 @@ import com.jobportal.entity.Job;
 import com.jobportal.entity.User;
 import com.jobportal.enums.ApplicationStatus;
 import com.jobportal.enums.Role;
+import com.jobportal.event.ApplicationChangedEvent;
+import com.jobportal.event.JobChangedEvent;
+import com.jobportal.event.UserChangedEvent;
 import com.jobportal.repository.ApplicationRepository;
 import com.jobportal.repository.JobRepository;
 import com.jobportal.repository.UserRepository;
+import com.jobportal.repository.projection.ApplicationListView;
+import com.jobportal.repository.projection.JobListView;
+import com.jobportal.repository.projection.UserListView;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -33,6 +42,12 @@ public class AdminService {
     @Autowired
     private ApplicationRepository applicationRepository;
 
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     // User Management Methods
     public List<User> getAllUsers(String role, boolean includeInactive) {
         if (role != null) {
@@ -42,6 +57,12 @@ public class AdminService {
         return userRepository.findAll();
     }
 
+    // Read-only list rows for the admin user list; no entities are loaded or tracked
+    @Transactional(readOnly = true)
+    public List<UserListView> listUsers(String role, boolean includeInactive) {
+        return userRepository.findListViews(role != null ? Role.valueOf(role.toUpperCase()) : null);
+    }
+
     public Optional<User> getUserById(Long id) {
         return userRepository.findById(id);
     }
@@ -52,19 +73,31 @@ public class AdminService {
                 .orElseThrow(() -> new RuntimeException("User not found"));
         
         // Delete associated data first
+        List<ApplicationChangedEvent> deleted = List.of();
         if (user.getRole() == Role.COMPANY) {
             // Delete company's jobs and related applications
+            deleted = deletedEvents(applicationRepository.findByJobCompanyId(id));
             List<Job> jobs = jobRepository.findByCompanyId(id);
             jobs.forEach(job -> {
                 applicationRepository.deleteByJobId(job.getId());
             });
             jobRepository.deleteAll(jobs);
+            jobs.forEach(job -> eventPublisher.publishEvent(new JobChangedEvent(job.getId())));
         } else if (user.getRole() == Role.APPLICANT) {
-            // Delete applicant's applications
+            // Release the applicant's slots on each job's counter, then delete the applications
+            List<Application> applications = applicationRepository.findByApplicantOrderByAppliedAtDesc(user);
+            deleted = deletedEvents(applications);
+            Map<Long, Long> perJob = new HashMap<>();
+            for (Application application : applications) {
+                perJob.merge(application.getJob().getId(), 1L, Long::sum);
+            }
+            perJob.forEach((jobId, count) -> jobRepository.adjustApplicationsCount(jobId, -count));
             applicationRepository.deleteByApplicantId(id);
         }
         
         userRepository.delete(user);
+        deleted.forEach(eventPublisher::publishEvent);
+        eventPublisher.publishEvent(new UserChangedEvent(id));
     }
 
     @Transactional
@@ -82,7 +115,9 @@ public class AdminService {
         }
         
         user.setActive(active);
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(id));
+        return savedUser;
     }
 
     // Job Management Methods
@@ -93,11 +128,18 @@ public class AdminService {
         return jobRepository.findAll();
     }
 
+    // Read-only list rows for the admin job list; no entities are loaded or tracked
+    @Transactional(readOnly = true)
+    public List<JobListView> listJobs(Boolean active, boolean includeExpired) {
+        return jobRepository.findListViews(active);
+    }
+
     @Transactional
     public Job updateJobStatus(Long id, boolean active) {
         Job job = jobRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Job not found"));
         jobRepository.updateJobActiveStatus(job.getId(), active);
+        eventPublisher.publishEvent(new JobChangedEvent(id));
         return jobRepository.findById(id).get();
     }
 
@@ -106,8 +148,11 @@ public class AdminService {
         Job job = jobRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Job not found"));
         // Delete all applications for this job first
+        List<ApplicationChangedEvent> deleted = deletedEvents(applicationRepository.findByJobId(id));
         applicationRepository.deleteByJobId(id);
         jobRepository.delete(job);
+        deleted.forEach(eventPublisher::publishEvent);
+        eventPublisher.publishEvent(new JobChangedEvent(id));
     }
 
     // Application Management Methods
@@ -123,14 +168,33 @@ public class AdminService {
         return applicationRepository.findAll();
     }
 
+    // Read-only list rows for the admin application list; no entities are loaded or tracked
+    @Transactional(readOnly = true)
+    public List<ApplicationListView> listApplications(String status, boolean includeArchived) {
+        ApplicationStatus appStatus = null;
+        if (status != null) {
+            try {
+                appStatus = ApplicationStatus.valueOf(status.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new RuntimeException("Invalid application status: " + status);
+            }
+        }
+        return applicationRepository.findListViews(appStatus);
+    }
+
     @Transactional
     public Application updateApplicationStatus(Long id, String status) {
         Application application = applicationRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Application not found"));
         try {
             ApplicationStatus appStatus = ApplicationStatus.valueOf(status.toUpperCase());
+            ApplicationStatus previousStatus = application.getStatus();
             application.setStatus(appStatus);
-            return applicationRepository.save(application);
+            Application savedApplication = applicationRepository.save(application);
+            if (previousStatus != appStatus) {
+                eventPublisher.publishEvent(ApplicationChangedEvent.statusChanged(savedApplication, previousStatus));
+            }
+            return savedApplication;
         } catch (IllegalArgumentException e) {
             throw new RuntimeException("Invalid application status: " + status);
         }
@@ -138,9 +202,17 @@ public class AdminService {
 
     @Transactional
     public void deleteApplication(Long id) {
-        applicationRepository.findById(id)
+        Application application = applicationRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Application not found"));
-        applicationRepository.deleteById(id);
+        ApplicationChangedEvent deleted = ApplicationChangedEvent.deleted(application);
+        applicationRepository.delete(application);
+        jobRepository.adjustApplicationsCount(application.getJob().getId(), -1);
+        eventPublisher.publishEvent(deleted);
+    }
+
+    // Built before the applications are deleted and published after, like a withdrawal
+    private List<ApplicationChangedEvent> deletedEvents(List<Application> applications) {
+        return applications.stream().map(ApplicationChangedEvent::deleted).toList();
     }
 
     // Bulk Operations
@@ -173,4 +245,28 @@ public class AdminService {
         }
         return updatedJobs;
     }
-} 
\ No newline at end of file
+
+    // Counter Maintenance
+    // Walks all jobs in id order and recomputes drifted applications counters, one transaction per batch
+    public Map<String, Object> reconcileApplicationsCounts(int batchSize) {
+        int size = Math.max(1, Math.min(batchSize, 5000));
+        long scanned = 0;
+        long corrected = 0;
+        Long lastId = 0L;
+
+        List<Long> batch = jobRepository.findIdsAfter(lastId, PageRequest.of(0, size));
+        while (!batch.isEmpty()) {
+            corrected += jobService.reconcileApplicationsCount(batch);
+            scanned += batch.size();
+            lastId = batch.get(batch.size() - 1);
+            batch = jobRepository.findIdsAfter(lastId, PageRequest.of(0, size));
+        }
+
+        logger.info("Applications counter reconciliation finished: {} jobs scanned, {} corrected", scanned, corrected);
+        Map<String, Object> result = new HashMap<>();
+        result.put("jobsScanned", scanned);
+        result.put("countersCorrected", corrected);
+        result.put("batchSize", size);
+        return result;
+    }
+}
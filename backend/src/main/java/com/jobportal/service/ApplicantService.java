@@ -2,6 +2,7 @@ package com.jobportal.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -11,6 +12,8 @@ import com.jobportal.entity.Application;
 import com.jobportal.entity.Job;
 import com.jobportal.entity.User;
 import com.jobportal.enums.ApplicationStatus;
+import com.jobportal.event.ApplicationChangedEvent;
+import com.jobportal.event.UserChangedEvent;
 import com.jobportal.repository.ApplicationRepository;
 import com.jobportal.repository.JobRepository;
 import com.jobportal.repository.UserRepository;
@@ -41,6 +44,9 @@ public class ApplicantService {
     @Autowired
     private EmailService emailService;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     // Update applicant profile
     public User updateProfile(Long userId, User updatedUser) {
         User existingUser = userRepository.findById(userId)
@@ -51,7 +57,9 @@ public class ApplicantService {
         // Don't update role for security reasons
         // Add more fields as needed
 
-        return userRepository.save(existingUser);
+        User savedUser = userRepository.save(existingUser);
+        eventPublisher.publishEvent(new UserChangedEvent(userId));
+        return savedUser;
     }
 
     // Upload resume
@@ -126,8 +134,10 @@ public class ApplicantService {
         application.setResumeUrl(resumeUrl);
         application.setStatus(ApplicationStatus.PENDING);
         Application savedApplication = applicationRepository.save(application);
+        jobRepository.adjustApplicationsCount(jobId, 1);
+        eventPublisher.publishEvent(ApplicationChangedEvent.created(savedApplication));
 
-        emailService.sendApplicationStatusUpdateEmails(savedApplication);
+        emailService.queueApplicationStatusUpdateEmails(savedApplication);
 
         return savedApplication;
 
@@ -162,6 +172,9 @@ public class ApplicantService {
             throw new RuntimeException("Not authorized to withdraw this application");
         }
 
+        ApplicationChangedEvent withdrawn = ApplicationChangedEvent.withdrawn(application);
         applicationRepository.delete(application);
+        jobRepository.adjustApplicationsCount(application.getJob().getId(), -1);
+        eventPublisher.publishEvent(withdrawn);
     }
 }
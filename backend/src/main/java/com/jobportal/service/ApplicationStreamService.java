@@ -0,0 +1,119 @@
+package com.jobportal.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+
+import com.jobportal.dto.response.ApplicationChangeResponse;
+import com.jobportal.dto.response.ApplicationResponse;
+import com.jobportal.entity.Job;
+import com.jobportal.event.ApplicationChangeBus;
+import com.jobportal.event.ApplicationChangedEvent;
+import com.jobportal.repository.ApplicationRepository;
+import com.jobportal.repository.JobRepository;
+
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Server-Sent Event streams of a company's applicant pipeline, for one job or for all of its jobs.
+ * A stream starts with a SNAPSHOT event listing the applications, then sends APPLICATION_CREATED,
+ * STATUS_CHANGED, WITHDRAWN and DELETED events as they commit. Event ids are positions in
+ * {@link ApplicationChangeBus}: a client that reconnects with Last-Event-ID gets the changes it
+ * missed instead of a new snapshot, as long as the bus still holds them. A stream whose client
+ * falls too far behind is closed so the client reconnects the same way.
+ */
+@Service
+public class ApplicationStreamService {
+
+    public static final String SNAPSHOT = "SNAPSHOT";
+
+    private static final ServerSentEvent<Object> HEARTBEAT = ServerSentEvent.builder().comment("heartbeat").build();
+
+    @Value("${app.sse.heartbeat-seconds:15}")
+    private long heartbeatSeconds;
+
+    @Autowired
+    private ApplicationChangeBus applicationChangeBus;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    public Flux<ServerSentEvent<Object>> streamJobApplications(Long companyId, Long jobId, String lastEventId) {
+        Job job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new RuntimeException("Job not found"));
+
+        if (!job.getCompany().getId().equals(companyId)) {
+            throw new RuntimeException("Not authorized to view these applications");
+        }
+
+        return stream(companyId, jobId, lastEventId);
+    }
+
+    public Flux<ServerSentEvent<Object>> streamCompanyApplications(Long companyId, String lastEventId) {
+        return stream(companyId, null, lastEventId);
+    }
+
+    // jobId null covers every job of the company
+    private Flux<ServerSentEvent<Object>> stream(Long companyId, Long jobId, String lastEventId) {
+        Predicate<ApplicationChangedEvent> filter = event -> companyId.equals(event.getCompanyId())
+                && (jobId == null || jobId.equals(event.getJobId()));
+
+        Flux<ServerSentEvent<Object>> events;
+        Long resumeAfter = resumePoint(lastEventId);
+        if (resumeAfter != null) {
+            events = changes(filter, resumeAfter);
+        } else {
+            // Changes committed while the snapshot is read are replayed after it
+            long mark = applicationChangeBus.getLastSequence();
+            List<ApplicationResponse> snapshot =
+                    ApplicationResponse.fromViews(applicationRepository.findPipelineViews(companyId, jobId));
+            events = changes(filter, mark).startWith(event(mark, SNAPSHOT, snapshot));
+        }
+
+        Duration heartbeat = Duration.ofSeconds(Math.max(1, heartbeatSeconds));
+        return events.publish(shared -> Flux.merge(shared,
+                Flux.interval(heartbeat, heartbeat).map(tick -> HEARTBEAT).takeUntilOther(shared.then())));
+    }
+
+    private Flux<ServerSentEvent<Object>> changes(Predicate<ApplicationChangedEvent> filter, long afterSequence) {
+        return applicationChangeBus.subscribe(filter, afterSequence)
+                .map(entry -> event(entry.sequence(), entry.event().getType().name(),
+                        ApplicationChangeResponse.from(entry.event())))
+                // Fell behind: end the stream, the client resumes from its last event id
+                .onErrorResume(Exceptions::isOverflow, e -> Flux.empty());
+    }
+
+    private ServerSentEvent<Object> event(long sequence, String name, Object data) {
+        return ServerSentEvent.<Object>builder(data)
+                .id(applicationChangeBus.getEpoch() + "-" + sequence)
+                .event(name)
+                .build();
+    }
+
+    // The sequence to resume after, or null when the id is missing, from an earlier run of the
+    // server, or too old to be replayed
+    private Long resumePoint(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        String[] parts = lastEventId.trim().split("-");
+        try {
+            if (parts.length == 2 && Long.parseLong(parts[0]) == applicationChangeBus.getEpoch()) {
+                long sequence = Long.parseLong(parts[1]);
+                return applicationChangeBus.canResumeAfter(sequence) ? sequence : null;
+            }
+        } catch (NumberFormatException e) {
+            // Not an id this server issued
+        }
+        return null;
+    }
+}
@@ -0,0 +1,77 @@
+package com.jobportal.service;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.jobportal.config.CacheConfiguration;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class CacheMetricsService {
+
+    private static final List<String> ENTITY_REGIONS = List.of(
+            CacheConfiguration.JOBS_REGION,
+            CacheConfiguration.JOB_REQUIREMENTS_REGION,
+            CacheConfiguration.JOB_RESPONSIBILITIES_REGION,
+            CacheConfiguration.USERS_REGION
+    );
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // Hit/miss/put counters of every second-level cache region since startup
+    public Map<String, Object> getCacheStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (String region : ENTITY_REGIONS) {
+            CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+            if (regionStatistics != null) {
+                regions.put(region, regionCounters(regionStatistics));
+            }
+        }
+        CacheRegionStatistics queryRegion = statistics.getQueryRegionStatistics(CacheConfiguration.QUERY_RESULTS_REGION);
+        if (queryRegion != null) {
+            regions.put(CacheConfiguration.QUERY_RESULTS_REGION, regionCounters(queryRegion));
+        }
+
+        Map<String, Object> totals = new LinkedHashMap<>();
+        totals.put("secondLevelHits", statistics.getSecondLevelCacheHitCount());
+        totals.put("secondLevelMisses", statistics.getSecondLevelCacheMissCount());
+        totals.put("secondLevelPuts", statistics.getSecondLevelCachePutCount());
+        totals.put("secondLevelHitRatio", ratio(statistics.getSecondLevelCacheHitCount(), statistics.getSecondLevelCacheMissCount()));
+        totals.put("queryCacheHits", statistics.getQueryCacheHitCount());
+        totals.put("queryCacheMisses", statistics.getQueryCacheMissCount());
+        totals.put("queryCachePuts", statistics.getQueryCachePutCount());
+        totals.put("queryCacheHitRatio", ratio(statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount()));
+        totals.put("statisticsSince", statistics.getStart().toString());
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("totals", totals);
+        result.put("regions", regions);
+        return result;
+    }
+
+    private Map<String, Object> regionCounters(CacheRegionStatistics regionStatistics) {
+        Map<String, Object> counters = new LinkedHashMap<>();
+        counters.put("hits", regionStatistics.getHitCount());
+        counters.put("misses", regionStatistics.getMissCount());
+        counters.put("puts", regionStatistics.getPutCount());
+        counters.put("hitRatio", ratio(regionStatistics.getHitCount(), regionStatistics.getMissCount()));
+        counters.put("elementsInMemory", regionStatistics.getElementCountInMemory());
+        return counters;
+    }
+
+    private double ratio(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
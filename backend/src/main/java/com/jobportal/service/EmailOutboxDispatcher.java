@@ -0,0 +1,269 @@
+package com.jobportal.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jobportal.entity.EmailOutbox;
+import com.jobportal.enums.EmailOutboxStatus;
+import com.jobportal.repository.EmailOutboxRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers queued {@link EmailOutbox} rows. A scheduled poll claims due rows (skipping rows
+ * another instance has locked) and hands them to a bounded worker pool in batches; each batch
+ * goes out over a single SMTP connection. Failed sends are retried with exponential backoff
+ * until email.outbox.max-attempts, after which the row is marked FAILED.
+ */
+@Service
+public class EmailOutboxDispatcher {
+    private static final Logger logger = LoggerFactory.getLogger(EmailOutboxDispatcher.class);
+
+    @Value("${email.outbox.workers:4}")
+    private int workers;
+
+    @Value("${email.outbox.batch-size:20}")
+    private int batchSize;
+
+    @Value("${email.outbox.max-attempts:6}")
+    private int maxAttempts;
+
+    @Value("${email.outbox.backoff-initial-ms:30000}")
+    private long backoffInitialMs;
+
+    @Value("${email.outbox.backoff-max-ms:3600000}")
+    private long backoffMaxMs;
+
+    @Value("${email.outbox.claim-timeout-ms:300000}")
+    private long claimTimeoutMs;
+
+    @Value("${spring.mail.from:noreply@yourjobportal.com}")
+    private String fromEmailAddress;
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private JavaMailSender emailSender;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ThreadPoolExecutor executor;
+    private final AtomicInteger batchesInFlight = new AtomicInteger();
+
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong smtpBatches = new AtomicLong();
+    private final AtomicLong smtpMillis = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workers),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "email-outbox-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            // Rows still marked SENDING are picked up again after claim-timeout-ms
+            logger.warn("Email outbox workers did not finish within 30 seconds");
+            executor.shutdownNow();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval-ms:2000}")
+    public void dispatch() {
+        // At most one running and one queued batch per worker
+        int freeBatches = workers * 2 - batchesInFlight.get();
+        if (freeBatches <= 0) {
+            return;
+        }
+
+        List<EmailOutbox> claimed;
+        try {
+            claimed = claim(freeBatches * batchSize);
+        } catch (RuntimeException e) {
+            logger.error("Failed to claim outbox emails: {}", e.getMessage());
+            return;
+        }
+
+        for (int from = 0; from < claimed.size(); from += batchSize) {
+            List<EmailOutbox> batch = claimed.subList(from, Math.min(from + batchSize, claimed.size()));
+            batchesInFlight.incrementAndGet();
+            try {
+                executor.execute(() -> {
+                    try {
+                        deliver(batch);
+                    } finally {
+                        batchesInFlight.decrementAndGet();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                batchesInFlight.decrementAndGet();
+                Map<Long, String> errors = new HashMap<>();
+                batch.forEach(email -> errors.put(email.getId(), "Dispatcher busy"));
+                record(batch, errors);
+            }
+        }
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> byStatus = new LinkedHashMap<>();
+        for (EmailOutboxStatus status : EmailOutboxStatus.values()) {
+            byStatus.put(status.name(), 0L);
+        }
+        for (Object[] row : emailOutboxRepository.countGroupByStatus()) {
+            byStatus.put(((EmailOutboxStatus) row[0]).name(), row[1]);
+        }
+
+        long batches = smtpBatches.get();
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("outbox", byStatus);
+        statistics.put("sent", sent.get());
+        statistics.put("retried", retried.get());
+        statistics.put("failed", failed.get());
+        statistics.put("smtpBatches", batches);
+        statistics.put("averageBatchMillis", batches == 0 ? 0 : smtpMillis.get() / batches);
+        statistics.put("batchesInFlight", batchesInFlight.get());
+        statistics.put("workers", workers);
+        return statistics;
+    }
+
+    // Lock due rows and mark them SENDING in one short transaction, so no connection is held while sending
+    private List<EmailOutbox> claim(int limit) {
+        List<EmailOutbox> claimed = new TransactionTemplate(transactionManager).execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            int released = emailOutboxRepository.releaseStaleClaims(now.minusNanos(claimTimeoutMs * 1_000_000));
+            if (released > 0) {
+                logger.warn("Released {} outbox emails left in SENDING by a stopped dispatcher", released);
+            }
+            List<EmailOutbox> rows = emailOutboxRepository.lockDue(now, limit);
+            for (EmailOutbox row : rows) {
+                row.setStatus(EmailOutboxStatus.SENDING);
+                row.setClaimedAt(now);
+            }
+            return rows;
+        });
+        return claimed != null ? claimed : List.of();
+    }
+
+    private void deliver(List<EmailOutbox> batch) {
+        Map<SimpleMailMessage, Long> ids = new IdentityHashMap<>();
+        List<SimpleMailMessage> messages = new ArrayList<>(batch.size());
+        for (EmailOutbox email : batch) {
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setFrom(fromEmailAddress);
+            message.setTo(email.getRecipient());
+            message.setSubject(email.getSubject());
+            message.setText(email.getBody());
+            messages.add(message);
+            ids.put(message, email.getId());
+        }
+
+        Map<Long, String> errors = new HashMap<>();
+        long started = System.currentTimeMillis();
+        try {
+            // One connection for the whole batch
+            emailSender.send(messages.toArray(new SimpleMailMessage[0]));
+        } catch (MailSendException e) {
+            e.getFailedMessages().forEach((message, cause) -> {
+                Long id = ids.get(message);
+                if (id != null) {
+                    errors.put(id, cause.getMessage());
+                }
+            });
+            if (errors.isEmpty()) {
+                batch.forEach(email -> errors.put(email.getId(), e.getMessage()));
+            }
+        } catch (MailException e) {
+            batch.forEach(email -> errors.put(email.getId(), e.getMessage()));
+        } finally {
+            smtpBatches.incrementAndGet();
+            smtpMillis.addAndGet(System.currentTimeMillis() - started);
+        }
+
+        record(batch, errors);
+    }
+
+    private void record(List<EmailOutbox> batch, Map<Long, String> errors) {
+        List<Long> batchIds = batch.stream().map(EmailOutbox::getId).toList();
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                for (EmailOutbox email : emailOutboxRepository.findAllById(batchIds)) {
+                    email.setAttempts(email.getAttempts() + 1);
+                    email.setClaimedAt(null);
+                    String error = errors.get(email.getId());
+                    if (error == null) {
+                        email.setStatus(EmailOutboxStatus.SENT);
+                        email.setSentAt(now);
+                        email.setLastError(null);
+                        sent.incrementAndGet();
+                    } else if (email.getAttempts() >= maxAttempts) {
+                        email.setStatus(EmailOutboxStatus.FAILED);
+                        email.setLastError(truncate(error));
+                        failed.incrementAndGet();
+                        logger.error("Giving up on outbox email {} to {} after {} attempts: {}",
+                                email.getId(), email.getRecipient(), email.getAttempts(), error);
+                    } else {
+                        email.setStatus(EmailOutboxStatus.PENDING);
+                        email.setNextAttemptAt(now.plusNanos(backoffMillis(email.getAttempts()) * 1_000_000));
+                        email.setLastError(truncate(error));
+                        retried.incrementAndGet();
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            // The rows stay SENDING and are retried once their claim times out
+            logger.error("Failed to record delivery of outbox emails {}: {}", batchIds, e.getMessage());
+        }
+    }
+
+    // Exponential backoff with up to 20% jitter, so retries from one outage don't all fire together
+    private long backoffMillis(int attempts) {
+        long backoff = backoffInitialMs << Math.min(attempts - 1, 20);
+        backoff = Math.min(backoff, backoffMaxMs);
+        return backoff + ThreadLocalRandom.current().nextLong(backoff / 5 + 1);
+    }
+
+    private String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > 1000 ? error.substring(0, 1000) : error;
+    }
+}
@@ -1,22 +1,22 @@
 package com.jobportal.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.MailException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
 import com.jobportal.entity.Application;
+import com.jobportal.entity.EmailOutbox;
 import com.jobportal.enums.ApplicationStatus;
+import com.jobportal.repository.EmailOutboxRepository;
 
 @Service
 public class EmailService {
 
     private final JavaMailSender emailSender;
 
-    @Value("${spring.mail.from:noreply@yourjobportal.com}")
-    private String fromEmailAddress;
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
 
     @Autowired
     public EmailService(JavaMailSender emailSender) {
@@ -42,7 +42,9 @@ public class EmailService {
         emailSender.send(message);
     }
 
-    public void sendApplicationStatusUpdateEmails(Application application) {
+    // Writes the notification emails to the outbox as part of the caller's transaction;
+    // EmailOutboxDispatcher delivers them once it commits
+    public void queueApplicationStatusUpdateEmails(Application application) {
         ApplicationStatus status = application.getStatus();
         String applicantEmail = application.getApplicant().getEmail();
         String jobTitle = application.getJob().getTitle();
@@ -110,25 +112,15 @@ public class EmailService {
         }
 
         if (applicantEmail != null && !applicantSubject.isEmpty()) {
-            sendEmail(applicantEmail, applicantSubject, applicantBody);
+            queueEmail(applicantEmail, applicantSubject, applicantBody);
         }
 
         if (sendToCompany && companyEmail != null && !companySubject.isEmpty()) {
-            sendEmail(companyEmail, companySubject, companyBody);
+            queueEmail(companyEmail, companySubject, companyBody);
         }
     }
 
-    private void sendEmail(String to, String subject, String text) {
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setFrom(fromEmailAddress);
-        message.setTo(to);
-        message.setSubject(subject);
-        message.setText(text);
-        try {
-            emailSender.send(message);
-            System.out.println("Email sent successfully to " + to + " with subject: " + subject);
-        } catch (MailException e) {
-            System.err.println("Error sending email to " + to + ": " + e.getMessage());
-        }
+    private void queueEmail(String to, String subject, String text) {
+        emailOutboxRepository.save(new EmailOutbox(to, subject, text));
     }
-}
\ No newline at end of file
+}
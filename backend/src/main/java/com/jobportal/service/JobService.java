@@ -1,26 +1,53 @@
 package com.jobportal.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.jobportal.dto.JobCursor;
+import com.jobportal.dto.JobPage;
 import com.jobportal.entity.Application;
 import com.jobportal.entity.Job;
 import com.jobportal.entity.User;
 import com.jobportal.enums.ApplicationStatus;
+import com.jobportal.enums.JobSortField;
+import com.jobportal.event.ApplicationChangedEvent;
+import com.jobportal.event.JobChangedEvent;
 import com.jobportal.repository.ApplicationRepository;
 import com.jobportal.repository.JobRepository;
+import com.jobportal.search.JobSearchIndex;
+import com.jobportal.search.SalaryRange;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 public class JobService {
     private static final Logger logger = LoggerFactory.getLogger(JobService.class);
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    // Keeps IN (...) lists at a size the database handles comfortably
+    private static final int ID_BATCH_SIZE = 1000;
+
+    // Currency of salary bounds given without one, and of job salaries that name none
+    @Value("${app.salary.default-currency:USD}")
+    private String defaultCurrency;
+
     @Autowired
     private EmailService emailService;
 
@@ -30,30 +57,223 @@ public class JobService {
     @Autowired
     private ApplicationRepository applicationRepository;
 
+    @Autowired
+    private JobSearchIndex jobSearchIndex;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     // Create a new job
     @Transactional
     public Job createJob(User company, Job job) {
         job.setCompany(company);
         job.setActive(true);
-        return jobRepository.save(job);
+        Job savedJob = jobRepository.save(job);
+        eventPublisher.publishEvent(new JobChangedEvent(savedJob.getId()));
+        return savedJob;
     }
 
-    // Search jobs with filters
-    public List<Job> searchJobs(String location, String title, String salaryRange) {
-        logger.info("Searching jobs with filters - title: {}, location: {}, salaryRange: {}",
-                title, location, salaryRange);
+    // Search jobs with filters. Title and keyword criteria are answered by the search index and
+    // come back ranked by relevance; otherwise jobs are listed newest first. An explicit sort
+    // replaces either default and is applied by the database. Salary bounds are in salaryCurrency,
+    // app.salary.default-currency when not given; jobs paid in another currency do not match.
+    // Amounts in different currencies do not compare, so a salary sort applies the same currency
+    // filter even without bounds.
+    public List<Job> searchJobs(String location, String title, String salaryRange, String keywords) {
+        return searchJobs(location, title, salaryRange, null, null, null, keywords, null, null);
+    }
+
+    public List<Job> searchJobs(String location, String title, String salaryRange, Long minSalary, Long maxSalary,
+                                String salaryCurrency, String keywords, JobSortField sortBy, Sort.Direction direction) {
+        logger.info("Searching jobs with filters - title: {}, keywords: {}, location: {}, salaryRange: {}, "
+                + "salary: {}-{} {}, sortBy: {}", title, keywords, location, salaryRange, minSalary, maxSalary,
+                salaryCurrency, sortBy);
+        String currency = salaryCurrency(minSalary, maxSalary, salaryCurrency, sortBy);
+
+        List<Long> rankedIds = rankedMatches(title, keywords, location, salaryRange, minSalary, maxSalary, currency,
+                sortBy != null);
+        if (rankedIds != null) {
+            List<Long> ids = filterActiveIds(rankedIds, unindexedTitle(title), location, salaryRange,
+                    minSalary, maxSalary, currency);
+            if (sortBy == null || ids.isEmpty()) {
+                return findJobsInOrder(ids);
+            }
+            return jobRepository.findByIdIn(ids, PageRequest.of(0, ids.size(), sortBy.toSort(direction))).getContent();
+        }
 
         // Get jobs filtered by title, location, and salary range using a single query
-        return jobRepository.searchJobs(
-                title != null && !title.isEmpty() ? title : null,
-                location != null && !location.isEmpty() ? location : null,
-                salaryRange != null && !salaryRange.isEmpty() ? salaryRange : null
+        JobSortField field = sortBy != null ? sortBy : JobSortField.POSTED_AT;
+        return jobRepository.searchJobs(blankToNull(title), blankToNull(location), blankToNull(salaryRange),
+                minSalary, maxSalary, currency, defaultCurrency, field.toSort(direction));
+    }
+
+    // Search jobs one page at a time. The cursor is the opaque token returned as nextCursor by the
+    // previous page; null starts from the top. Plain newest-first listings page by keyset on
+    // (postedAt, id); relevance-ranked searches and explicit sorts page by offset.
+    public JobPage searchJobsPage(String location, String title, String salaryRange, String keywords,
+                                  String cursor, Integer limit) {
+        return searchJobsPage(location, title, salaryRange, null, null, null, keywords, cursor, limit, null, null);
+    }
+
+    public JobPage searchJobsPage(String location, String title, String salaryRange, Long minSalary, Long maxSalary,
+                                  String salaryCurrency, String keywords, String cursor, Integer limit,
+                                  JobSortField sortBy, Sort.Direction direction) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        String currency = salaryCurrency(minSalary, maxSalary, salaryCurrency, sortBy);
+        JobCursor after = cursor != null && !cursor.isEmpty() ? JobCursor.decode(cursor) : null;
+
+        List<Long> rankedIds = rankedMatches(title, keywords, location, salaryRange, minSalary, maxSalary, currency,
+                sortBy != null);
+        if (rankedIds != null) {
+            if (after != null && !after.isOffset()) {
+                throw new IllegalArgumentException("Cursor does not belong to this search");
+            }
+            List<Long> ids = filterActiveIds(rankedIds, unindexedTitle(title), location, salaryRange,
+                    minSalary, maxSalary, currency);
+            int from = Math.min(after != null ? after.getOffset() : 0, ids.size());
+            if (sortBy != null) {
+                if (ids.isEmpty()) {
+                    return new JobPage(List.of(), null, false);
+                }
+                return offsetPage(jobRepository.findByIdIn(ids, offsetRequest(from, pageSize, sortBy, direction)));
+            }
+            int to = Math.min(from + pageSize, ids.size());
+            boolean hasMore = to < ids.size();
+            return new JobPage(findJobsInOrder(ids.subList(from, to)),
+                    hasMore ? JobCursor.atOffset(to).encode() : null, hasMore);
+        }
+
+        if (!isKeysetOrder(sortBy, direction)) {
+            if (after != null && !after.isOffset()) {
+                throw new IllegalArgumentException("Cursor does not belong to this search");
+            }
+            int from = after != null ? after.getOffset() : 0;
+            return offsetPage(jobRepository.searchJobsSlice(blankToNull(title), blankToNull(location),
+                    blankToNull(salaryRange), minSalary, maxSalary, currency, defaultCurrency,
+                    offsetRequest(from, pageSize, sortBy, direction)));
+        }
+        if (after != null && after.isOffset()) {
+            throw new IllegalArgumentException("Cursor does not belong to this search");
+        }
+
+        // Fetch one extra row to learn whether another page exists without a COUNT
+        List<Job> rows = jobRepository.searchJobsPage(
+                blankToNull(title),
+                blankToNull(location),
+                blankToNull(salaryRange),
+                minSalary,
+                maxSalary,
+                currency,
+                defaultCurrency,
+                after != null ? after.getPostedAt() : null,
+                after != null ? after.getId() : null,
+                PageRequest.of(0, pageSize + 1)
         );
+
+        boolean hasMore = rows.size() > pageSize;
+        List<Job> jobs = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasMore ? JobCursor.after(jobs.get(jobs.size() - 1)).encode() : null;
+        return new JobPage(jobs, nextCursor, hasMore);
+    }
+
+    // The keyset query only serves the default newest-first order; a direction given without a sort
+    // applies to postedAt, so oldest-first listings page by offset
+    private boolean isKeysetOrder(JobSortField sortBy, Sort.Direction direction) {
+        return (sortBy == null || sortBy == JobSortField.POSTED_AT) && direction != Sort.Direction.ASC;
+    }
+
+    // Offset cursors are issued at page boundaries; a client that changes the limit mid-way
+    // restarts at the page containing its offset
+    private PageRequest offsetRequest(int offset, int pageSize, JobSortField sortBy, Sort.Direction direction) {
+        JobSortField field = sortBy != null ? sortBy : JobSortField.POSTED_AT;
+        return PageRequest.of(offset / pageSize, pageSize, field.toSort(direction));
+    }
+
+    private JobPage offsetPage(Slice<Job> slice) {
+        int next = (int) slice.getPageable().getOffset() + slice.getNumberOfElements();
+        return new JobPage(slice.getContent(),
+                slice.hasNext() ? JobCursor.atOffset(next).encode() : null, slice.hasNext());
+    }
+
+    // Ranked job ids from the search index, already narrowed by the other filters, or null when
+    // the database search can answer instead: no keywords, and a title that is missing, made of
+    // stop words only (the index has no terms for it) or searched before the index is built.
+    // Keywords have no database fallback, so until the index is ready they match nothing.
+    // A sorted listing needs every match, not just the best ranked.
+    private List<Long> rankedMatches(String title, String keywords, String location, String salaryRange,
+                                     Long minSalary, Long maxSalary, String currency, boolean sorted) {
+        boolean hasKeywords = keywords != null && !keywords.isBlank();
+        String indexedTitle = title != null && !title.isBlank() && jobSearchIndex.hasTerms(title) ? title : null;
+        if (indexedTitle == null && !hasKeywords) {
+            return null;
+        }
+        if (!jobSearchIndex.isReady()) {
+            if (hasKeywords) {
+                logger.warn("Search index not ready yet, keyword search returns no jobs");
+                return List.of();
+            }
+            logger.warn("Search index not ready yet, falling back to database title search");
+            return null;
+        }
+        JobSearchIndex.Filter filter = new JobSearchIndex.Filter(
+                blankToNull(location), blankToNull(salaryRange), minSalary, maxSalary, currency, defaultCurrency);
+        return jobSearchIndex.search(indexedTitle, keywords, filter, sorted);
+    }
+
+    // A title the index has no terms for, matched by the database alongside keyword hits
+    private String unindexedTitle(String title) {
+        return title != null && !title.isBlank() && !jobSearchIndex.hasTerms(title) ? title : null;
+    }
+
+    // Keep the ranked order while dropping hits the index has not caught up with: jobs deactivated
+    // or edited by a change whose index refresh is still pending. title is a stop-word-only title
+    // the index could not match
+    private List<Long> filterActiveIds(List<Long> rankedIds, String title, String location, String salaryRange,
+                                       Long minSalary, Long maxSalary, String currency) {
+        Set<Long> passing = new HashSet<>();
+        for (int from = 0; from < rankedIds.size(); from += ID_BATCH_SIZE) {
+            List<Long> batch = rankedIds.subList(from, Math.min(from + ID_BATCH_SIZE, rankedIds.size()));
+            passing.addAll(jobRepository.findActiveIdsIn(batch, title, blankToNull(location), blankToNull(salaryRange),
+                    minSalary, maxSalary, currency, defaultCurrency));
+        }
+        return rankedIds.stream().filter(passing::contains).toList();
+    }
+
+    private List<Job> findJobsInOrder(List<Long> ids) {
+        Map<Long, Job> byId = new HashMap<>();
+        for (Job job : jobRepository.findAllById(ids)) {
+            byId.put(job.getId(), job);
+        }
+        List<Job> jobs = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Job job = byId.get(id);
+            if (job != null) {
+                jobs.add(job);
+            }
+        }
+        return jobs;
+    }
+
+    // The currency salary bounds are compared in, null when neither bound nor currency is given
+    // and the listing is not sorted by salary.
+    // Throws IllegalArgumentException for reversed bounds or an unknown currency code.
+    private String salaryCurrency(Long minSalary, Long maxSalary, String requested, JobSortField sortBy) {
+        if (minSalary != null && maxSalary != null && minSalary > maxSalary) {
+            throw new IllegalArgumentException("minSalary must not be greater than maxSalary");
+        }
+        if (requested != null && !requested.isBlank()) {
+            return SalaryRange.currencyCode(requested);
+        }
+        return minSalary != null || maxSalary != null || sortBy == JobSortField.SALARY ? defaultCurrency : null;
+    }
+
+    private String blankToNull(String value) {
+        return value != null && !value.isEmpty() ? value : null;
     }
 
     // Get job by ID
     public Optional<Job> getJobById(Long id) {
-        return jobRepository.findById(id);
+        return jobRepository.findDetailById(id);
     }
 
     // Update job
@@ -71,7 +291,9 @@ public class JobService {
         existingJob.setLocation(updatedJob.getLocation());
         existingJob.setSalaryRange(updatedJob.getSalaryRange());
 
-        return jobRepository.save(existingJob);
+        Job savedJob = jobRepository.save(existingJob);
+        eventPublisher.publishEvent(new JobChangedEvent(jobId));
+        return savedJob;
     }
 
     // Delete job
@@ -87,6 +309,7 @@ public class JobService {
         // Soft delete - just mark as inactive
         job.setActive(false);
         jobRepository.save(job);
+        eventPublisher.publishEvent(new JobChangedEvent(jobId));
     }
 
     // Get company's jobs
@@ -124,6 +347,7 @@ public class JobService {
 
         job.setActive(active);
         Job savedJob = jobRepository.save(job);
+        eventPublisher.publishEvent(new JobChangedEvent(jobId));
         logger.info("Successfully updated job active status");
 
         return savedJob;
@@ -161,8 +385,10 @@ public class JobService {
         // Update status only if it's different
         if (application.getStatus() != newStatus) {
             logger.info("Updating application status from {} to {}", application.getStatus(), newStatus);
+            ApplicationStatus previousStatus = application.getStatus();
             application.setStatus(newStatus);
             Application savedApplication = applicationRepository.save(application);
+            eventPublisher.publishEvent(ApplicationChangedEvent.statusChanged(savedApplication, previousStatus));
 
             // Send email if status is REVIEWING, ACCEPTED, or REJECTED
             // The PENDING email is typically sent upon initial application creation.
@@ -171,8 +397,8 @@ public class JobService {
                     newStatus == ApplicationStatus.REJECTED) {
                 // Make sure emailService is not null
                 if (emailService != null) {
-                    emailService.sendApplicationStatusUpdateEmails(savedApplication);
-                    logger.info("Notification email sent for application {}", applicationId);
+                    emailService.queueApplicationStatusUpdateEmails(savedApplication);
+                    logger.info("Notification email queued for application {}", applicationId);
                 } else {
                     logger.warn("EmailService is null. Cannot send notification email for application {}", applicationId);
                 }
@@ -188,4 +414,14 @@ public class JobService {
     public long getApplicationsCountForJob(Long jobId) {
         return applicationRepository.countByJobId(jobId);
     }
-}
\ No newline at end of file
+
+    // Recompute the denormalized applications counter for one batch of jobs.
+    // Runs in its own transaction so a long reconciliation never holds locks across batches.
+    @Transactional
+    public int reconcileApplicationsCount(List<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return 0;
+        }
+        return jobRepository.reconcileApplicationsCount(jobIds);
+    }
+}
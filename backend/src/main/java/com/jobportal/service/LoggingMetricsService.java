@@ -0,0 +1,48 @@
+package com.jobportal.service;
+
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.jobportal.logging.LocalSyslogCollector;
+import com.jobportal.logging.MeteredAsyncAppender;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+public class LoggingMetricsService {
+
+    // Only present with the local-syslog profile
+    @Autowired(required = false)
+    private LocalSyslogCollector localSyslogCollector;
+
+    // Queue depth and drop counters of every async appender attached to a logger
+    public Map<String, Object> getAppenderStatistics() {
+        Map<String, Object> appenders = new TreeMap<>();
+        if (LoggerFactory.getILoggerFactory() instanceof LoggerContext context) {
+            for (Logger logger : context.getLoggerList()) {
+                Iterator<Appender<ILoggingEvent>> iterator = logger.iteratorForAppenders();
+                while (iterator.hasNext()) {
+                    if (iterator.next() instanceof MeteredAsyncAppender appender) {
+                        appenders.putIfAbsent(appender.getName(), appender.getStatistics());
+                    }
+                }
+            }
+        }
+
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("appenders", appenders);
+        if (localSyslogCollector != null) {
+            statistics.put("localSyslogCollector", localSyslogCollector.getStatistics());
+        }
+        return statistics;
+    }
+}
@@ -1,40 +1,35 @@
 package com.jobportal.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.jobportal.dto.ProfileUpdateDTO;
+import com.jobportal.dto.response.UserResponse;
 import com.jobportal.entity.User;
+import com.jobportal.event.UserChangedEvent;
 import com.jobportal.repository.UserRepository;
 
-import java.util.HashMap;
-import java.util.Map;
-
 @Service
 public class ProfileService {
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Transactional(readOnly = true)
-    public Map<String, Object> getUserProfile(Long userId) {
+    public UserResponse getUserProfile(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        Map<String, Object> profile = new HashMap<>();
-        profile.put("id", user.getId());
-        profile.put("name", user.getName());
-        profile.put("email", user.getEmail());
-        profile.put("role", user.getRole());
-        profile.put("bio", user.getBio());
-        profile.put("createdAt", user.getCreatedAt());
-
-        return profile;
+        return UserResponse.from(user);
     }
 
     @Transactional
-    public Map<String, Object> updateUserProfile(Long userId, ProfileUpdateDTO updateDTO) {
+    public UserResponse updateUserProfile(Long userId, ProfileUpdateDTO updateDTO) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
@@ -47,15 +42,8 @@ public class ProfileService {
         }
 
         user = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(userId));
 
-        Map<String, Object> updatedProfile = new HashMap<>();
-        updatedProfile.put("id", user.getId());
-        updatedProfile.put("name", user.getName());
-        updatedProfile.put("email", user.getEmail());
-        updatedProfile.put("role", user.getRole());
-        updatedProfile.put("bio", user.getBio());
-        updatedProfile.put("createdAt", user.getCreatedAt());
-
-        return updatedProfile;
+        return UserResponse.from(user);
     }
 }
\ No newline at end of file
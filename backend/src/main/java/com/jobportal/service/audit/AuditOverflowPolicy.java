@@ -0,0 +1,13 @@
+package com.jobportal.service.audit;
+
+/**
+ * What {@link AuditWriteQueue} does when the in-memory queue is full.
+ */
+public enum AuditOverflowPolicy {
+    // Wait (up to audit.async.block-timeout-ms) for the writer to make room
+    BLOCK,
+    // Drop READ entries first, waiting only when the queue holds nothing but writes
+    DROP_READ_FIRST,
+    // Append overflow to a local JSON-lines file that the writer replays once it catches up
+    SPILL_TO_DISK
+}
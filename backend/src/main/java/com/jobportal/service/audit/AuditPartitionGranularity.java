@@ -0,0 +1,9 @@
+package com.jobportal.service.audit;
+
+/**
+ * Size of each audit_logs partition created by {@link AuditPartitionManager}.
+ */
+public enum AuditPartitionGranularity {
+    DAILY,
+    MONTHLY
+}
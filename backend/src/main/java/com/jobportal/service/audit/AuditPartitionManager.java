@@ -0,0 +1,296 @@
+package com.jobportal.service.audit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps audit_logs range-partitioned on timestamp (MySQL only). Converting the table rebuilds it
+ * and changes its primary key, so it is never done automatically: an admin runs it once through
+ * {@link #partitionTable()}. Once the table is partitioned, startup and audit.partition.cron
+ * create audit.partition.precreate partitions ahead of time and expire partitions older than
+ * audit.retention.days: their rows are first rolled up into audit_log_hourly so the audit stats
+ * keep working over long windows, then optionally copied to audit_logs_archive, then the
+ * partition is dropped.
+ */
+@Component
+public class AuditPartitionManager {
+    private static final Logger logger = LoggerFactory.getLogger(AuditPartitionManager.class);
+
+    private static final String TABLE = "audit_logs";
+    private static final String ARCHIVE_TABLE = "audit_logs_archive";
+    private static final String HISTORY_PARTITION = "p_history";
+    private static final String MAX_PARTITION = "pmax";
+    private static final String COLUMNS = "id, entity_name, entity_id, operation, user_email, user_id, user_role, `timestamp`, "
+            + "old_values, new_values, changed_fields, ip_address, user_agent, session_id, success, error_message";
+
+    private static final DateTimeFormatter BOUNDARY_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final DateTimeFormatter NAME_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMMdd");
+
+    @Value("${audit.partition.enabled:true}")
+    private boolean enabled;
+
+    @Value("${audit.partition.granularity:DAILY}")
+    private AuditPartitionGranularity granularity;
+
+    @Value("${audit.partition.precreate:7}")
+    private int precreate;
+
+    @Value("${audit.retention.days:90}")
+    private int retentionDays;
+
+    @Value("${audit.retention.action:DROP}")
+    private AuditRetentionAction retentionAction;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private volatile boolean supported = true;
+    private volatile String lastRun;
+    private volatile String lastError;
+
+    private final AtomicLong partitionsCreated = new AtomicLong();
+    private final AtomicLong partitionsExpired = new AtomicLong();
+
+    private record Partition(String name, LocalDateTime upperBound) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        maintain();
+    }
+
+    // Errors are logged and retried on the next run; with several nodes the losers of a concurrent
+    // ALTER simply fail and find the work done next time
+    @Scheduled(cron = "${audit.partition.cron:0 15 0 * * *}", zone = "UTC")
+    public synchronized void maintain() {
+        if (!enabled || !supported) {
+            return;
+        }
+        try {
+            if (!isMySql()) {
+                supported = false;
+                logger.info("Audit log partitioning disabled: the database is not MySQL");
+                return;
+            }
+            // Hibernate writes timestamps in UTC (hibernate.jdbc.time_zone), so boundaries are UTC as well
+            LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+            if (loadPartitions().isEmpty()) {
+                logger.info("{} is not partitioned, skipping partition maintenance until an admin converts it", TABLE);
+                return;
+            }
+            createFuturePartitions(loadPartitions(), now);
+            if (retentionDays > 0) {
+                expirePartitions(loadPartitions(), now);
+            }
+            lastError = null;
+        } catch (RuntimeException e) {
+            lastError = e.getMessage();
+            logger.error("Audit log partition maintenance failed: {}", e.getMessage());
+        } finally {
+            lastRun = LocalDateTime.now().toString();
+        }
+    }
+
+    // Admin action: converts an unpartitioned audit_logs and creates the partitions ahead. The ALTERs copy
+    // the whole table and block audit writes meanwhile, so run it outside peak hours.
+    public synchronized Map<String, Object> partitionTable() {
+        if (!enabled) {
+            throw new IllegalStateException("Audit log partitioning is disabled (audit.partition.enabled=false)");
+        }
+        if (!supported || !isMySql()) {
+            throw new IllegalStateException("Audit log partitioning requires MySQL");
+        }
+        if (!loadPartitions().isEmpty()) {
+            throw new IllegalStateException(TABLE + " is already partitioned");
+        }
+
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        long started = System.currentTimeMillis();
+        convertTable(now);
+        createFuturePartitions(loadPartitions(), now);
+        lastError = null;
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("table", TABLE);
+        result.put("granularity", granularity.name());
+        result.put("partitions", loadPartitions().size());
+        result.put("durationMs", System.currentTimeMillis() - started);
+        return result;
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("enabled", enabled && supported);
+        statistics.put("granularity", granularity.name());
+        statistics.put("precreate", precreate);
+        statistics.put("retentionDays", retentionDays);
+        statistics.put("retentionAction", retentionAction.name());
+        statistics.put("partitionsCreated", partitionsCreated.get());
+        statistics.put("partitionsExpired", partitionsExpired.get());
+        statistics.put("lastRun", lastRun);
+        statistics.put("lastError", lastError);
+        if (enabled && supported) {
+            try {
+                List<Partition> partitions = loadPartitions();
+                statistics.put("partitions", partitions.size());
+                statistics.put("oldestPartition", partitions.isEmpty() ? null : partitions.get(0).name());
+            } catch (RuntimeException e) {
+                statistics.put("partitions", null);
+            }
+        }
+        return statistics;
+    }
+
+    private boolean isMySql() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return product != null && product.toLowerCase().contains("mysql");
+    }
+
+    private List<Partition> loadPartitions() {
+        return loadPartitions(TABLE);
+    }
+
+    private List<Partition> loadPartitions(String table) {
+        return jdbcTemplate.query(
+                "SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL " +
+                        "ORDER BY PARTITION_ORDINAL_POSITION",
+                (rs, rowNum) -> new Partition(rs.getString(1), parseBoundary(rs.getString(2))),
+                table);
+    }
+
+    // PARTITION_DESCRIPTION is the quoted boundary literal, or MAXVALUE for the catch-all partition
+    private LocalDateTime parseBoundary(String description) {
+        if (description == null || description.equalsIgnoreCase("MAXVALUE")) {
+            return null;
+        }
+        return LocalDateTime.parse(description.replace("'", ""), BOUNDARY_FORMAT);
+    }
+
+    // One-off conversion, see partitionTable(). MySQL requires the partitioning column in every unique key, so the primary
+    // key becomes (id, timestamp); ids stay unique because they come from the id generator.
+    private void convertTable(LocalDateTime now) {
+        Integer timestampInKey = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.KEY_COLUMN_USAGE WHERE TABLE_SCHEMA = DATABASE() " +
+                        "AND TABLE_NAME = ? AND CONSTRAINT_NAME = 'PRIMARY' AND COLUMN_NAME = 'timestamp'",
+                Integer.class, TABLE);
+        if (timestampInKey == null || timestampInKey == 0) {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PRIMARY KEY, ADD PRIMARY KEY (id, `timestamp`)");
+        }
+
+        // Everything before the current period lands in one history partition that expires as a whole
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " PARTITION BY RANGE COLUMNS(`timestamp`) (" +
+                "PARTITION " + HISTORY_PARTITION + " VALUES LESS THAN ('" + BOUNDARY_FORMAT.format(periodStart(now)) + "'), " +
+                "PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+        logger.info("Partitioned {} by {} on timestamp", TABLE, granularity);
+    }
+
+    private void createFuturePartitions(List<Partition> partitions, LocalDateTime now) {
+        if (partitions.stream().noneMatch(partition -> partition.upperBound() == null)) {
+            logger.warn("{} has no {} partition, not creating future partitions", TABLE, MAX_PARTITION);
+            return;
+        }
+        LocalDateTime from = partitions.stream()
+                .map(Partition::upperBound)
+                .filter(bound -> bound != null)
+                .max(LocalDateTime::compareTo)
+                .orElse(periodStart(now));
+        LocalDateTime currentStart = periodStart(now);
+        LocalDateTime target = currentStart;
+        for (int i = 0; i <= precreate; i++) {
+            target = nextPeriod(target);
+        }
+
+        List<String> definitions = new ArrayList<>();
+        // After a long outage, cover the gap with a single partition instead of one per missed period
+        if (from.isBefore(currentStart)) {
+            definitions.add(definition(from, currentStart));
+            from = currentStart;
+        }
+        while (from.isBefore(target)) {
+            LocalDateTime to = nextPeriod(from);
+            definitions.add(definition(from, to));
+            from = to;
+        }
+        if (definitions.isEmpty()) {
+            return;
+        }
+
+        // pmax is empty in steady state, so splitting it moves no rows
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " REORGANIZE PARTITION " + MAX_PARTITION + " INTO (" +
+                String.join(", ", definitions) + ", PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+        partitionsCreated.addAndGet(definitions.size());
+        logger.info("Created {} audit log partitions up to {}", definitions.size(), BOUNDARY_FORMAT.format(from));
+    }
+
+    private void expirePartitions(List<Partition> partitions, LocalDateTime now) {
+        LocalDateTime cutoff = periodStart(now.minusDays(retentionDays));
+        for (Partition partition : partitions) {
+            if (partition.upperBound() == null || partition.upperBound().isAfter(cutoff)) {
+                continue;
+            }
+            rollUp(partition);
+            if (retentionAction == AuditRetentionAction.ARCHIVE) {
+                archive(partition);
+            }
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + partition.name());
+            partitionsExpired.incrementAndGet();
+            logger.info("Expired audit log partition {} (before {})", partition.name(), BOUNDARY_FORMAT.format(partition.upperBound()));
+        }
+    }
+
+    // Partitions never share an hour, so replacing the counts makes a retried rollup harmless
+    private void rollUp(Partition partition) {
+        String hour = "DATE_FORMAT(`timestamp`, '%Y-%m-%d %H:00:00')";
+        jdbcTemplate.update(
+                "INSERT INTO audit_log_hourly (bucket_start, operation, entity_name, success, log_count) " +
+                        "SELECT " + hour + ", operation, entity_name, COALESCE(success, TRUE), COUNT(*) " +
+                        "FROM " + TABLE + " PARTITION (" + partition.name() + ") " +
+                        "GROUP BY " + hour + ", operation, entity_name, COALESCE(success, TRUE) " +
+                        "ON DUPLICATE KEY UPDATE log_count = VALUES(log_count)");
+    }
+
+    private void archive(Partition partition) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + ARCHIVE_TABLE + " LIKE " + TABLE);
+        if (!loadPartitions(ARCHIVE_TABLE).isEmpty()) {
+            jdbcTemplate.execute("ALTER TABLE " + ARCHIVE_TABLE + " REMOVE PARTITIONING");
+        }
+        // IGNORE: rows copied by an earlier attempt that failed before the drop are skipped
+        jdbcTemplate.update("INSERT IGNORE INTO " + ARCHIVE_TABLE + " (" + COLUMNS + ") " +
+                "SELECT " + COLUMNS + " FROM " + TABLE + " PARTITION (" + partition.name() + ")");
+    }
+
+    private String definition(LocalDateTime from, LocalDateTime to) {
+        return "PARTITION " + NAME_FORMAT.format(from) + " VALUES LESS THAN ('" + BOUNDARY_FORMAT.format(to) + "')";
+    }
+
+    private LocalDateTime periodStart(LocalDateTime time) {
+        LocalDateTime day = time.truncatedTo(ChronoUnit.DAYS);
+        return granularity == AuditPartitionGranularity.MONTHLY ? day.withDayOfMonth(1) : day;
+    }
+
+    // Next boundary after the period containing time; also realigns bounds left by a granularity change
+    private LocalDateTime nextPeriod(LocalDateTime time) {
+        LocalDateTime start = periodStart(time);
+        return granularity == AuditPartitionGranularity.MONTHLY ? start.plusMonths(1) : start.plusDays(1);
+    }
+}
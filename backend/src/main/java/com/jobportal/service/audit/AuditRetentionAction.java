@@ -0,0 +1,12 @@
+package com.jobportal.service.audit;
+
+/**
+ * What {@link AuditPartitionManager} does with a partition older than audit.retention.days,
+ * after its rows have been rolled up into audit_log_hourly.
+ */
+public enum AuditRetentionAction {
+    // Drop the partition
+    DROP,
+    // Copy its rows into audit_logs_archive, then drop it
+    ARCHIVE
+}
@@ -2,7 +2,11 @@ package com.jobportal.service.audit;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -11,11 +15,16 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jobportal.entity.audit.AuditLog;
 import com.jobportal.entity.audit.AuditOperation;
+import com.jobportal.repository.audit.AuditLogHourlyCountRepository;
 import com.jobportal.repository.audit.AuditLogRepository;
+import com.jobportal.repository.audit.AuditLogSpecifications;
 import com.jobportal.security.CustomUserDetails;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 
@@ -25,15 +34,62 @@ public class AuditService {
     @Autowired
     private AuditLogRepository auditLogRepository;
 
+    @Autowired
+    private AuditLogHourlyCountRepository auditLogHourlyCountRepository;
+
+    @Autowired
+    private AuditStatistics auditStatistics;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private AuditWriteQueue auditWriteQueue;
+
+    // Audit entries are handed to AuditWriteQueue and persisted in batches by its background writer,
+    // so the returned AuditLog has no id yet
     public AuditLog logOperation(String entityName, String entityId, AuditOperation operation) {
         return logOperation(entityName, entityId, operation, null, null, null);
     }
 
     public AuditLog logOperation(String entityName, String entityId, AuditOperation operation,
                                  Object oldValues, Object newValues, List<String> changedFields) {
+        AuditLog auditLog = buildAuditLog(entityName, entityId, operation, oldValues, newValues, changedFields);
+        auditWriteQueue.enqueue(auditLog);
+        return auditLog;
+    }
+
+    public AuditLog logOperationWithRequest(String entityName, String entityId, AuditOperation operation,
+                                            HttpServletRequest request) {
+        AuditLog auditLog = buildAuditLog(entityName, entityId, operation, null, null, null);
+
+        if (request != null) {
+            auditLog.setIpAddress(getClientIpAddress(request));
+            auditLog.setUserAgent(request.getHeader("User-Agent"));
+            // Don't create a session just to audit a stateless request
+            HttpSession session = request.getSession(false);
+            if (session != null) {
+                auditLog.setSessionId(session.getId());
+            }
+        }
+
+        auditWriteQueue.enqueue(auditLog);
+        return auditLog;
+    }
+
+    public AuditLog logFailedOperation(String entityName, String entityId, AuditOperation operation,
+                                       String errorMessage) {
+        AuditLog auditLog = new AuditLog(entityName, entityId, operation);
+        setUserInformation(auditLog);
+        auditLog.setSuccess(false);
+        auditLog.setErrorMessage(errorMessage);
+
+        auditWriteQueue.enqueue(auditLog);
+        return auditLog;
+    }
+
+    private AuditLog buildAuditLog(String entityName, String entityId, AuditOperation operation,
+                                   Object oldValues, Object newValues, List<String> changedFields) {
         AuditLog auditLog = new AuditLog(entityName, entityId, operation);
 
         // Set user information
@@ -60,30 +116,7 @@ public class AuditService {
             auditLog.setChangedFields(String.join(",", changedFields));
         }
 
-        return auditLogRepository.save(auditLog);
-    }
-
-    public AuditLog logOperationWithRequest(String entityName, String entityId, AuditOperation operation,
-                                            HttpServletRequest request) {
-        AuditLog auditLog = logOperation(entityName, entityId, operation);
-
-        if (request != null) {
-            auditLog.setIpAddress(getClientIpAddress(request));
-            auditLog.setUserAgent(request.getHeader("User-Agent"));
-            auditLog.setSessionId(request.getSession().getId());
-        }
-
-        return auditLogRepository.save(auditLog);
-    }
-
-    public AuditLog logFailedOperation(String entityName, String entityId, AuditOperation operation,
-                                       String errorMessage) {
-        AuditLog auditLog = new AuditLog(entityName, entityId, operation);
-        setUserInformation(auditLog);
-        auditLog.setSuccess(false);
-        auditLog.setErrorMessage(errorMessage);
-
-        return auditLogRepository.save(auditLog);
+        return auditLog;
     }
 
     private void setUserInformation(AuditLog auditLog) {
@@ -146,122 +179,57 @@ public class AuditService {
         return auditLogRepository.findByUserEmailOrderByTimestampDesc(userEmail, pageable);
     }
 
-    public List<String> getAllEntityNames() {
-        return auditLogRepository.findDistinctEntityNames();
-    }
-
-    public Long getOperationCountSince(AuditOperation operation, LocalDateTime since) {
-        return auditLogRepository.countByOperationSince(operation, since);
-    }
-
-    public Page<AuditLog> getAuditLogsByUserAndEntity(String userEmail, String entityName, Pageable pageable) {
-        return auditLogRepository.findByUserEmailAndEntityNameOrderByTimestampDesc(userEmail, entityName, pageable);
-    }
-
-    public Long getSuccessfulOperationCount() {
-        return auditLogRepository.countBySuccessStatusTrue();
-    }
-
-    public Long getFailedOperationCount() {
-        return auditLogRepository.countBySuccessStatusFalse();
+    // Combined filter search, newest first. The total COUNT(*) is only run when countTotal is set;
+    // otherwise a Slice is returned that only knows whether a next page exists.
+    public Slice<AuditLog> searchAuditLogs(String userEmail, String entityName, AuditOperation operation,
+                                           Boolean success, LocalDateTime from, LocalDateTime to,
+                                           Pageable pageable, boolean countTotal) {
+        Specification<AuditLog> spec = AuditLogSpecifications.matching(userEmail, entityName, operation, success, from, to);
+        Pageable newestFirst = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                Sort.by(Sort.Direction.DESC, "timestamp", "id"));
+        return countTotal
+                ? auditLogRepository.findAll(spec, newestFirst)
+                : auditLogRepository.findSlice(spec, newestFirst);
     }
 
-    public Page<AuditLog> findAllExceptAuditControllerIgnoreCaseOrderByTimestampDesc(Pageable pageable) {
-        return auditLogRepository.findAllExceptAuditControllerIgnoreCaseOrderByTimestampDesc(pageable);
-    }
-
-    public Page<AuditLog> getAuditLogsByDateRangeOrderedByTimestampDesc(LocalDateTime startDate,
-                                                                        LocalDateTime endDate,
-                                                                        Pageable pageable) {
-        return auditLogRepository.findByTimestampBetweenOrderByTimestampDesc(startDate, endDate, pageable);
-    }
-
-    public Page<AuditLog> getAuditLogsByUserAndEntityAndDateRangeOrderedByTimestampDesc(
-            String userEmail,
-            String entityName,
-            LocalDateTime startDate,
-            LocalDateTime endDate,
-            Pageable pageable) {
-        return auditLogRepository.findByUserEmailAndEntityNameAndTimestampBetweenOrderByTimestampDesc(
-                userEmail, entityName, startDate, endDate, pageable);
-    }
-
-    public Page<AuditLog> getAuditLogsByEntityAndDateRangeOrderedByTimestampDesc(
-            String entityName,
-            LocalDateTime startDate,
-            LocalDateTime endDate,
-            Pageable pageable) {
-        return auditLogRepository.findByEntityNameAndTimestampBetweenOrderByTimestampDesc(
-                entityName, startDate, endDate, pageable);
-    }
-
-    public Page<AuditLog> findByUserEmailAndTimestampBetweenOrderByTimestampDesc(
-            String userEmail,
-            LocalDateTime startDate,
-            LocalDateTime endDate,
-            Pageable pageable) {
-        return auditLogRepository.findByUserEmailAndTimestampBetweenOrderByTimestampDesc(
-                userEmail, startDate, endDate, pageable);
-    }
-
-    public Page<AuditLog> findBySuccessStatusOrderByTimestampDesc(
-            boolean success,
-            Pageable pageable) {
-        return auditLogRepository.findBySuccessOrderByTimestampDesc(success, pageable);
-    }
-
-    public Page<AuditLog> getAuditLogsByUserAndEntityAndDateRangeAndSuccessOrderedByTimestampDesc(
-            String userEmail,
-            String entityName,
-            LocalDateTime startDate,
-            LocalDateTime endDate,
-            boolean success,
-            Pageable pageable) {
-        return auditLogRepository.findByUserEmailAndEntityNameAndTimestampBetweenAndSuccessOrderByTimestampDesc(
-                userEmail, entityName, startDate, endDate, success, pageable);
-    }
-
-    public Page<AuditLog> getAuditLogsByEntityAndDateRangeAndSuccessOrderedByTimestampDesc(
-            String entityName,
-            LocalDateTime startDate,
-            LocalDateTime endDate,
-            boolean success,
-            Pageable pageable) {
-        return auditLogRepository.findByEntityNameAndTimestampBetweenAndSuccessOrderByTimestampDesc(
-                entityName, startDate, endDate, success, pageable);
+    public List<String> getAllEntityNames() {
+        return List.copyOf(auditStatistics.getEntityNames());
     }
 
-    public Page<AuditLog> getAuditLogsByUserAndDateRangeAndSuccessOrderedByTimestampDesc(
-            String userEmail,
-            LocalDateTime startDate,
-            LocalDateTime endDate,
-            boolean success,
-            Pageable pageable) {
-        return auditLogRepository.findByUserEmailAndTimestampBetweenAndSuccessOrderByTimestampDesc(
-                userEmail, startDate, endDate, success, pageable);
-    }
+    // Windows up to 24 hours are answered from the in-memory AuditStatistics; longer ones (or a window
+    // that failed to load) are counted in the database, without the per-entity breakdown
+    public AuditStatistics.Window getStatisticsWindow(int hours) {
+        int minutes = Math.max(hours, 1) * 60;
+        if (minutes <= AuditStatistics.WINDOW_MINUTES && auditStatistics.isLoaded()) {
+            return auditStatistics.window(minutes);
+        }
 
-    public Page<AuditLog> getAuditLogsByDateRangeAndSuccessOrderedByTimestampDesc(
-            LocalDateTime startDate,
-            LocalDateTime endDate,
-            boolean success,
-            Pageable pageable) {
-        return auditLogRepository.findByTimestampBetweenAndSuccessOrderByTimestampDesc(
-                startDate, endDate, success, pageable);
+        LocalDateTime since = LocalDateTime.now().minusMinutes(minutes);
+        Map<AuditOperation, Long> operations = new EnumMap<>(AuditOperation.class);
+        for (AuditOperation operation : AuditOperation.values()) {
+            operations.put(operation, getOperationCountSince(operation, since));
+        }
+        return new AuditStatistics.Window(operations, Map.of(),
+                getSuccessCountSince(true, since), getSuccessCountSince(false, since));
     }
 
-    public Page<AuditLog> getAuditLogsByUserEmailAndEntityNameAndSuccessOrderByTimestampDesc(String userEmail, String entityName, Boolean success, Pageable pageable){
-        return auditLogRepository.findByUserEmailAndEntityNameAndSuccessOrderByTimestampDesc(userEmail, entityName, success, pageable);
+    // Counts combine live audit_logs rows with the hourly rollups of expired partitions
+    // (see AuditPartitionManager); rolled-up periods are only resolved to the hour.
+    public Long getOperationCountSince(AuditOperation operation, LocalDateTime since) {
+        return auditLogRepository.countByOperationSince(operation, since)
+                + auditLogHourlyCountRepository.sumByOperationBetween(operation, since, rolledUpBefore());
     }
 
-    public Page<AuditLog> getAuditLogsByUserEmailAndSuccessOrderByTimestampDesc(
-            String userEmail, Boolean success, Pageable pageable) {
-        return auditLogRepository.findByUserEmailAndSuccessOrderByTimestampDesc(userEmail, success, pageable);
+    public Long getSuccessCountSince(boolean success, LocalDateTime since) {
+        return auditLogRepository.countBySuccessSince(success, since)
+                + auditLogHourlyCountRepository.sumBySuccessBetween(success, since, rolledUpBefore());
     }
 
-    public Page<AuditLog> getAuditLogsByEntityNameAndSuccessOrderByTimestampDesc(
-            String entityName, Boolean success, Pageable pageable) {
-        return auditLogRepository.findByEntityNameAndSuccessOrderByTimestampDesc(entityName, success, pageable);
+    // Rollups are only counted for hours no longer in audit_logs, so a partition that was rolled up
+    // but not yet dropped is not counted twice
+    private LocalDateTime rolledUpBefore() {
+        LocalDateTime oldest = auditLogRepository.findOldestTimestamp();
+        return oldest != null ? oldest.truncatedTo(ChronoUnit.HOURS) : LocalDateTime.now().plusHours(1);
     }
 
 }
@@ -0,0 +1,304 @@
+package com.jobportal.service.audit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.jobportal.entity.audit.AuditLog;
+import com.jobportal.entity.audit.AuditOperation;
+import com.jobportal.repository.audit.AuditLogHourlyCountRepository;
+import com.jobportal.repository.audit.AuditLogRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sliding 24 hour window of audit counts in one-minute buckets, per operation, per entity and
+ * per outcome, so the audit stats endpoints never have to count audit_logs. Entries are recorded
+ * by {@link AuditWriteQueue} once persisted. Every audit.stats.persist-interval-ms the counts
+ * recorded here are added to audit_stats_minute and the window is reloaded from it, which also
+ * picks up what other nodes recorded.
+ */
+@Component
+public class AuditStatistics {
+    private static final Logger logger = LoggerFactory.getLogger(AuditStatistics.class);
+
+    public static final int WINDOW_MINUTES = 24 * 60;
+
+    private static final AuditOperation[] OPERATIONS = AuditOperation.values();
+    private static final DateTimeFormatter MINUTE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final String UPSERT =
+            "INSERT INTO audit_stats_minute (bucket_start, operation, entity_name, success, log_count) VALUES (?, ?, ?, ?, ?) " +
+                    "ON DUPLICATE KEY UPDATE log_count = log_count + VALUES(log_count)";
+
+    // Seed rows are absolute counts from audit_logs, so nodes seeding at the same time do not add up.
+    // GREATEST keeps increments another node persisted after this node's count was taken.
+    private static final String SEED =
+            "INSERT INTO audit_stats_minute (bucket_start, operation, entity_name, success, log_count) VALUES (?, ?, ?, ?, ?) " +
+                    "ON DUPLICATE KEY UPDATE log_count = GREATEST(log_count, VALUES(log_count))";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AuditLogRepository auditLogRepository;
+
+    @Autowired
+    private AuditLogHourlyCountRepository auditLogHourlyCountRepository;
+
+    private final Object lock = new Object();
+
+    // Ring of buckets indexed by epoch minute (UTC) modulo the window
+    private final Bucket[] buckets = new Bucket[WINDOW_MINUTES];
+
+    // Counts recorded on this node and not yet added to audit_stats_minute
+    private Map<Key, Long> pending = new HashMap<>();
+
+    private final Set<String> entityNames = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean loaded;
+
+    private record Key(long minute, AuditOperation operation, String entityName, boolean success) {
+    }
+
+    private static final class Bucket {
+        private long minute = Long.MIN_VALUE;
+        private final long[] operations = new long[OPERATIONS.length];
+        private final Map<String, Long> entities = new HashMap<>();
+        private long successful;
+        private long failed;
+
+        private void reset(long minute) {
+            this.minute = minute;
+            Arrays.fill(operations, 0);
+            entities.clear();
+            successful = 0;
+            failed = 0;
+        }
+    }
+
+    /**
+     * Counts for the last N minutes of the window.
+     */
+    public record Window(Map<AuditOperation, Long> operations, Map<String, Long> entities, long successful, long failed) {
+
+        public long total() {
+            return successful + failed;
+        }
+    }
+
+    // Runs before AuditWriteQueue starts, so nothing is recorded twice by the bootstrap below
+    @PostConstruct
+    void init() {
+        for (int i = 0; i < WINDOW_MINUTES; i++) {
+            buckets[i] = new Bucket();
+        }
+        try {
+            entityNames.addAll(auditLogRepository.findDistinctEntityNames());
+            entityNames.addAll(auditLogHourlyCountRepository.findDistinctEntityNames());
+            reload();
+            if (isEmpty()) {
+                // First start with this feature: seed the window from audit_logs once. Several nodes may
+                // find the table empty together; the seed upsert does not add, so they write the same rows.
+                bootstrapFromAuditLogs();
+                reload();
+            }
+        } catch (RuntimeException e) {
+            logger.error("Failed to load audit statistics, starting with an empty window: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        persist();
+    }
+
+    public void record(List<AuditLog> entries) {
+        long now = currentMinute();
+        synchronized (lock) {
+            for (AuditLog entry : entries) {
+                long minute = entry.getTimestamp().atZone(ZoneId.systemDefault()).toEpochSecond() / 60;
+                if (minute <= now - WINDOW_MINUTES || minute > now) {
+                    // Replayed spill entries can be older than the window
+                    continue;
+                }
+                boolean success = entry.getSuccess() == null || entry.getSuccess();
+                Key key = new Key(minute, entry.getOperation(), entry.getEntityName(), success);
+                pending.merge(key, 1L, Long::sum);
+                add(key, 1L);
+            }
+        }
+        for (AuditLog entry : entries) {
+            entityNames.add(entry.getEntityName());
+        }
+    }
+
+    public Window window(int minutes) {
+        long now = currentMinute();
+        long from = now - Math.max(1, Math.min(minutes, WINDOW_MINUTES)) + 1;
+
+        long[] operations = new long[OPERATIONS.length];
+        Map<String, Long> entities = new TreeMap<>();
+        long successful = 0;
+        long failed = 0;
+        synchronized (lock) {
+            for (Bucket bucket : buckets) {
+                if (bucket.minute < from || bucket.minute > now) {
+                    continue;
+                }
+                for (int i = 0; i < operations.length; i++) {
+                    operations[i] += bucket.operations[i];
+                }
+                bucket.entities.forEach((entity, count) -> entities.merge(entity, count, Long::sum));
+                successful += bucket.successful;
+                failed += bucket.failed;
+            }
+        }
+
+        Map<AuditOperation, Long> byOperation = new EnumMap<>(AuditOperation.class);
+        for (int i = 0; i < operations.length; i++) {
+            byOperation.put(OPERATIONS[i], operations[i]);
+        }
+        return new Window(byOperation, entities, successful, failed);
+    }
+
+    // Every entity name ever audited, including those only left in the hourly rollups
+    public Set<String> getEntityNames() {
+        return Collections.unmodifiableSet(new TreeSet<>(entityNames));
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    @Scheduled(fixedDelayString = "${audit.stats.persist-interval-ms:60000}")
+    public void persist() {
+        Map<Key, Long> batch;
+        synchronized (lock) {
+            batch = pending;
+            pending = new HashMap<>();
+        }
+        try {
+            if (!batch.isEmpty()) {
+                List<Object[]> rows = new ArrayList<>(batch.size());
+                batch.forEach((key, count) -> rows.add(new Object[]{
+                        toUtc(key.minute()), key.operation().name(), key.entityName(), key.success(), count}));
+                jdbcTemplate.batchUpdate(UPSERT, rows);
+            }
+            jdbcTemplate.update("DELETE FROM audit_stats_minute WHERE bucket_start <= ?", toUtc(currentMinute() - WINDOW_MINUTES));
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                batch.forEach((key, count) -> pending.merge(key, count, Long::sum));
+            }
+            logger.error("Failed to persist audit statistics: {}", e.getMessage());
+            return;
+        }
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            logger.error("Failed to reload audit statistics: {}", e.getMessage());
+        }
+    }
+
+    // Replace the window with audit_stats_minute plus the counts not written yet
+    private void reload() {
+        List<Key> keys = new ArrayList<>();
+        List<Long> counts = new ArrayList<>();
+        jdbcTemplate.query(
+                "SELECT bucket_start, operation, entity_name, success, log_count FROM audit_stats_minute WHERE bucket_start > ?",
+                rs -> {
+                    keys.add(new Key(rs.getObject(1, LocalDateTime.class).toEpochSecond(ZoneOffset.UTC) / 60,
+                            AuditOperation.valueOf(rs.getString(2)), rs.getString(3), rs.getBoolean(4)));
+                    counts.add(rs.getLong(5));
+                },
+                toUtc(currentMinute() - WINDOW_MINUTES));
+
+        synchronized (lock) {
+            for (Bucket bucket : buckets) {
+                bucket.reset(Long.MIN_VALUE);
+            }
+            for (int i = 0; i < keys.size(); i++) {
+                add(keys.get(i), counts.get(i));
+            }
+            pending.forEach(this::add);
+        }
+        keys.forEach(key -> entityNames.add(key.entityName()));
+        loaded = true;
+    }
+
+    // audit_logs timestamps are stored in UTC (hibernate.jdbc.time_zone), like the buckets. The rows go
+    // straight to audit_stats_minute rather than through pending, whose upsert is additive.
+    private void bootstrapFromAuditLogs() {
+        String minute = "DATE_FORMAT(`timestamp`, '%Y-%m-%d %H:%i:00')";
+        List<Object[]> rows = new ArrayList<>();
+        jdbcTemplate.query(
+                "SELECT " + minute + ", operation, entity_name, COALESCE(success, TRUE), COUNT(*) FROM audit_logs " +
+                        "WHERE `timestamp` > ? GROUP BY " + minute + ", operation, entity_name, COALESCE(success, TRUE)",
+                rs -> {
+                    rows.add(new Object[]{LocalDateTime.parse(rs.getString(1), MINUTE_FORMAT), rs.getString(2),
+                            rs.getString(3), rs.getBoolean(4), rs.getLong(5)});
+                },
+                toUtc(currentMinute() - WINDOW_MINUTES));
+
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(SEED, rows);
+            logger.info("Seeded audit statistics from {} audit_logs groups", rows.size());
+        }
+    }
+
+    // Caller holds the lock
+    private void add(Key key, long count) {
+        Bucket bucket = buckets[(int) Math.floorMod(key.minute(), (long) WINDOW_MINUTES)];
+        if (bucket.minute != key.minute()) {
+            if (bucket.minute > key.minute()) {
+                return;
+            }
+            bucket.reset(key.minute());
+        }
+        bucket.operations[key.operation().ordinal()] += count;
+        bucket.entities.merge(key.entityName(), count, Long::sum);
+        if (key.success()) {
+            bucket.successful += count;
+        } else {
+            bucket.failed += count;
+        }
+    }
+
+    private boolean isEmpty() {
+        synchronized (lock) {
+            for (Bucket bucket : buckets) {
+                if (bucket.minute != Long.MIN_VALUE) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static long currentMinute() {
+        return System.currentTimeMillis() / 60_000;
+    }
+
+    private static LocalDateTime toUtc(long minute) {
+        return LocalDateTime.ofEpochSecond(minute * 60, 0, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,368 @@
+package com.jobportal.service.audit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobportal.entity.audit.AuditLog;
+import com.jobportal.entity.audit.AuditOperation;
+import com.jobportal.repository.audit.AuditLogRepository;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded hand-off between request threads and the audit_logs table. Request threads only
+ * enqueue; a single background writer drains the queue and persists entries in batches of
+ * up to audit.async.flush-size, at least every audit.async.flush-interval-ms. On shutdown
+ * the queue (and any spill file) is drained before the data source goes away.
+ */
+@Component
+public class AuditWriteQueue implements SmartLifecycle {
+    private static final Logger logger = LoggerFactory.getLogger(AuditWriteQueue.class);
+
+    private static final String SPILL_FILE = "audit-spill.jsonl";
+    private static final String REPLAY_FILE = "audit-spill.replay.jsonl";
+
+    @Value("${audit.async.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${audit.async.flush-size:200}")
+    private int flushSize;
+
+    @Value("${audit.async.flush-interval-ms:1000}")
+    private long flushIntervalMs;
+
+    @Value("${audit.async.overflow-policy:DROP_READ_FIRST}")
+    private AuditOverflowPolicy overflowPolicy;
+
+    @Value("${audit.async.block-timeout-ms:1000}")
+    private long blockTimeoutMs;
+
+    @Value("${audit.async.spill-dir:${java.io.tmpdir}/jobportal-audit-spill}")
+    private String spillDir;
+
+    @Value("${audit.async.shutdown-timeout-ms:10000}")
+    private long shutdownTimeoutMs;
+
+    @Autowired
+    private AuditLogRepository auditLogRepository;
+
+    @Autowired
+    private AuditStatistics auditStatistics;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private BlockingQueue<AuditLog> queue;
+    private Thread writer;
+    private volatile boolean running;
+
+    private final Object spillLock = new Object();
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong persisted = new AtomicLong();
+    private final AtomicLong droppedReads = new AtomicLong();
+    private final AtomicLong droppedWrites = new AtomicLong();
+    private final AtomicLong spilled = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+
+    // Hand an audit entry to the background writer. Never touches the database on the caller's thread
+    // while the writer is running.
+    public void enqueue(AuditLog auditLog) {
+        if (!running) {
+            // Before startup or after shutdown there is no writer, so persist directly
+            persist(List.of(auditLog));
+            return;
+        }
+        enqueued.incrementAndGet();
+        if (queue.offer(auditLog)) {
+            return;
+        }
+
+        switch (overflowPolicy) {
+            case BLOCK -> offerOrDrop(auditLog);
+            case DROP_READ_FIRST -> {
+                if (auditLog.getOperation() == AuditOperation.READ) {
+                    droppedReads.incrementAndGet();
+                } else if (evictOneRead() && queue.offer(auditLog)) {
+                    return;
+                } else {
+                    offerOrDrop(auditLog);
+                }
+            }
+            case SPILL_TO_DISK -> spill(List.of(auditLog));
+        }
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("running", running);
+        statistics.put("overflowPolicy", overflowPolicy.name());
+        statistics.put("queueDepth", queue != null ? queue.size() : 0);
+        statistics.put("queueCapacity", queueCapacity);
+        statistics.put("enqueued", enqueued.get());
+        statistics.put("persisted", persisted.get());
+        statistics.put("batches", batches.get());
+        statistics.put("droppedReads", droppedReads.get());
+        statistics.put("droppedWrites", droppedWrites.get());
+        statistics.put("spilled", spilled.get());
+        statistics.put("failed", failed.get());
+        return statistics;
+    }
+
+    @Override
+    public void start() {
+        queue = new LinkedBlockingQueue<>(queueCapacity);
+        running = true;
+        writer = new Thread(this::writeLoop, "audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+        logger.info("Audit writer started (capacity {}, flush size {}, interval {} ms, overflow {})",
+                queueCapacity, flushSize, flushIntervalMs, overflowPolicy);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.join(shutdownTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            logger.warn("Audit writer did not drain within {} ms, {} entries left in memory", shutdownTimeoutMs, queue.size());
+        } else {
+            logger.info("Audit writer drained and stopped ({} entries persisted)", persisted.get());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Stops after the web server (higher phase), so no requests are still enqueueing while it drains
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    private void writeLoop() {
+        List<AuditLog> batch = new ArrayList<>(flushSize);
+        long lastFlush = System.currentTimeMillis();
+        while (running || !queue.isEmpty()) {
+            try {
+                AuditLog next = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (next != null) {
+                    batch.add(next);
+                    queue.drainTo(batch, flushSize - batch.size());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            long now = System.currentTimeMillis();
+            if (batch.size() >= flushSize || (!batch.isEmpty() && now - lastFlush >= flushIntervalMs)) {
+                flush(batch);
+                lastFlush = now;
+            }
+            if (batch.isEmpty() && queue.size() < queueCapacity / 2) {
+                replaySpill();
+            }
+        }
+        // Final drain: whatever is left in the batch, the queue and the spill file
+        queue.drainTo(batch);
+        while (!batch.isEmpty()) {
+            List<AuditLog> chunk = new ArrayList<>(batch.subList(0, Math.min(flushSize, batch.size())));
+            batch.subList(0, chunk.size()).clear();
+            flush(chunk);
+        }
+        replaySpill();
+    }
+
+    private void flush(List<AuditLog> batch) {
+        if (!persist(batch) && overflowPolicy == AuditOverflowPolicy.SPILL_TO_DISK) {
+            // saveAll assigned ids before it failed; a replay must insert the entries afresh
+            batch.forEach(entry -> entry.setId(null));
+            spill(batch);
+        }
+        batch.clear();
+    }
+
+    private boolean persist(List<AuditLog> entries) {
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> auditLogRepository.saveAll(entries));
+            persisted.addAndGet(entries.size());
+            batches.incrementAndGet();
+        } catch (RuntimeException e) {
+            failed.addAndGet(entries.size());
+            logger.error("Failed to persist {} audit log entries: {}", entries.size(), e.getMessage());
+            return false;
+        }
+        auditStatistics.record(entries);
+        return true;
+    }
+
+    private void offerOrDrop(AuditLog auditLog) {
+        try {
+            if (queue.offer(auditLog, blockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (auditLog.getOperation() == AuditOperation.READ) {
+            droppedReads.incrementAndGet();
+        } else {
+            droppedWrites.incrementAndGet();
+        }
+    }
+
+    private boolean evictOneRead() {
+        Iterator<AuditLog> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getOperation() == AuditOperation.READ) {
+                iterator.remove();
+                droppedReads.incrementAndGet();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void spill(List<AuditLog> entries) {
+        synchronized (spillLock) {
+            try {
+                Path directory = Paths.get(spillDir);
+                Files.createDirectories(directory);
+                try (BufferedWriter out = Files.newBufferedWriter(directory.resolve(SPILL_FILE), StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                    for (AuditLog entry : entries) {
+                        out.write(objectMapper.writeValueAsString(entry));
+                        out.newLine();
+                    }
+                }
+                spilled.addAndGet(entries.size());
+            } catch (IOException e) {
+                droppedWrites.addAndGet(entries.size());
+                logger.error("Failed to spill {} audit log entries to disk: {}", entries.size(), e.getMessage());
+            }
+        }
+    }
+
+    // Move the spill file aside and persist its content in batches; runs on the writer thread only.
+    // Stops at the first batch that fails and rewrites the replay file with only that batch and the
+    // lines after it, so a later replay never inserts an entry twice.
+    private void replaySpill() {
+        Path directory = Paths.get(spillDir);
+        Path spillFile = directory.resolve(SPILL_FILE);
+        Path replayFile = directory.resolve(REPLAY_FILE);
+        synchronized (spillLock) {
+            if (!Files.exists(replayFile)) {
+                if (!Files.exists(spillFile)) {
+                    return;
+                }
+                try {
+                    Files.move(spillFile, replayFile, StandardCopyOption.ATOMIC_MOVE);
+                } catch (IOException e) {
+                    logger.error("Failed to rotate audit spill file: {}", e.getMessage());
+                    return;
+                }
+            }
+        }
+
+        Path remainderFile = directory.resolve(REPLAY_FILE + ".tmp");
+        boolean complete = true;
+        List<String> lines = new ArrayList<>(flushSize);
+        try (BufferedReader in = Files.newBufferedReader(replayFile, StandardCharsets.UTF_8)) {
+            String line;
+            while (complete && (line = in.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                lines.add(line);
+                if (lines.size() >= flushSize) {
+                    complete = replayBatch(lines);
+                    if (complete) {
+                        lines.clear();
+                    }
+                }
+            }
+            if (complete && !lines.isEmpty()) {
+                complete = replayBatch(lines);
+            }
+            if (!complete) {
+                try (BufferedWriter out = Files.newBufferedWriter(remainderFile, StandardCharsets.UTF_8)) {
+                    for (String pending : lines) {
+                        out.write(pending);
+                        out.newLine();
+                    }
+                    while ((line = in.readLine()) != null) {
+                        out.write(line);
+                        out.newLine();
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Failed to replay audit spill file: {}", e.getMessage());
+            return;
+        }
+
+        try {
+            if (complete) {
+                Files.deleteIfExists(replayFile);
+            } else {
+                Files.move(remainderFile, replayFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (IOException e) {
+            logger.error("Failed to checkpoint audit spill replay: {}", e.getMessage());
+        }
+    }
+
+    // Lines that no longer parse are dropped rather than blocking the rest of the file
+    private boolean replayBatch(List<String> lines) {
+        List<AuditLog> entries = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            try {
+                AuditLog entry = objectMapper.readValue(line, AuditLog.class);
+                entry.setId(null);
+                entries.add(entry);
+            } catch (IOException e) {
+                droppedWrites.incrementAndGet();
+                logger.error("Dropping unreadable audit spill line: {}", e.getMessage());
+            }
+        }
+        return entries.isEmpty() || persist(entries);
+    }
+}
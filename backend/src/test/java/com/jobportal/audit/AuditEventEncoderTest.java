@@ -0,0 +1,90 @@
+package com.jobportal.audit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditEventEncoderTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    // The timestamp varies, so compare everything after it
+    private static String body(String json) {
+        return json.substring(json.indexOf(",\"event\""));
+    }
+
+    @Test
+    void escapesQuotesBackslashesAndControlCharacters() throws Exception {
+        String json = AuditEventEncoder.begin("login")
+                .field("detail", "say \"hi\"\\ now\n\r\t\u0001\u001f end")
+                .finish();
+
+        assertThat(body(json)).isEqualTo(
+                ",\"event\":\"login\",\"detail\":\"say \\\"hi\\\"\\\\ now\\n\\r\\t\\u0001\\u001f end\"}");
+        assertThat(MAPPER.readTree(json).get("detail").asText()).isEqualTo("say \"hi\"\\ now\n\r\t\u0001\u001f end");
+    }
+
+    @Test
+    void writesNestedMapsAndLists() throws Exception {
+        Map<String, Object> inner = new LinkedHashMap<>();
+        inner.put("ids", List.of(1, 2, 3));
+        inner.put("tags", List.of("a\"b", Map.of("k", true)));
+        Map<String, Object> outer = new LinkedHashMap<>();
+        outer.put("inner", inner);
+        outer.put("empty", List.of());
+
+        String json = AuditEventEncoder.begin("update").field("changes", (Object) outer).finish();
+
+        assertThat(body(json)).isEqualTo(",\"event\":\"update\",\"changes\":{\"inner\":{\"ids\":[1,2,3],"
+                + "\"tags\":[\"a\\\"b\",{\"k\":true}]},\"empty\":[]}}");
+        JsonNode changes = MAPPER.readTree(json).get("changes");
+        assertThat(changes.at("/inner/ids/2").asInt()).isEqualTo(3);
+        assertThat(changes.at("/inner/tags/1/k").asBoolean()).isTrue();
+    }
+
+    @Test
+    void omitsNullFieldsButKeepsNullElements() throws Exception {
+        String json = AuditEventEncoder.begin("delete")
+                .field("user", (String) null)
+                .field("entity", (Object) null)
+                .field("values", (Object) Arrays.asList("x", null))
+                .finish();
+
+        assertThat(body(json)).isEqualTo(",\"event\":\"delete\",\"values\":[\"x\",null]}");
+        JsonNode node = MAPPER.readTree(json);
+        assertThat(node.has("user")).isFalse();
+        assertThat(node.has("entity")).isFalse();
+    }
+
+    @Test
+    void quotesNonFiniteNumbers() throws Exception {
+        String json = AuditEventEncoder.begin("stats")
+                .field("ratio", (Object) Double.NaN)
+                .field("max", (Object) Float.POSITIVE_INFINITY)
+                .field("values", (Object) List.of(1.5, Double.NEGATIVE_INFINITY))
+                .finish();
+
+        assertThat(body(json)).isEqualTo(
+                ",\"event\":\"stats\",\"ratio\":\"NaN\",\"max\":\"Infinity\",\"values\":[1.5,\"-Infinity\"]}");
+        JsonNode node = MAPPER.readTree(json);
+        assertThat(node.get("ratio").isTextual()).isTrue();
+        assertThat(node.at("/values/0").asDouble()).isEqualTo(1.5);
+    }
+
+    @Test
+    void reusesTheThreadBufferBetweenEvents() {
+        AuditEventEncoder.begin("first").field("big", "x".repeat(64 * 1024)).finish();
+
+        String json = AuditEventEncoder.begin("second").field("n", 7L).field("ok", false).finish();
+
+        assertThat(json).startsWith("{\"ts\":");
+        assertThat(body(json)).isEqualTo(",\"event\":\"second\",\"n\":7,\"ok\":false}");
+    }
+}
@@ -0,0 +1,62 @@
+package com.jobportal.dto;
+
+import org.junit.jupiter.api.Test;
+
+import com.jobportal.entity.Job;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JobCursorTest {
+
+    @Test
+    void keysetCursorRoundTrips() {
+        Job job = new Job();
+        job.setId(42L);
+        job.setPostedAt(LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123_000_000));
+
+        JobCursor decoded = JobCursor.decode(JobCursor.after(job).encode());
+
+        assertThat(decoded.isOffset()).isFalse();
+        assertThat(decoded.getPostedAt()).isEqualTo(job.getPostedAt());
+        assertThat(decoded.getId()).isEqualTo(42L);
+        assertThat(decoded.getOffset()).isNull();
+    }
+
+    @Test
+    void offsetCursorRoundTrips() {
+        JobCursor decoded = JobCursor.decode(JobCursor.atOffset(60).encode());
+
+        assertThat(decoded.isOffset()).isTrue();
+        assertThat(decoded.getOffset()).isEqualTo(60);
+        assertThat(decoded.getPostedAt()).isNull();
+        assertThat(decoded.getId()).isNull();
+    }
+
+    @Test
+    void tokenIsUrlSafe() {
+        Job job = new Job();
+        job.setId(Long.MAX_VALUE);
+        job.setPostedAt(LocalDateTime.of(2024, 12, 31, 23, 59, 59, 999_999_999));
+
+        assertThat(JobCursor.after(job).encode()).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        assertThatThrownBy(() -> JobCursor.decode("not base64!")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JobCursor.decode(token("v1|k|yesterday|5"))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JobCursor.decode(token("v1|k|2024-03-01T12:00|x"))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JobCursor.decode(token("v1|o|-20"))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JobCursor.decode(token("v2|o|20"))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JobCursor.decode(token("v1|o"))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String token(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
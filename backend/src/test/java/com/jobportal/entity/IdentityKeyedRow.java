@@ -0,0 +1,34 @@
+package com.jobportal.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+// Test-only entity keyed the way every entity was before PooledTableIdGenerator, as a baseline
+@Entity
+@Table(name = "identity_keyed_rows")
+public class IdentityKeyedRow {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String name;
+
+    public IdentityKeyedRow() {
+    }
+
+    public IdentityKeyedRow(String name) {
+        this.name = name;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,94 @@
+package com.jobportal.entity;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.jobportal.audit.AuditorAwareImpl;
+import com.jobportal.config.IdGenerationConfiguration;
+import com.jobportal.entity.audit.AuditLog;
+import com.jobportal.entity.audit.AuditOperation;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the JDBC statements behind N inserts with pooled table ids against the IDENTITY ids
+ * every entity used before. With IDENTITY each insert runs on its own to read back its key;
+ * with pooled ids inserts are batched (hibernate.jdbc.batch_size), plus one generator round trip
+ * per block of app.id.block-size ids.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({IdGenerationConfiguration.class, AuditorAwareImpl.class})
+class PooledTableIdGeneratorTest {
+
+    private static final int INSERTS = 200;
+    // spring.jpa.properties.hibernate.jdbc.batch_size and app.id.block-size in application.properties
+    private static final int BATCH_SIZE = 25;
+    private static final int BLOCK_SIZE = 50;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void pooledIdsBatchInserts() {
+        long identityStatements = statementsFor(i -> new IdentityKeyedRow("row " + i));
+        long pooledStatements = statementsFor(i -> new AuditLog("Job", String.valueOf(i), AuditOperation.CREATE));
+
+        // Each IDENTITY insert is prepared and run on its own to read back the generated key
+        assertThat(identityStatements).isEqualTo(INSERTS);
+        // One insert statement per batch; the generator's select + update per block run on their own connection
+        assertThat(pooledStatements).isLessThanOrEqualTo(INSERTS / BATCH_SIZE + 2L * (INSERTS / BLOCK_SIZE + 1));
+    }
+
+    @Test
+    void idsAreUniqueAcrossBlocks() {
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < BLOCK_SIZE * 3 + 7; i++) {
+            AuditLog entry = new AuditLog("Job", String.valueOf(i), AuditOperation.CREATE);
+            entityManager.persist(entry);
+            assertThat(ids.add(entry.getId())).isTrue();
+        }
+        entityManager.flush();
+        assertThat(ids).doesNotContainNull();
+    }
+
+    private long statementsFor(IntFunction<Object> row) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        for (int i = 0; i < INSERTS; i++) {
+            entityManager.persist(row.apply(i));
+        }
+        entityManager.flush();
+        long statements = statistics.getPrepareStatementCount();
+        entityManager.clear();
+        return statements;
+    }
+
+}
@@ -0,0 +1,162 @@
+package com.jobportal.event;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.jobportal.entity.Application;
+import com.jobportal.entity.Job;
+import com.jobportal.entity.User;
+import com.jobportal.enums.ApplicationStatus;
+import com.jobportal.enums.Role;
+
+import reactor.core.Exceptions;
+import reactor.core.publisher.BaseSubscriber;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApplicationChangeBusTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private ApplicationChangeBus bus;
+
+    @BeforeEach
+    void setUp() {
+        bus = new ApplicationChangeBus();
+        ReflectionTestUtils.setField(bus, "bufferSize", 4);
+        ReflectionTestUtils.setField(bus, "replaySize", 5);
+    }
+
+    @Test
+    void resumesAfterSequenceWithMatchingRetainedEvents() {
+        for (long id = 1; id <= 4; id++) {
+            bus.onApplicationChanged(created(id, id % 2 == 0 ? 20L : 10L));
+        }
+
+        List<Long> resumed = bus.subscribe(event -> event.getCompanyId() == 10L, 1)
+                .take(1)
+                .map(entry -> entry.event().getApplicationId())
+                .collectList()
+                .block(TIMEOUT);
+
+        // Application 1 was already seen, 2 and 4 belong to another company
+        assertThat(resumed).containsExactly(3L);
+    }
+
+    @Test
+    void replaysBacklogThenGoesLive() {
+        bus.onApplicationChanged(created(1L, 10L));
+        bus.onApplicationChanged(created(2L, 10L));
+
+        List<Long> sequences = new CopyOnWriteArrayList<>();
+        CountDownLatch received = new CountDownLatch(3);
+        bus.subscribe(event -> true, 1).subscribe(entry -> {
+            sequences.add(entry.sequence());
+            received.countDown();
+        });
+        bus.onApplicationChanged(created(3L, 10L));
+        bus.onApplicationChanged(created(4L, 10L));
+
+        awaitQuietly(received);
+        assertThat(sequences).containsExactly(2L, 3L, 4L);
+    }
+
+    @Test
+    void canResumeOnlyWhileEventsAreRetained() {
+        assertThat(bus.canResumeAfter(0)).isTrue();
+        for (long id = 1; id <= 8; id++) {
+            bus.onApplicationChanged(created(id, 10L));
+        }
+
+        // Sequences 4 to 8 are retained
+        assertThat(bus.getLastSequence()).isEqualTo(8);
+        assertThat(bus.canResumeAfter(3)).isTrue();
+        assertThat(bus.canResumeAfter(8)).isTrue();
+        assertThat(bus.canResumeAfter(2)).isFalse();
+        assertThat(bus.canResumeAfter(9)).isFalse();
+        assertThat(bus.canResumeAfter(-1)).isFalse();
+    }
+
+    @Test
+    void subscriberThatFallsBehindIsEndedWithOverflow() {
+        StalledSubscriber stalled = new StalledSubscriber();
+        bus.subscribe(event -> true).subscribe(stalled);
+
+        // Four events fit the buffer (one more may be in flight on the worker), then it is full
+        for (long id = 1; id <= 10; id++) {
+            bus.onApplicationChanged(created(id, 10L));
+        }
+        stalled.requestUnbounded();
+
+        awaitQuietly(stalled.done);
+        assertThat(stalled.error).matches(Exceptions::isOverflow);
+        assertThat(stalled.sequences).startsWith(1L, 2L, 3L, 4L).hasSizeLessThanOrEqualTo(5);
+
+        // The subscriber was removed: later events are still delivered to others
+        List<Long> live = new CopyOnWriteArrayList<>();
+        CountDownLatch received = new CountDownLatch(1);
+        bus.subscribe(event -> true).subscribe(entry -> {
+            live.add(entry.sequence());
+            received.countDown();
+        });
+        bus.onApplicationChanged(created(11L, 10L));
+        awaitQuietly(received);
+        assertThat(live).containsExactly(11L);
+    }
+
+    private static class StalledSubscriber extends BaseSubscriber<ApplicationChangeBus.Entry> {
+        private final List<Long> sequences = new CopyOnWriteArrayList<>();
+        private final CountDownLatch done = new CountDownLatch(1);
+        private volatile Throwable error;
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            // No demand until requestUnbounded
+        }
+
+        @Override
+        protected void hookOnNext(ApplicationChangeBus.Entry entry) {
+            sequences.add(entry.sequence());
+        }
+
+        @Override
+        protected void hookOnError(Throwable throwable) {
+            error = throwable;
+            done.countDown();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError(e);
+        }
+    }
+
+    private static ApplicationChangedEvent created(Long applicationId, Long companyId) {
+        User company = new User("Company " + companyId, "company" + companyId + "@example.com", "secret", Role.COMPANY);
+        company.setId(companyId);
+        Job job = new Job();
+        job.setId(100L + companyId);
+        job.setTitle("Engineer");
+        job.setCompany(company);
+        User applicant = new User("Applicant", "applicant@example.com", "secret", Role.APPLICANT);
+        applicant.setId(1000L + applicationId);
+        Application application = new Application();
+        application.setId(applicationId);
+        application.setJob(job);
+        application.setApplicant(applicant);
+        application.setStatus(ApplicationStatus.PENDING);
+        return ApplicationChangedEvent.created(application);
+    }
+}
@@ -0,0 +1,91 @@
+package com.jobportal.graphql;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PersistedQueryRequestFilterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private PersistedQueryRequestFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new PersistedQueryRequestFilter();
+        ReflectionTestUtils.setField(filter, "graphqlPath", "/graphql");
+        ReflectionTestUtils.setField(filter, "maxRequestBytes", 256);
+        ReflectionTestUtils.setField(filter, "objectMapper", objectMapper);
+    }
+
+    @Test
+    void hashOnlyRequestGetsTheMarkerAsQuery() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request("{\"extensions\":{\"persistedQuery\":{\"version\":1,\"sha256Hash\":\"abc\"}}}"),
+                new MockHttpServletResponse(), chain);
+
+        Map<?, ?> body = objectMapper.readValue(chain.getRequest().getInputStream(), Map.class);
+        assertThat(body.get("query")).isEqualTo(PersistedQuerySupport.PERSISTED_QUERY_MARKER);
+    }
+
+    @Test
+    void oversizedBodyIsRejected() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request("{\"query\":\"{ " + "a ".repeat(200) + "}\"}"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    void replayedBodyNotifiesReadListener() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request("{\"query\":\"{ getAllJobs(first: 5) { id } }\"}"), new MockHttpServletResponse(), chain);
+
+        ServletInputStream in = chain.getRequest().getInputStream();
+        List<String> events = new ArrayList<>();
+        in.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() {
+                events.add("data");
+            }
+
+            @Override
+            public void onAllDataRead() {
+                events.add("done");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                events.add("error");
+            }
+        });
+
+        assertThat(events).containsExactly("data", "done");
+    }
+
+    private MockHttpServletRequest request(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/graphql");
+        request.setServletPath("/graphql");
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
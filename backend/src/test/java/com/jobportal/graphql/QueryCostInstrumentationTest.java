@@ -0,0 +1,82 @@
+package com.jobportal.graphql;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryCostInstrumentationTest {
+
+    private static final String SDL = """
+            type Query {
+              getAllJobs(first: Int): [Job]
+              getRecentJobs(first: Int): [Job]
+            }
+            type Job {
+              id: ID
+              title: String
+            }
+            """;
+
+    private GraphQL graphQL;
+
+    @BeforeEach
+    void setUp() {
+        QueryCostInstrumentation instrumentation = new QueryCostInstrumentation();
+        ReflectionTestUtils.setField(instrumentation, "defaultListSize", 20);
+        ReflectionTestUtils.setField(instrumentation, "unboundedListSize", 1000);
+        ReflectionTestUtils.setField(instrumentation, "unboundedListFieldSpec", "Query.getAllJobs");
+        ReflectionTestUtils.setField(instrumentation, "objectWeight", 1);
+        ReflectionTestUtils.setField(instrumentation, "fieldWeightSpec", "Query.getAllJobs:5");
+        ReflectionTestUtils.setField(instrumentation, "anonymousMaxCost", 200L);
+        ReflectionTestUtils.setField(instrumentation, "anonymousMaxDepth", 6);
+        instrumentation.init();
+
+        GraphQLSchema schema = new SchemaGenerator().makeExecutableSchema(
+                new SchemaParser().parse(SDL), RuntimeWiring.newRuntimeWiring().build());
+        graphQL = GraphQL.newGraphQL(schema).instrumentation(instrumentation).build();
+    }
+
+    @Test
+    void unboundedListWithoutFirstIsCostedAtWorstCase() {
+        ExecutionResult result = execute("{ getAllJobs { id title } }");
+
+        assertThat(result.getErrors()).hasSize(1);
+        Map<String, Object> report = result.getErrors().get(0).getExtensions();
+        assertThat(report).containsEntry("code", "QUERY_BUDGET_EXCEEDED").containsEntry("cost", 1005L);
+    }
+
+    @Test
+    void unboundedListWithFirstIsCostedAtFirst() {
+        assertThat(execute("{ getAllJobs(first: 10) { id title } }").getErrors()).isEmpty();
+    }
+
+    @Test
+    void otherListsWithoutFirstUseDefaultSize() {
+        assertThat(execute("{ getRecentJobs { id } }").getErrors()).isEmpty();
+
+        // Rows with only free leaf fields still cost the object weight: 10 * (1 + 20 * 1) > 200
+        ExecutionResult result = execute("{ a: getRecentJobs { id } b: getRecentJobs { id } c: getRecentJobs { id } "
+                + "d: getRecentJobs { id } e: getRecentJobs { id } f: getRecentJobs { id } g: getRecentJobs { id } "
+                + "h: getRecentJobs { id } i: getRecentJobs { id } j: getRecentJobs { id } }");
+        assertThat(result.getErrors()).hasSize(1);
+        assertThat(result.getErrors().get(0).getExtensions()).containsEntry("cost", 210L);
+    }
+
+    private ExecutionResult execute(String query) {
+        return graphQL.execute(ExecutionInput.newExecutionInput(query)
+                .graphQLContext(Map.of(GraphQlAuthInterceptor.ROLE_KEY, GraphQlAuthInterceptor.ANONYMOUS))
+                .build());
+    }
+}
@@ -0,0 +1,111 @@
+package com.jobportal.graphql;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.graphql.server.WebGraphQlHandler;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.WebSocketSession;
+
+import com.jobportal.entity.User;
+import com.jobportal.enums.Role;
+import com.jobportal.event.UserChangedEvent;
+import com.jobportal.security.CustomUserDetails;
+import com.jobportal.security.PrincipalCache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserSessionWebSocketHandlerTest {
+
+    @Mock
+    private WebGraphQlHandler graphQlHandler;
+
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Mock
+    private WebSocketSession session;
+
+    private final Map<String, Object> attributes = new HashMap<>();
+
+    private UserSessionWebSocketHandler handler;
+
+    private User applicant;
+
+    @BeforeEach
+    void setUp() {
+        GraphQlAuthInterceptor interceptor = new GraphQlAuthInterceptor();
+        ReflectionTestUtils.setField(interceptor, "principalCache", principalCache);
+        handler = new UserSessionWebSocketHandler(graphQlHandler, new MappingJackson2HttpMessageConverter(),
+                Duration.ofSeconds(60), interceptor, principalCache);
+
+        applicant = user(7L, Role.APPLICANT, true);
+        attributes.put(GraphQlAuthInterceptor.SESSION_USER, new CustomUserDetails(applicant));
+        lenient().when(session.getId()).thenReturn("s1");
+        lenient().when(session.getAttributes()).thenReturn(attributes);
+        @SuppressWarnings("unchecked")
+        Map<String, WebSocketSession> sessions = (Map<String, WebSocketSession>) ReflectionTestUtils.getField(handler, "sessions");
+        sessions.put("s1", session);
+    }
+
+    @Test
+    void closesSessionOfDeactivatedUser() throws Exception {
+        when(principalCache.getUser(7L)).thenReturn(user(7L, Role.APPLICANT, false));
+
+        handler.onUserChanged(new UserChangedEvent(7L));
+
+        verify(principalCache).invalidate(7L);
+        verify(session).close(UserSessionWebSocketHandler.FORBIDDEN);
+        assertThat(attributes).doesNotContainKey(GraphQlAuthInterceptor.SESSION_USER);
+    }
+
+    @Test
+    void closesSessionOfUserWithNewRole() throws Exception {
+        when(principalCache.getUser(7L)).thenReturn(user(7L, Role.ADMIN, true));
+
+        handler.onUserChanged(new UserChangedEvent(7L));
+
+        verify(session).close(UserSessionWebSocketHandler.FORBIDDEN);
+    }
+
+    @Test
+    void refreshesSessionOfStillValidUser() throws Exception {
+        User renamed = user(7L, Role.APPLICANT, true);
+        renamed.setName("Renamed");
+        when(principalCache.getUser(7L)).thenReturn(renamed);
+
+        handler.onUserChanged(new UserChangedEvent(7L));
+
+        verify(session, never()).close(any());
+        assertThat(((CustomUserDetails) attributes.get(GraphQlAuthInterceptor.SESSION_USER)).getUser().getName())
+                .isEqualTo("Renamed");
+    }
+
+    @Test
+    void ignoresSessionsOfOtherUsers() throws Exception {
+        handler.onUserChanged(new UserChangedEvent(8L));
+
+        verify(session, never()).close(any());
+        assertThat(attributes).containsKey(GraphQlAuthInterceptor.SESSION_USER);
+    }
+
+    private User user(Long id, Role role, boolean active) {
+        User user = new User("Applicant", "applicant@example.com", "secret", role);
+        user.setId(id);
+        user.setActive(active);
+        return user;
+    }
+}
@@ -0,0 +1,124 @@
+package com.jobportal.logging;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MeteredAsyncAppenderTest {
+
+    private static final int QUEUE_SIZE = 10;
+
+    private final LoggerContext context = new LoggerContext();
+    private final Logger logger = context.getLogger("test");
+    private final StalledAppender downstream = new StalledAppender();
+    private final MeteredAsyncAppender appender = new MeteredAsyncAppender();
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        downstream.setContext(context);
+        downstream.start();
+        appender.setContext(context);
+        appender.setQueueSize(QUEUE_SIZE);
+        appender.setDiscardLevel("INFO");
+        appender.setNeverBlock(true);
+        appender.addAppender(downstream);
+        appender.start();
+
+        // The worker takes this one and stalls on it, so everything after stays queued
+        appender.doAppend(event(Level.WARN));
+        assertThat(downstream.stalled.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @AfterEach
+    void tearDown() {
+        downstream.release.countDown();
+        appender.stop();
+        context.stop();
+    }
+
+    @Test
+    void queuesEverythingBelowTheDiscardingThreshold() {
+        for (int i = 0; i < 9; i++) {
+            appender.doAppend(event(Level.DEBUG));
+        }
+
+        assertThat(appender.getStatistics())
+                .containsEntry("queueDepth", 9)
+                .containsEntry("discarded", 0L)
+                .containsEntry("droppedQueueFull", 0L);
+    }
+
+    @Test
+    void discardsAtOrBelowDiscardLevelOnceNearlyFull() {
+        // Default discardingThreshold is a fifth of the queue: discarding starts with 2 slots left
+        for (int i = 0; i < 9; i++) {
+            appender.doAppend(event(Level.INFO));
+        }
+        appender.doAppend(event(Level.INFO));
+        appender.doAppend(event(Level.DEBUG));
+        appender.doAppend(event(Level.WARN));
+
+        assertThat(appender.getStatistics())
+                .containsEntry("queueDepth", 10)
+                .containsEntry("discarded", 2L)
+                .containsEntry("droppedQueueFull", 0L);
+    }
+
+    @Test
+    void dropsWhenFullWithoutBlocking() {
+        for (int i = 0; i < QUEUE_SIZE; i++) {
+            appender.doAppend(event(Level.ERROR));
+        }
+        long start = System.nanoTime();
+        appender.doAppend(event(Level.ERROR));
+        appender.doAppend(event(Level.WARN));
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1000);
+        assertThat(appender.getStatistics())
+                .containsEntry("queueDepth", QUEUE_SIZE)
+                .containsEntry("offered", 1L + QUEUE_SIZE)
+                .containsEntry("droppedQueueFull", 2L);
+
+        downstream.release.countDown();
+        appender.stop();
+        assertThat(downstream.received).hasSize(1 + QUEUE_SIZE);
+    }
+
+    private ILoggingEvent event(Level level) {
+        return new LoggingEvent(Logger.class.getName(), logger, level, "message", null, null);
+    }
+
+    // Blocks on the first event until released, holding the async worker
+    private static class StalledAppender extends AppenderBase<ILoggingEvent> {
+        private final CountDownLatch stalled = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final List<ILoggingEvent> received = new CopyOnWriteArrayList<>();
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            received.add(event);
+            stalled.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
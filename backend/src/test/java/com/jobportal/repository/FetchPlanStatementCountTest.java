@@ -0,0 +1,143 @@
+package com.jobportal.repository;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.jobportal.audit.AuditorAwareImpl;
+import com.jobportal.config.IdGenerationConfiguration;
+import com.jobportal.dto.response.ApplicationResponse;
+import com.jobportal.dto.response.JobResponse;
+import com.jobportal.entity.Application;
+import com.jobportal.entity.Job;
+import com.jobportal.entity.User;
+import com.jobportal.enums.Role;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the statements behind the listing, detail and application-list reads once their result
+ * is rendered into the response records, with the second-level cache empty. The fetch plans keep
+ * each at a fixed number of selects however many rows they return.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({IdGenerationConfiguration.class, AuditorAwareImpl.class})
+class FetchPlanStatementCountTest {
+
+    private static final int COMPANIES = 3;
+    private static final int JOBS_PER_COMPANY = 5;
+    private static final int APPLICANTS = 8;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    private Statistics statistics;
+
+    private Job firstJob;
+
+    private User firstApplicant;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        List<User> applicants = new ArrayList<>();
+        for (int i = 0; i < APPLICANTS; i++) {
+            User applicant = new User("Applicant " + i, "applicant" + i + "@example.com", "secret", Role.APPLICANT);
+            entityManager.persist(applicant);
+            applicants.add(applicant);
+        }
+        for (int c = 0; c < COMPANIES; c++) {
+            User company = new User("Company " + c, "company" + c + "@example.com", "secret", Role.COMPANY);
+            entityManager.persist(company);
+            for (int j = 0; j < JOBS_PER_COMPANY; j++) {
+                Job job = new Job();
+                job.setTitle("Engineer " + c + "-" + j);
+                job.setDescription("Builds things");
+                job.setLocation("Remote");
+                job.setCompany(company);
+                job.setRequirements(List.of("Java", "SQL"));
+                job.setResponsibilities(List.of("Code", "Review"));
+                entityManager.persist(job);
+                if (firstJob == null) {
+                    firstJob = job;
+                }
+            }
+        }
+        for (User applicant : applicants) {
+            Application application = new Application();
+            application.setJob(firstJob);
+            application.setApplicant(applicant);
+            application.setResumeUrl("https://example.com/" + applicant.getEmail());
+            entityManager.persist(application);
+        }
+        firstApplicant = applicants.get(0);
+        entityManager.flush();
+    }
+
+    @Test
+    void listingRendersWithAtMostThreeSelects() {
+        long statements = statementsFor(() -> JobResponse.from(
+                jobRepository.searchJobs(null, null, null, null, null, null, null, Sort.by(Sort.Direction.DESC, "postedAt"))));
+
+        // Jobs with their company, then one batch each for requirements and responsibilities
+        assertThat(statements).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void detailRendersWithAtMostTwoSelects() {
+        long statements = statementsFor(() -> List.of(
+                JobResponse.from(jobRepository.findDetailById(firstJob.getId()).orElseThrow())));
+
+        // Job with company and requirements, then the responsibilities
+        assertThat(statements).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void applicationListsRenderWithOneSelect() {
+        long byJob = statementsFor(() -> ApplicationResponse.from(applicationRepository.findByJobId(firstJob.getId())));
+        long byApplicant = statementsFor(() -> ApplicationResponse.from(
+                applicationRepository.findByApplicantOrderByAppliedAtDesc(firstApplicant)));
+
+        assertThat(byJob).isEqualTo(1);
+        assertThat(byApplicant).isEqualTo(1);
+    }
+
+    // Statements run by the read and by rendering its result, starting from an empty persistence
+    // context and second-level cache
+    private long statementsFor(Supplier<List<?>> read) {
+        entityManager.clear();
+        entityManagerFactory.getCache().evictAll();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+        statistics.clear();
+        List<?> rendered = read.get();
+        assertThat(rendered).isNotEmpty();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,90 @@
+package com.jobportal.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.jobportal.entity.Job;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobSearchIndexTest {
+
+    private JobSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new JobSearchIndex();
+        ReflectionTestUtils.setField(index, "maxHits", 3);
+    }
+
+    @Test
+    void ranksTitleMatchesAboveDescriptionMatches() {
+        index.index(job(1L, "Office manager", "Knows java basics", "Pune"));
+        index.index(job(2L, "Java developer", "Backend services", "Pune"));
+
+        assertThat(index.search(null, "java", JobSearchIndex.Filter.NONE, false)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void titleRequiresEveryTermAndExpandsTheLastOne() {
+        index.index(job(1L, "Senior Java Developer", "", "Pune"));
+        index.index(job(2L, "Java Architect", "", "Pune"));
+
+        assertThat(index.search("java dev", null, JobSearchIndex.Filter.NONE, false)).containsExactly(1L);
+    }
+
+    @Test
+    void filtersBeforeCuttingToMaxHits() {
+        for (long id = 1; id <= 10; id++) {
+            index.index(job(id, "Java developer", "", id <= 8 ? "Pune" : "Remote"));
+        }
+
+        JobSearchIndex.Filter remote = new JobSearchIndex.Filter("remote", null, null, null, null, null);
+        assertThat(index.search("java", null, remote, false)).containsExactlyInAnyOrder(9L, 10L);
+        assertThat(index.search("java", null, JobSearchIndex.Filter.NONE, false)).hasSize(3);
+        assertThat(index.search("java", null, JobSearchIndex.Filter.NONE, true)).hasSize(10);
+    }
+
+    @Test
+    void salaryBoundsCompareWithinOneCurrency() {
+        index.index(salaried(job(1L, "Java developer", "", "Pune"), "$100k - $120k"));
+        index.index(salaried(job(2L, "Java developer", "", "Pune"), "90000-110000 EUR"));
+        index.index(salaried(job(3L, "Java developer", "", "Pune"), "100000-120000"));
+
+        JobSearchIndex.Filter dollars = new JobSearchIndex.Filter(null, null, 95_000L, null, "USD", "USD");
+        JobSearchIndex.Filter euros = new JobSearchIndex.Filter(null, null, 95_000L, null, "EUR", "USD");
+        assertThat(index.search("java", null, dollars, false)).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(index.search("java", null, euros, false)).containsExactly(2L);
+    }
+
+    @Test
+    void inactiveJobsAreNotIndexed() {
+        Job job = job(1L, "Java developer", "", "Pune");
+        index.index(job);
+        job.setActive(false);
+        index.index(job);
+        index.index(job(2L, "Java tester", "", "Pune"));
+
+        assertThat(index.search("java", null, JobSearchIndex.Filter.NONE, false)).containsExactly(2L);
+    }
+
+    private static Job salaried(Job job, String salaryRange) {
+        job.setSalaryRange(salaryRange);
+        // Normally run by the @PrePersist/@PreUpdate callback
+        ReflectionTestUtils.invokeMethod(job, "deriveSalary");
+        return job;
+    }
+
+    private static Job job(Long id, String title, String description, String location) {
+        Job job = new Job();
+        job.setId(id);
+        job.setTitle(title);
+        job.setDescription(description);
+        job.setLocation(location);
+        job.setRequirements(List.of());
+        return job;
+    }
+}
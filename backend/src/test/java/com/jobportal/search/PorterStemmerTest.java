@@ -0,0 +1,39 @@
+package com.jobportal.search;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PorterStemmerTest {
+
+    private final PorterStemmer stemmer = new PorterStemmer();
+
+    // Examples from Porter's paper, one or more per step
+    @ParameterizedTest
+    @CsvSource({
+        "caresses, caress", "ponies, poni", "ties, ti", "caress, caress", "cats, cat",
+        "feed, feed", "agreed, agre", "plastered, plaster", "bled, bled", "motoring, motor", "sing, sing",
+        "conflated, conflat", "troubled, troubl", "sized, size", "hopping, hop", "tanned, tan",
+        "falling, fall", "hissing, hiss", "fizzed, fizz", "failing, fail", "filing, file",
+        "happy, happi", "sky, sky",
+        "relational, relat", "conditional, condit", "rational, ration", "digitizer, digit",
+        "operator, oper", "hopeful, hope", "goodness, good", "allowance, allow", "adjustable, adjust",
+        "probate, probat", "rate, rate", "cease, ceas", "controll, control", "roll, roll"
+    })
+    void stemsLikePorter(String word, String stem) {
+        assertThat(stemmer.stem(word)).isEqualTo(stem);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"go, go", "is, is", "a, a"})
+    void leavesShortWordsAlone(String word, String stem) {
+        assertThat(stemmer.stem(word)).isEqualTo(stem);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"developers, develop", "developing, develop", "engineering, engin", "engineers, engin"})
+    void conflatesJobVocabulary(String word, String stem) {
+        assertThat(stemmer.stem(word)).isEqualTo(stem);
+    }
+}
@@ -0,0 +1,52 @@
+package com.jobportal.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SalaryRangeTest {
+
+    @Test
+    void parsesPlainRanges() {
+        assertThat(SalaryRange.parse("100000-120000")).isEqualTo(new SalaryRange(100_000L, 120_000L, null));
+        assertThat(SalaryRange.parse("120,000 - 100,000")).isEqualTo(new SalaryRange(100_000L, 120_000L, null));
+    }
+
+    @Test
+    void appliesSuffixes() {
+        assertThat(SalaryRange.parse("$90k - $110k")).isEqualTo(new SalaryRange(90_000L, 110_000L, "USD"));
+        assertThat(SalaryRange.parse("100-120k")).isEqualTo(new SalaryRange(100_000L, 120_000L, null));
+        assertThat(SalaryRange.parse("1.5M")).isEqualTo(new SalaryRange(1_500_000L, 1_500_000L, null));
+        assertThat(SalaryRange.parse("12-18 LPA")).isEqualTo(new SalaryRange(1_200_000L, 1_800_000L, "INR"));
+    }
+
+    @Test
+    void readsCurrencyFromSymbolOrIsoCode() {
+        assertThat(SalaryRange.parse("€50,000").currency()).isEqualTo("EUR");
+        assertThat(SalaryRange.parse("£40k-50k").currency()).isEqualTo("GBP");
+        assertThat(SalaryRange.parse("80,000 EUR").currency()).isEqualTo("EUR");
+        // Upper-case words that are not ISO 4217 codes are skipped
+        assertThat(SalaryRange.parse("80,000 PER year CHF").currency()).isEqualTo("CHF");
+    }
+
+    @Test
+    void openUpperBound() {
+        assertThat(SalaryRange.parse("120000+")).isEqualTo(new SalaryRange(120_000L, null, null));
+    }
+
+    @Test
+    void noAmount() {
+        assertThat(SalaryRange.parse(null)).isNull();
+        assertThat(SalaryRange.parse("  ")).isNull();
+        assertThat(SalaryRange.parse("Competitive")).isNull();
+    }
+
+    @Test
+    void currencyCodes() {
+        assertThat(SalaryRange.currencyCode(" usd ")).isEqualTo("USD");
+        assertThatThrownBy(() -> SalaryRange.currencyCode("dollars")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SalaryRange.currencyCode("XYZ")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SalaryRange.currencyCode(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,38 @@
+package com.jobportal.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TextAnalyzerTest {
+
+    private final TextAnalyzer analyzer = new TextAnalyzer();
+
+    @Test
+    void lowerCasesSplitsAndStems() {
+        assertThat(analyzer.analyze("Senior Java Developers, Microservices/Cloud"))
+                .containsExactly("senior", "java", "develop", "microservic", "cloud");
+    }
+
+    @Test
+    void dropsStopWords() {
+        assertThat(analyzer.analyze("The role of an engineer in our team")).containsExactly("role", "engin", "team");
+    }
+
+    @Test
+    void keepsPlusAndHashInsideTokens() {
+        assertThat(analyzer.analyze("C++ and C# (not +C)")).containsExactly("c++", "c#", "not", "c");
+    }
+
+    @Test
+    void leavesTokensWithDigitsUnstemmed() {
+        assertThat(analyzer.analyze("Python3 scripting, 5 years")).containsExactly("python3", "script", "5", "year");
+    }
+
+    @Test
+    void emptyInputHasNoTerms() {
+        assertThat(analyzer.analyze(null)).isEmpty();
+        assertThat(analyzer.analyze("")).isEmpty();
+        assertThat(analyzer.analyze(" ,.; ")).isEmpty();
+    }
+}
@@ -0,0 +1,80 @@
+package com.jobportal.security.jwt;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.jobportal.enums.Role;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request token verification before and after JwtUtils cached its key and parser.
+ * perRequestBefore repeats what JwtAuthenticationFilter used to do: validateToken,
+ * getEmailFromToken and getRoleFromToken, each deriving the key and building a parser.
+ * perRequestAfter is the single parseToken call the filter makes now.
+ *
+ * Run with: mvn test-compile, then
+ * java -cp target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *     com.jobportal.security.jwt.JwtParsingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtParsingBenchmark {
+
+    private static final String SECRET = "benchmark_secret_key_that_is_long_enough_for_hs256_signing";
+
+    private JwtUtils jwtUtils;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", TimeUnit.HOURS.toMillis(1));
+        jwtUtils.init();
+        token = jwtUtils.generateToken("applicant@example.com", 42L, Role.APPLICANT);
+    }
+
+    @Benchmark
+    public void perRequestBefore(Blackhole blackhole) {
+        blackhole.consume(uncachedParser().parseClaimsJws(token));
+        blackhole.consume(uncachedParser().parseClaimsJws(token).getBody().getSubject());
+        blackhole.consume(uncachedParser().parseClaimsJws(token).getBody().get("role", String.class));
+    }
+
+    @Benchmark
+    public JwtClaims perRequestAfter() {
+        return jwtUtils.parseToken(token);
+    }
+
+    private static JwtParser uncachedParser() {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JwtParsingBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,148 @@
+package com.jobportal.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.jobportal.entity.Application;
+import com.jobportal.entity.Job;
+import com.jobportal.entity.User;
+import com.jobportal.enums.ApplicationStatus;
+import com.jobportal.enums.Role;
+import com.jobportal.event.ApplicationChangedEvent;
+import com.jobportal.repository.ApplicationRepository;
+import com.jobportal.repository.JobRepository;
+import com.jobportal.repository.UserRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AdminServiceDeletionEventsTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private AdminService adminService;
+
+    private User company;
+    private User applicant;
+    private Job job;
+
+    @BeforeEach
+    void setUp() {
+        company = user(1L, Role.COMPANY);
+        applicant = user(2L, Role.APPLICANT);
+        job = new Job();
+        job.setId(10L);
+        job.setTitle("Engineer");
+        job.setCompany(company);
+    }
+
+    @Test
+    void deleteApplicationPublishesDeleted() {
+        Application application = application(100L);
+        when(applicationRepository.findById(100L)).thenReturn(Optional.of(application));
+
+        adminService.deleteApplication(100L);
+
+        assertThat(deletedApplicationIds()).containsExactly(100L);
+    }
+
+    @Test
+    void deleteJobPublishesDeletedForEachApplication() {
+        when(jobRepository.findById(10L)).thenReturn(Optional.of(job));
+        when(applicationRepository.findByJobId(10L)).thenReturn(List.of(application(100L), application(101L)));
+
+        adminService.deleteJob(10L);
+
+        assertThat(deletedApplicationIds()).containsExactly(100L, 101L);
+    }
+
+    @Test
+    void deleteCompanyPublishesDeletedForApplicationsToItsJobs() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(company));
+        when(applicationRepository.findByJobCompanyId(1L)).thenReturn(List.of(application(100L)));
+        when(jobRepository.findByCompanyId(1L)).thenReturn(List.of(job));
+
+        adminService.deleteUser(1L);
+
+        assertThat(deletedApplicationIds()).containsExactly(100L);
+    }
+
+    @Test
+    void deleteApplicantPublishesDeletedForItsApplications() {
+        when(userRepository.findById(2L)).thenReturn(Optional.of(applicant));
+        when(applicationRepository.findByApplicantOrderByAppliedAtDesc(applicant))
+                .thenReturn(List.of(application(100L), application(102L)));
+
+        adminService.deleteUser(2L);
+
+        assertThat(deletedApplicationIds()).containsExactly(100L, 102L);
+    }
+
+    @Test
+    void deleteApplicantReleasesEachJobCounterOnce() {
+        Job other = new Job();
+        other.setId(11L);
+        other.setCompany(company);
+        Application elsewhere = application(103L);
+        elsewhere.setJob(other);
+        when(userRepository.findById(2L)).thenReturn(Optional.of(applicant));
+        when(applicationRepository.findByApplicantOrderByAppliedAtDesc(applicant))
+                .thenReturn(List.of(application(100L), elsewhere, application(102L)));
+
+        adminService.deleteUser(2L);
+
+        verify(jobRepository).adjustApplicationsCount(10L, -2L);
+        verify(jobRepository).adjustApplicationsCount(11L, -1L);
+        verifyNoMoreInteractions(jobRepository);
+    }
+
+    private List<Long> deletedApplicationIds() {
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, atLeastOnce()).publishEvent(events.capture());
+        return events.getAllValues().stream()
+                .filter(ApplicationChangedEvent.class::isInstance)
+                .map(ApplicationChangedEvent.class::cast)
+                .peek(event -> assertThat(event.getType()).isEqualTo(ApplicationChangedEvent.Type.DELETED))
+                .map(ApplicationChangedEvent::getApplicationId)
+                .toList();
+    }
+
+    private Application application(Long id) {
+        Application application = new Application();
+        application.setId(id);
+        application.setJob(job);
+        application.setApplicant(applicant);
+        application.setStatus(ApplicationStatus.PENDING);
+        return application;
+    }
+
+    private User user(Long id, Role role) {
+        User user = new User("User " + id, "user" + id + "@example.com", "secret", role);
+        user.setId(id);
+        return user;
+    }
+}
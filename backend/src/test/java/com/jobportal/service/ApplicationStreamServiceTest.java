@@ -0,0 +1,189 @@
+package com.jobportal.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.reactivestreams.Subscription;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.jobportal.entity.Application;
+import com.jobportal.entity.Job;
+import com.jobportal.entity.User;
+import com.jobportal.enums.ApplicationStatus;
+import com.jobportal.enums.Role;
+import com.jobportal.event.ApplicationChangeBus;
+import com.jobportal.event.ApplicationChangedEvent;
+import com.jobportal.repository.ApplicationRepository;
+import com.jobportal.repository.JobRepository;
+
+import reactor.core.publisher.BaseSubscriber;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationStreamServiceTest {
+
+    private static final Long COMPANY_ID = 10L;
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private JobRepository jobRepository;
+
+    private ApplicationChangeBus bus;
+
+    private ApplicationStreamService streamService;
+
+    @BeforeEach
+    void setUp() {
+        bus = new ApplicationChangeBus();
+        ReflectionTestUtils.setField(bus, "bufferSize", 4);
+        ReflectionTestUtils.setField(bus, "replaySize", 100);
+
+        streamService = new ApplicationStreamService();
+        ReflectionTestUtils.setField(streamService, "heartbeatSeconds", 60L);
+        ReflectionTestUtils.setField(streamService, "applicationChangeBus", bus);
+        ReflectionTestUtils.setField(streamService, "applicationRepository", applicationRepository);
+        ReflectionTestUtils.setField(streamService, "jobRepository", jobRepository);
+    }
+
+    @Test
+    void startsWithSnapshotThenSendsChanges() throws InterruptedException {
+        when(applicationRepository.findPipelineViews(COMPANY_ID, null)).thenReturn(List.of());
+        bus.onApplicationChanged(created(1L, COMPANY_ID));
+
+        Recorder recorder = new Recorder(Long.MAX_VALUE);
+        streamService.streamCompanyApplications(COMPANY_ID, null).subscribe(recorder);
+        bus.onApplicationChanged(created(2L, 99L));
+        bus.onApplicationChanged(created(3L, COMPANY_ID));
+
+        recorder.awaitEvents(2);
+        recorder.cancel();
+        // The snapshot already covers sequence 1; the other company's change is not sent
+        assertThat(recorder.names()).containsExactly(ApplicationStreamService.SNAPSHOT, "APPLICATION_CREATED");
+        assertThat(recorder.ids()).containsExactly(bus.getEpoch() + "-1", bus.getEpoch() + "-3");
+    }
+
+    @Test
+    void resumesAfterLastEventIdWithoutSnapshot() throws InterruptedException {
+        for (long id = 1; id <= 3; id++) {
+            bus.onApplicationChanged(created(id, COMPANY_ID));
+        }
+
+        Recorder recorder = new Recorder(Long.MAX_VALUE);
+        streamService.streamCompanyApplications(COMPANY_ID, bus.getEpoch() + "-1").subscribe(recorder);
+
+        recorder.awaitEvents(2);
+        recorder.cancel();
+        assertThat(recorder.ids()).containsExactly(bus.getEpoch() + "-2", bus.getEpoch() + "-3");
+        verify(applicationRepository, never()).findPipelineViews(any(), any());
+    }
+
+    @Test
+    void idFromAnotherRunStartsWithSnapshot() throws InterruptedException {
+        when(applicationRepository.findPipelineViews(COMPANY_ID, null)).thenReturn(List.of());
+
+        Recorder recorder = new Recorder(Long.MAX_VALUE);
+        streamService.streamCompanyApplications(COMPANY_ID, (bus.getEpoch() - 1) + "-1").subscribe(recorder);
+
+        recorder.awaitEvents(1);
+        recorder.cancel();
+        assertThat(recorder.names()).containsExactly(ApplicationStreamService.SNAPSHOT);
+    }
+
+    @Test
+    void clientThatFallsBehindHasItsStreamEnded() throws InterruptedException {
+        when(applicationRepository.findPipelineViews(COMPANY_ID, null)).thenReturn(List.of());
+
+        // Takes the snapshot, then stops reading while changes pile up past the subscriber buffer
+        Recorder recorder = new Recorder(1);
+        streamService.streamCompanyApplications(COMPANY_ID, null).subscribe(recorder);
+        recorder.awaitEvents(1);
+        for (long id = 1; id <= 20; id++) {
+            bus.onApplicationChanged(created(id, COMPANY_ID));
+        }
+        recorder.request(Long.MAX_VALUE);
+
+        assertThat(recorder.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(recorder.error).isNull();
+        assertThat(recorder.names()).hasSizeLessThan(21);
+    }
+
+    private static class Recorder extends BaseSubscriber<ServerSentEvent<Object>> {
+        private final long initialDemand;
+        private final List<ServerSentEvent<Object>> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private volatile Throwable error;
+
+        Recorder(long initialDemand) {
+            this.initialDemand = initialDemand;
+        }
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            request(initialDemand);
+        }
+
+        @Override
+        protected void hookOnNext(ServerSentEvent<Object> event) {
+            events.add(event);
+        }
+
+        @Override
+        protected void hookOnComplete() {
+            completed.countDown();
+        }
+
+        @Override
+        protected void hookOnError(Throwable throwable) {
+            error = throwable;
+            completed.countDown();
+        }
+
+        void awaitEvents(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (events.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(events).hasSizeGreaterThanOrEqualTo(count);
+        }
+
+        List<String> names() {
+            return events.stream().map(ServerSentEvent::event).toList();
+        }
+
+        List<String> ids() {
+            return events.stream().map(ServerSentEvent::id).toList();
+        }
+    }
+
+    private static ApplicationChangedEvent created(Long applicationId, Long companyId) {
+        User company = new User("Company " + companyId, "company" + companyId + "@example.com", "secret", Role.COMPANY);
+        company.setId(companyId);
+        Job job = new Job();
+        job.setId(100L + companyId);
+        job.setTitle("Engineer");
+        job.setCompany(company);
+        User applicant = new User("Applicant", "applicant@example.com", "secret", Role.APPLICANT);
+        applicant.setId(1000L + applicationId);
+        Application application = new Application();
+        application.setId(applicationId);
+        application.setJob(job);
+        application.setApplicant(applicant);
+        application.setStatus(ApplicationStatus.PENDING);
+        return ApplicationChangedEvent.created(application);
+    }
+}
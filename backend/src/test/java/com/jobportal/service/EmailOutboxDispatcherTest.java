@@ -0,0 +1,184 @@
+package com.jobportal.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jobportal.audit.AuditorAwareImpl;
+import com.jobportal.config.IdGenerationConfiguration;
+import com.jobportal.entity.EmailOutbox;
+import com.jobportal.enums.EmailOutboxStatus;
+import com.jobportal.repository.EmailOutboxRepository;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the dispatcher against the H2 outbox table and a fake SMTP sink. Tests are not wrapped in a
+ * transaction: claiming and recording commit on their own, and delivery runs on worker threads.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({IdGenerationConfiguration.class, AuditorAwareImpl.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmailOutboxDispatcherTest {
+
+    private static final long BACKOFF_INITIAL_MS = 60_000;
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private FakeMailSender mailSender;
+
+    @BeforeEach
+    void setUp() {
+        mailSender = new FakeMailSender();
+    }
+
+    @AfterEach
+    void tearDown() {
+        emailOutboxRepository.deleteAll();
+    }
+
+    @Test
+    void claimsSendsAndMarksSent() throws InterruptedException {
+        EmailOutbox email = emailOutboxRepository.save(new EmailOutbox("a@example.com", "Hello", "Body"));
+
+        dispatchOnce(6);
+
+        assertThat(mailSender.statusesWhileSending).containsExactly(EmailOutboxStatus.SENDING);
+        assertThat(mailSender.sent).extracting(message -> message.getTo()[0]).containsExactly("a@example.com");
+        EmailOutbox stored = emailOutboxRepository.findById(email.getId()).orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo(EmailOutboxStatus.SENT);
+        assertThat(stored.getAttempts()).isEqualTo(1);
+        assertThat(stored.getSentAt()).isNotNull();
+        assertThat(stored.getClaimedAt()).isNull();
+    }
+
+    @Test
+    void partialFailureRetriesOnlyTheFailedMessagesWithBackoff() throws InterruptedException {
+        EmailOutbox ok = emailOutboxRepository.save(new EmailOutbox("ok@example.com", "Hello", "Body"));
+        EmailOutbox bounced = emailOutboxRepository.save(new EmailOutbox("bounce@example.com", "Hello", "Body"));
+        mailSender.rejected.add("bounce@example.com");
+        LocalDateTime before = LocalDateTime.now();
+
+        dispatchOnce(6);
+
+        assertThat(emailOutboxRepository.findById(ok.getId()).orElseThrow().getStatus()).isEqualTo(EmailOutboxStatus.SENT);
+        EmailOutbox retry = emailOutboxRepository.findById(bounced.getId()).orElseThrow();
+        assertThat(retry.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(retry.getAttempts()).isEqualTo(1);
+        assertThat(retry.getLastError()).contains("Mailbox unavailable");
+        assertThat(retry.getNextAttemptAt()).isAfterOrEqualTo(before.plusNanos(BACKOFF_INITIAL_MS * 1_000_000));
+
+        // Not due yet: a second poll sends nothing
+        mailSender.sent.clear();
+        dispatchOnce(6);
+        assertThat(mailSender.sent).isEmpty();
+    }
+
+    @Test
+    void givesUpAfterMaxAttempts() throws InterruptedException {
+        EmailOutbox email = new EmailOutbox("bounce@example.com", "Hello", "Body");
+        email.setAttempts(1);
+        email = emailOutboxRepository.save(email);
+        mailSender.rejected.add("bounce@example.com");
+
+        dispatchOnce(2);
+
+        EmailOutbox stored = emailOutboxRepository.findById(email.getId()).orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo(EmailOutboxStatus.FAILED);
+        assertThat(stored.getAttempts()).isEqualTo(2);
+        assertThat(stored.getLastError()).contains("Mailbox unavailable");
+    }
+
+    @Test
+    void releasesStaleClaimsOnly() throws InterruptedException {
+        EmailOutbox stale = claimed("stale@example.com", LocalDateTime.now().minusMinutes(10));
+        EmailOutbox fresh = claimed("fresh@example.com", LocalDateTime.now());
+
+        dispatchOnce(6);
+
+        assertThat(mailSender.sent).extracting(message -> message.getTo()[0]).containsExactly("stale@example.com");
+        assertThat(emailOutboxRepository.findById(stale.getId()).orElseThrow().getStatus())
+                .isEqualTo(EmailOutboxStatus.SENT);
+        assertThat(emailOutboxRepository.findById(fresh.getId()).orElseThrow().getStatus())
+                .isEqualTo(EmailOutboxStatus.SENDING);
+    }
+
+    private EmailOutbox claimed(String recipient, LocalDateTime claimedAt) {
+        EmailOutbox email = new EmailOutbox(recipient, "Hello", "Body");
+        email.setStatus(EmailOutboxStatus.SENDING);
+        email.setClaimedAt(claimedAt);
+        return emailOutboxRepository.save(email);
+    }
+
+    // One poll on a fresh dispatcher, waiting for its workers to finish
+    private void dispatchOnce(int maxAttempts) throws InterruptedException {
+        EmailOutboxDispatcher dispatcher = new EmailOutboxDispatcher();
+        ReflectionTestUtils.setField(dispatcher, "workers", 2);
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 20);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", maxAttempts);
+        ReflectionTestUtils.setField(dispatcher, "backoffInitialMs", BACKOFF_INITIAL_MS);
+        ReflectionTestUtils.setField(dispatcher, "backoffMaxMs", 3_600_000L);
+        ReflectionTestUtils.setField(dispatcher, "claimTimeoutMs", 60_000L);
+        ReflectionTestUtils.setField(dispatcher, "fromEmailAddress", "noreply@example.com");
+        ReflectionTestUtils.setField(dispatcher, "emailOutboxRepository", emailOutboxRepository);
+        ReflectionTestUtils.setField(dispatcher, "emailSender", mailSender);
+        ReflectionTestUtils.setField(dispatcher, "transactionManager", transactionManager);
+        dispatcher.init();
+        dispatcher.dispatch();
+        dispatcher.shutdown();
+    }
+
+    // SMTP sink: records what it is given and rejects listed recipients the way JavaMailSenderImpl
+    // reports a partly failed batch, keyed by the original messages
+    private class FakeMailSender extends JavaMailSenderImpl {
+        private final Set<String> rejected = new HashSet<>();
+        private final List<SimpleMailMessage> sent = new CopyOnWriteArrayList<>();
+        private final List<EmailOutboxStatus> statusesWhileSending = new CopyOnWriteArrayList<>();
+
+        @Override
+        protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) {
+            emailOutboxRepository.findAll().forEach(row -> statusesWhileSending.add(row.getStatus()));
+            Map<Object, Exception> failures = new LinkedHashMap<>();
+            for (Object original : originalMessages) {
+                SimpleMailMessage message = (SimpleMailMessage) original;
+                if (rejected.contains(message.getTo()[0])) {
+                    failures.put(message, new MessagingException("550 Mailbox unavailable"));
+                } else {
+                    sent.add(message);
+                }
+            }
+            if (!failures.isEmpty()) {
+                throw new MailSendException(failures);
+            }
+        }
+    }
+}
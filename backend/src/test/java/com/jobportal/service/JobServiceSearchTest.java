@@ -0,0 +1,159 @@
+package com.jobportal.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.jobportal.dto.JobCursor;
+import com.jobportal.entity.Job;
+import com.jobportal.enums.JobSortField;
+import com.jobportal.repository.JobRepository;
+import com.jobportal.search.JobSearchIndex;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JobServiceSearchTest {
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private JobSearchIndex jobSearchIndex;
+
+    @InjectMocks
+    private JobService jobService;
+
+    @Test
+    void defaultListingPagesByKeyset() {
+        when(jobRepository.searchJobsPage(isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
+                isNull(), any()))
+                .thenReturn(List.of());
+
+        jobService.searchJobsPage(null, null, null, null, null, null, null, null, 20, null, null);
+        jobService.searchJobsPage(null, null, null, null, null, null, null, null, 20,
+                JobSortField.POSTED_AT, Sort.Direction.DESC);
+
+        verify(jobRepository, never()).searchJobsSlice(any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void ascendingWithoutSortPagesOldestFirstByOffset() {
+        Pageable[] requested = new Pageable[1];
+        when(jobRepository.searchJobsSlice(isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), any()))
+                .thenAnswer(invocation -> {
+                    requested[0] = invocation.getArgument(7);
+                    return new SliceImpl<>(List.of(), requested[0], false);
+                });
+
+        jobService.searchJobsPage(null, null, null, null, null, null, null, null, 20, null, Sort.Direction.ASC);
+
+        verify(jobRepository, never()).searchJobsPage(any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+        assertThat(requested[0].getSort()).isEqualTo(JobSortField.POSTED_AT.toSort(Sort.Direction.ASC));
+    }
+
+    @Test
+    void keysetCursorIsRejectedForOldestFirst() {
+        Job job = new Job();
+        job.setId(7L);
+        String keysetCursor = JobCursor.after(job).encode();
+
+        assertThatThrownBy(() -> jobService.searchJobsPage(null, null, null, null, null, null, null, keysetCursor, 20,
+                null, Sort.Direction.ASC))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void salaryBoundsUseTheRequestedOrDefaultCurrency() {
+        ReflectionTestUtils.setField(jobService, "defaultCurrency", "USD");
+
+        jobService.searchJobs(null, null, null, 50_000L, null, null, null, null, null);
+        jobService.searchJobs(null, null, null, 50_000L, 90_000L, "eur", null, null, null);
+        jobService.searchJobs(null, null, null, null, null, null, null, null, null);
+
+        verify(jobRepository).searchJobs(isNull(), isNull(), isNull(), eq(50_000L), isNull(), eq("USD"), eq("USD"), any());
+        verify(jobRepository).searchJobs(isNull(), isNull(), isNull(), eq(50_000L), eq(90_000L), eq("EUR"), eq("USD"), any());
+        verify(jobRepository).searchJobs(isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), eq("USD"), any());
+    }
+
+    @Test
+    void salarySortStaysWithinOneCurrency() {
+        ReflectionTestUtils.setField(jobService, "defaultCurrency", "USD");
+        when(jobRepository.searchJobsSlice(isNull(), isNull(), isNull(), isNull(), isNull(), eq("GBP"), eq("USD"), any()))
+                .thenAnswer(invocation -> new SliceImpl<>(List.of(), invocation.getArgument(7), false));
+
+        jobService.searchJobs(null, null, null, null, null, null, null, JobSortField.SALARY, null);
+        jobService.searchJobsPage(null, null, null, null, null, "gbp", null, null, 20, JobSortField.SALARY, null);
+
+        verify(jobRepository).searchJobs(isNull(), isNull(), isNull(), isNull(), isNull(), eq("USD"), eq("USD"),
+                eq(JobSortField.SALARY.toSort(null)));
+    }
+
+    @Test
+    void invalidSalaryFiltersAreRejected() {
+        assertThatThrownBy(() -> jobService.searchJobs(null, null, null, 90_000L, 50_000L, null, null, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> jobService.searchJobsPage(null, null, null, 50_000L, null, "dollars", null, null, 20,
+                null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void keywordsMatchNothingUntilTheIndexIsReady() {
+        when(jobSearchIndex.hasTerms("Engineer")).thenReturn(true);
+
+        assertThat(jobService.searchJobs(null, null, null, "java")).isEmpty();
+        assertThat(jobService.searchJobs(null, "Engineer", null, "java")).isEmpty();
+        assertThat(jobService.searchJobsPage(null, null, null, "java", null, 20).getJobs()).isEmpty();
+
+        verify(jobRepository, never()).searchJobs(any(), any(), any(), any(), any(), any(), any(), any());
+        verify(jobRepository, never()).searchJobsPage(any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+        verify(jobSearchIndex, never()).search(any(), any(), any(), anyBoolean());
+    }
+
+    @Test
+    void titleSearchFallsBackToTheDatabaseUntilTheIndexIsReady() {
+        when(jobSearchIndex.hasTerms("Engineer")).thenReturn(true);
+
+        jobService.searchJobs(null, "Engineer", null, null);
+
+        verify(jobRepository).searchJobs(eq("Engineer"), isNull(), isNull(), isNull(), isNull(), isNull(), any(), any());
+    }
+
+    @Test
+    void stopWordTitleIsMatchedByTheDatabase() {
+        jobService.searchJobs(null, "IT", null, null);
+
+        verify(jobRepository).searchJobs(eq("IT"), isNull(), isNull(), isNull(), isNull(), isNull(), any(), any());
+        verify(jobSearchIndex, never()).search(any(), any(), any(), anyBoolean());
+    }
+
+    @Test
+    void stopWordTitleWithKeywordsFiltersTheKeywordHits() {
+        when(jobSearchIndex.isReady()).thenReturn(true);
+        when(jobSearchIndex.search(isNull(), eq("java"), any(), eq(false))).thenReturn(List.of(3L, 1L));
+        when(jobRepository.findActiveIdsIn(eq(List.of(3L, 1L)), eq("IT"), isNull(), isNull(), isNull(), isNull(),
+                isNull(), any()))
+                .thenReturn(List.of(1L));
+
+        jobService.searchJobs(null, "IT", null, "java");
+
+        verify(jobRepository).findAllById(List.of(1L));
+    }
+}
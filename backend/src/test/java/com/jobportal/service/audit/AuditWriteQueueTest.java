@@ -0,0 +1,193 @@
+package com.jobportal.service.audit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.jobportal.entity.audit.AuditLog;
+import com.jobportal.entity.audit.AuditOperation;
+import com.jobportal.repository.audit.AuditLogRepository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AuditWriteQueueTest {
+
+    @TempDir
+    Path spillDir;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private AuditLogRepository repository;
+    private AuditWriteQueue writeQueue;
+    // Entity ids of every saveAll call that went through, in order
+    private final List<String> saved = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(AuditLogRepository.class);
+        writeQueue = new AuditWriteQueue();
+        ReflectionTestUtils.setField(writeQueue, "auditLogRepository", repository);
+        ReflectionTestUtils.setField(writeQueue, "auditStatistics", mock(AuditStatistics.class));
+        ReflectionTestUtils.setField(writeQueue, "transactionManager", mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(writeQueue, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(writeQueue, "spillDir", spillDir.toString());
+        ReflectionTestUtils.setField(writeQueue, "flushSize", 2);
+        ReflectionTestUtils.setField(writeQueue, "blockTimeoutMs", 1L);
+        ReflectionTestUtils.setField(writeQueue, "overflowPolicy", AuditOverflowPolicy.DROP_READ_FIRST);
+    }
+
+    @Test
+    void dropReadFirstDropsIncomingReadsAndEvictsQueuedReadsForWrites() {
+        BlockingQueue<AuditLog> queue = runWithQueue(AuditOverflowPolicy.DROP_READ_FIRST, 2);
+        writeQueue.enqueue(entry("r1", AuditOperation.READ));
+        writeQueue.enqueue(entry("w1", AuditOperation.CREATE));
+
+        writeQueue.enqueue(entry("r2", AuditOperation.READ));
+        writeQueue.enqueue(entry("w2", AuditOperation.UPDATE));
+        writeQueue.enqueue(entry("w3", AuditOperation.DELETE));
+
+        assertThat(queue).extracting(AuditLog::getEntityId).containsExactly("w1", "w2");
+        assertThat(writeQueue.getStatistics())
+                .containsEntry("droppedReads", 2L)
+                .containsEntry("droppedWrites", 1L);
+    }
+
+    @Test
+    void blockDropsAfterTheTimeout() {
+        BlockingQueue<AuditLog> queue = runWithQueue(AuditOverflowPolicy.BLOCK, 1);
+        writeQueue.enqueue(entry("w1", AuditOperation.CREATE));
+        writeQueue.enqueue(entry("w2", AuditOperation.CREATE));
+
+        assertThat(queue).extracting(AuditLog::getEntityId).containsExactly("w1");
+        assertThat(writeQueue.getStatistics()).containsEntry("droppedWrites", 1L);
+    }
+
+    @Test
+    void spillToDiskAppendsOverflowAndReplaysIt() throws IOException {
+        runWithQueue(AuditOverflowPolicy.SPILL_TO_DISK, 1);
+        recordSaves();
+        writeQueue.enqueue(entry("w1", AuditOperation.CREATE));
+        writeQueue.enqueue(entry("w2", AuditOperation.CREATE));
+        writeQueue.enqueue(entry("w3", AuditOperation.CREATE));
+
+        assertThat(Files.readAllLines(spillDir.resolve("audit-spill.jsonl"))).hasSize(2);
+
+        ReflectionTestUtils.invokeMethod(writeQueue, "replaySpill");
+
+        assertThat(saved).containsExactly("w2", "w3");
+        assertThat(spillDir.resolve("audit-spill.jsonl")).doesNotExist();
+        assertThat(spillDir.resolve("audit-spill.replay.jsonl")).doesNotExist();
+    }
+
+    @Test
+    void failedReplayKeepsOnlyTheUnpersistedRemainder() throws IOException {
+        writeSpill("e1", "e2", "e3", "e4", "e5");
+        // First batch goes through, the second fails
+        when(repository.saveAll(anyList()))
+                .thenAnswer(invocation -> save(invocation.getArgument(0)))
+                .thenThrow(new IllegalStateException("database down"))
+                .thenAnswer(invocation -> save(invocation.getArgument(0)));
+
+        ReflectionTestUtils.invokeMethod(writeQueue, "replaySpill");
+
+        assertThat(saved).containsExactly("e1", "e2");
+        assertThat(Files.readAllLines(spillDir.resolve("audit-spill.replay.jsonl")))
+                .hasSize(3)
+                .allSatisfy(line -> assertThat(objectMapper.readValue(line, AuditLog.class).getEntityId())
+                        .isIn("e3", "e4", "e5"));
+
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> save(invocation.getArgument(0)));
+        ReflectionTestUtils.invokeMethod(writeQueue, "replaySpill");
+
+        assertThat(saved).containsExactly("e1", "e2", "e3", "e4", "e5");
+        assertThat(spillDir.resolve("audit-spill.replay.jsonl")).doesNotExist();
+    }
+
+    @Test
+    void failedFlushSpillsEntriesWithoutTheirAssignedIds() throws IOException {
+        ReflectionTestUtils.setField(writeQueue, "overflowPolicy", AuditOverflowPolicy.SPILL_TO_DISK);
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<AuditLog> entries = invocation.getArgument(0);
+            long id = 100;
+            for (AuditLog entry : entries) {
+                entry.setId(id++);
+            }
+            throw new IllegalStateException("insert failed");
+        });
+
+        List<AuditLog> batch = new ArrayList<>(List.of(entry("w1", AuditOperation.CREATE), entry("w2", AuditOperation.UPDATE)));
+        ReflectionTestUtils.invokeMethod(writeQueue, "flush", batch);
+
+        List<String> lines = Files.readAllLines(spillDir.resolve("audit-spill.jsonl"));
+        assertThat(lines).hasSize(2);
+        for (String line : lines) {
+            assertThat(objectMapper.readValue(line, AuditLog.class).getId()).isNull();
+        }
+    }
+
+    @Test
+    void unreadableSpillLinesAreSkipped() throws IOException {
+        recordSaves();
+        Files.writeString(spillDir.resolve("audit-spill.jsonl"),
+                objectMapper.writeValueAsString(entry("e1", AuditOperation.CREATE)) + "\n{not json\n");
+
+        ReflectionTestUtils.invokeMethod(writeQueue, "replaySpill");
+
+        assertThat(saved).containsExactly("e1");
+        assertThat(spillDir.resolve("audit-spill.replay.jsonl")).doesNotExist();
+        assertThat(writeQueue.getStatistics()).containsEntry("droppedWrites", 1L);
+    }
+
+    private BlockingQueue<AuditLog> runWithQueue(AuditOverflowPolicy policy, int capacity) {
+        BlockingQueue<AuditLog> queue = new LinkedBlockingQueue<>(capacity);
+        ReflectionTestUtils.setField(writeQueue, "overflowPolicy", policy);
+        ReflectionTestUtils.setField(writeQueue, "queueCapacity", capacity);
+        ReflectionTestUtils.setField(writeQueue, "queue", queue);
+        ReflectionTestUtils.setField(writeQueue, "running", true);
+        return queue;
+    }
+
+    private void recordSaves() {
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> save(invocation.getArgument(0)));
+    }
+
+    private List<AuditLog> save(List<AuditLog> entries) {
+        entries.forEach(entry -> saved.add(entry.getEntityId()));
+        return entries;
+    }
+
+    private void writeSpill(String... entityIds) throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (String entityId : entityIds) {
+            content.append(objectMapper.writeValueAsString(entry(entityId, AuditOperation.CREATE))).append('\n');
+        }
+        Files.writeString(spillDir.resolve("audit-spill.jsonl"), content);
+    }
+
+    private static AuditLog entry(String entityId, AuditOperation operation) {
+        AuditLog entry = new AuditLog();
+        entry.setEntityName("Job");
+        entry.setEntityId(entityId);
+        entry.setOperation(operation);
+        return entry;
+    }
+}